@@ -0,0 +1,100 @@
+package ru.yandex.practicum.benchmarks;
+
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleDictionaryLoader;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// Словари для бенчмарков: настоящий words_ru.txt и синтетические, увеличенные в scale раз.
+// Синтетические слова собираются из букв с той же частотой по позициям, что и в настоящем словаре,
+// поэтому распределение подсказок и размер выборок при поиске остаются правдоподобными.
+final class BenchmarkDictionaries {
+    static final String SOURCE_FILE = "words_ru.txt";
+
+    private static final long SEED = 42;
+    private static final char FIRST_LETTER = 'а';
+    private static final int ALPHABET_SIZE = 32;
+
+    private static List<String> baseWords;
+
+    private BenchmarkDictionaries() {
+    }
+
+    static synchronized List<String> baseWords() {
+        if (baseWords == null) {
+            try {
+                baseWords = new WordleDictionaryLoader(WordleLogger.NONE).loadDictionary(SOURCE_FILE).getAllWords();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Не удалось загрузить " + SOURCE_FILE +
+                        " (бенчмарки запускаются из корня проекта)", e);
+            }
+        }
+        return baseWords;
+    }
+
+    // Все слова настоящего словаря плюс синтетические, всего scale × размер словаря
+    static List<String> scaledWords(int scale) {
+        if (scale < 1) throw new IllegalArgumentException("Масштаб должен быть положительным: " + scale);
+
+        List<String> base = baseWords();
+        int target = base.size() * scale;
+        Set<String> words = new LinkedHashSet<>(base);
+
+        int[][] cumulative = positionalCumulativeCounts(base);
+        Random random = new Random(SEED);
+        char[] letters = new char[WordleGame.WORD_LENGTH];
+        while (words.size() < target) {
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = pickLetter(cumulative[i], random);
+            }
+            words.add(new String(letters));
+        }
+        return new ArrayList<>(words);
+    }
+
+    static WordleDictionary dictionary(int scale) {
+        return new WordleDictionary(scaledWords(scale), WordleLogger.NONE);
+    }
+
+    // Временный файл со словарём заданного масштаба; удаляется вызывающим
+    static Path writeScaledFile(int scale) throws IOException {
+        Path file = Files.createTempFile("wordle-bench-" + scale + "x-", ".txt");
+        Files.write(file, scaledWords(scale), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static int[][] positionalCumulativeCounts(List<String> words) {
+        int[][] cumulative = new int[WordleGame.WORD_LENGTH][ALPHABET_SIZE];
+        for (String word : words) {
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+                cumulative[i][word.charAt(i) - FIRST_LETTER]++;
+            }
+        }
+        for (int[] counts : cumulative) {
+            for (int letter = 1; letter < ALPHABET_SIZE; letter++) {
+                counts[letter] += counts[letter - 1];
+            }
+        }
+        return cumulative;
+    }
+
+    private static char pickLetter(int[] cumulative, Random random) {
+        int value = random.nextInt(cumulative[ALPHABET_SIZE - 1]);
+        int letter = 0;
+        while (cumulative[letter] <= value) {
+            letter++;
+        }
+        return (char) (FIRST_LETTER + letter);
+    }
+}
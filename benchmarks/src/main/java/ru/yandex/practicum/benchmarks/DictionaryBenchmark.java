@@ -0,0 +1,159 @@
+package ru.yandex.practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.practicum.AnswerPool;
+import ru.yandex.practicum.DictionaryDelta;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryBenchmark {
+    private static final int SAMPLE_SIZE = 1024;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private WordleDictionary dictionary;
+    private String[] present;
+    private String[] absent;
+    private int[] packedWords;
+    private byte[] feedbacks;
+    private AnswerPool answers;
+    private DictionaryDelta delta;
+    private int cursor;
+
+    // Ограничения, типичные для середины партии: две известные буквы, три исключённые, одна позиция
+    private final Set<Character> mustContain = Set.of('о', 'р');
+    private final Set<Character> mustNotContain = Set.of('а', 'е', 'т');
+    private final Map<Integer, Character> correctPositions = Map.of(1, 'о');
+    private final Map<Integer, Set<Character>> wrongPositions = Map.of(0, Set.of('р'), 4, Set.of('о'));
+
+    @Setup
+    public void setUp() {
+        dictionary = BenchmarkDictionaries.dictionary(scale);
+
+        packedWords = new int[dictionary.size()];
+        for (int i = 0; i < packedWords.length; i++) {
+            packedWords[i] = dictionary.getPackedWord(i);
+        }
+        feedbacks = new byte[packedWords.length];
+
+        List<String> words = dictionary.getAllWords();
+        Random random = new Random(7);
+        present = new String[SAMPLE_SIZE];
+        absent = new String[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            present[i] = words.get(random.nextInt(words.size()));
+            // Циклический сдвиг слова обычно даёт отсутствующее в словаре сочетание букв
+            String rotated = present[i].substring(1) + present[i].charAt(0);
+            absent[i] = dictionary.contains(rotated) ? "ъъъъъ" : rotated;
+        }
+
+        // Веса по закону Ципфа: частые слова загадываются намного чаще редких
+        double[] weights = new double[words.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1.0 / (i + 1);
+        }
+        answers = new AnswerPool(words, weights);
+
+        // Типичная правка редактора: десяток слов убрать, десяток добавить
+        delta = new DictionaryDelta(Arrays.asList(absent).subList(0, 10), Arrays.asList(present).subList(0, 10));
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SAMPLE_SIZE - 1);
+        return cursor;
+    }
+
+    // Выбор загадываемого слова методом псевдонимов: время не зависит от размера пула
+    @Benchmark
+    public String sampleAnswer() {
+        return answers.sample();
+    }
+
+    // Правка словаря против полной пересборки того же объёма
+    @Benchmark
+    public WordleDictionary applyDelta() {
+        return dictionary.apply(delta);
+    }
+
+    @Benchmark
+    public WordleDictionary rebuildDictionary() {
+        return new WordleDictionary(dictionary.getAllWords(), WordleLogger.NONE);
+    }
+
+    @Benchmark
+    public String analyzeWord() {
+        int i = next();
+        return WordleDictionary.analyzeWord(present[i], present[(i + 1) & (SAMPLE_SIZE - 1)]);
+    }
+
+    // Одна попытка против всего словаря: векторная реализация, если JVM запущена с jdk.incubator.vector
+    @Benchmark
+    public byte[] analyzeBatch() {
+        WordleDictionary.analyzeBatch(packedWords[next()], packedWords, feedbacks);
+        return feedbacks;
+    }
+
+    // То же поэлементно, для сравнения с analyzeBatch
+    @Benchmark
+    public byte[] analyzeLoop() {
+        int guess = packedWords[next()];
+        for (int i = 0; i < packedWords.length; i++) {
+            feedbacks[i] = (byte) WordleDictionary.analyze(packedWords[i], guess);
+        }
+        return feedbacks;
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return dictionary.contains(present[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return dictionary.contains(absent[next()]);
+    }
+
+    @Benchmark
+    public List<String> findSuggestions() {
+        return dictionary.findSuggestions(mustContain, mustNotContain, "_о___");
+    }
+
+    @Benchmark
+    public List<String> findSuggestionsOptimized() {
+        return dictionary.findSuggestionsOptimized(mustContain, mustNotContain, correctPositions, wrongPositions);
+    }
+
+    @Benchmark
+    public Map<Character, Integer> getLetterFrequency() {
+        return dictionary.getLetterFrequency();
+    }
+
+    @Benchmark
+    public List<String> getTopWords() {
+        return dictionary.getTopWords(5);
+    }
+}
@@ -0,0 +1,111 @@
+package ru.yandex.practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.practicum.GameSnapshot;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.exception.InvalidWordException;
+import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// checkWord, getHint, getRankedHints и снимки партии в разных состояниях партии: до первой попытки и после нескольких
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    private static final String ANSWER = "герой";
+    private static final String[] OPENING = {"банан", "слово", "пчела", "гонец"};
+    private static final String NEXT_GUESS = "клоун";
+
+    @State(Scope.Benchmark)
+    public static class Dictionary {
+        @Param({"1", "10", "100"})
+        public int scale;
+
+        WordleDictionary dictionary;
+
+        @Setup
+        public void setUp() {
+            dictionary = BenchmarkDictionaries.dictionary(scale);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Game {
+        @Param({"0", "2", "4"})
+        public int guessesMade;
+
+        WordleGame game;
+        WordleDictionary dictionary;
+        byte[] snapshot;
+
+        @Setup(Level.Trial)
+        public void setUp(Dictionary dictionary) throws InvalidWordException, WordNotFoundInDictionaryException {
+            game = play(dictionary.dictionary, guessesMade);
+            this.dictionary = dictionary.dictionary;
+            snapshot = game.snapshot().toBytes();
+        }
+    }
+
+    // checkWord меняет состояние игры, поэтому партия восстанавливается перед каждым вызовом
+    @State(Scope.Thread)
+    public static class FreshGame extends Game {
+        @Override
+        @Setup(Level.Invocation)
+        public void setUp(Dictionary dictionary) throws InvalidWordException, WordNotFoundInDictionaryException {
+            game = play(dictionary.dictionary, guessesMade);
+        }
+    }
+
+    private static WordleGame play(WordleDictionary dictionary, int guessesMade)
+            throws InvalidWordException, WordNotFoundInDictionaryException {
+        WordleGame game = new WordleGame(dictionary, ANSWER, WordleLogger.NONE);
+        for (int i = 0; i < guessesMade; i++) {
+            game.checkWord(OPENING[i]);
+        }
+        return game;
+    }
+
+    @Benchmark
+    public String checkWord(FreshGame state) throws InvalidWordException, WordNotFoundInDictionaryException {
+        return state.game.checkWord(NEXT_GUESS);
+    }
+
+    @Benchmark
+    public String getHint(Game state) {
+        return state.game.getHint();
+    }
+
+    // Панель "пять лучших вариантов" в интерфейсе
+    @Benchmark
+    public List<String> getRankedHints(Game state) {
+        return state.game.getRankedHints(5);
+    }
+
+    @Benchmark
+    public byte[] snapshot(Game state) {
+        return state.game.snapshot().toBytes();
+    }
+
+    // Восстановление повторяет попытки, поэтому стоит примерно как сами попытки
+    @Benchmark
+    public WordleGame restore(Game state) {
+        return GameSnapshot.fromBytes(state.snapshot).restore(state.dictionary, WordleLogger.NONE);
+    }
+}
@@ -0,0 +1,56 @@
+package ru.yandex.practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleDictionaryLoader;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoaderBenchmark {
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private final WordleDictionaryLoader loader = new WordleDictionaryLoader(WordleLogger.NONE);
+    private Path file;
+    private String filename;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Масштаб 1 — сам words_ru.txt, вместе со строками, которые загрузчик отбрасывает
+        file = scale == 1 ? null : BenchmarkDictionaries.writeScaledFile(scale);
+        filename = file == null ? BenchmarkDictionaries.SOURCE_FILE : file.toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public WordleDictionary loadDictionary() throws IOException {
+        return loader.loadDictionary(filename);
+    }
+}
@@ -0,0 +1,108 @@
+package ru.yandex.practicum.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.exception.InvalidWordException;
+import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.session.GameSessionManager;
+import ru.yandex.practicum.simulation.FrequencyScoredStrategy;
+import ru.yandex.practicum.simulation.GuessStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Партии самостоятельной игры через GameSessionManager: создание, ходы под блокировкой
+// сессии, удаление. Масштабирование по ядрам — запуском с разным числом потоков (-t 1, -t 4 ...),
+// play без менеджера даёт базовую линию.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionBenchmark {
+    private static final GuessStrategy STRATEGY = new FrequencyScoredStrategy();
+
+    @State(Scope.Benchmark)
+    public static class Sessions {
+        @Param({"1"})
+        public int scale;
+
+        // Партий в памяти сверх тех, что играются: нагрузка на таблицу и колесо таймеров
+        @Param({"100000"})
+        public int background;
+
+        WordleDictionary dictionary;
+        GameSessionManager manager;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            dictionary = BenchmarkDictionaries.dictionary(scale);
+            manager = new GameSessionManager(dictionary, WordleLogger.NONE, 30, TimeUnit.MINUTES,
+                    Math.max(1000, background * 2));
+            for (int i = 0; i < background; i++) {
+                manager.create(false);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            manager.close();
+        }
+    }
+
+    @Benchmark
+    public int playThroughManager(Sessions state) throws Exception {
+        GameSessionManager manager = state.manager;
+        long id = manager.register(new WordleGame(state.dictionary, randomAnswer(state.dictionary), WordleLogger.NONE));
+        try {
+            int guesses = 0;
+            while (manager.execute(id, SessionBenchmark::move)) {
+                guesses++;
+            }
+            return guesses;
+        } finally {
+            manager.remove(id);
+        }
+    }
+
+    @Benchmark
+    public int play(Sessions state) throws InvalidWordException, WordNotFoundInDictionaryException {
+        WordleGame game = new WordleGame(state.dictionary, randomAnswer(state.dictionary), WordleLogger.NONE);
+        int guesses = 0;
+        while (move(game)) {
+            guesses++;
+        }
+        return guesses;
+    }
+
+    private static String randomAnswer(WordleDictionary dictionary) {
+        return dictionary.getWord(ThreadLocalRandom.current().nextInt(dictionary.size()));
+    }
+
+    // Один ход стратегии; false — партия окончена
+    private static boolean move(WordleGame game) throws InvalidWordException, WordNotFoundInDictionaryException {
+        if (game.isGameOver()) {
+            return false;
+        }
+        String guess = STRATEGY.nextGuess(game);
+        if (guess == null) {
+            return false;
+        }
+        game.checkWord(guess);
+        return true;
+    }
+}
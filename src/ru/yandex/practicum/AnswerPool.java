@@ -0,0 +1,195 @@
+package ru.yandex.practicum;
+
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+// Слова, которые загадываются, с весами: выбор за O(1) методом псевдонимов (алгоритм Vose).
+// Столбец i выбирается равновероятно, дальше с вероятностью threshold[i] берётся его слово,
+// иначе — слово-псевдоним alias[i]. Обе части получаются из одного случайного числа, без выделения памяти.
+//
+// Файл пула лежит рядом со словарём (words_ru.txt.answers): по строке «слово [вес]», вес по умолчанию 1,
+// '#' начинает комментарий. Слова, которых нет в словаре, и слова с нулевым весом не загадываются.
+public final class AnswerPool {
+    public static final String FILE_EXTENSION = ".answers";
+
+    private final String[] words;
+    private final double[] weights;
+    private final double[] threshold;
+    private final int[] alias;
+
+    public AnswerPool(List<String> words, double[] weights) {
+        if (words == null) throw new IllegalArgumentException("Список слов не может быть null");
+        if (weights == null) throw new IllegalArgumentException("Веса не могут быть null");
+        if (words.size() != weights.length) {
+            throw new IllegalArgumentException("Число весов (" + weights.length + ") не совпадает с числом слов (" +
+                    words.size() + ")");
+        }
+        if (words.isEmpty()) throw new IllegalArgumentException("Пул загадываемых слов пуст");
+
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (words.get(i) == null) throw new IllegalArgumentException("Слово не может быть null");
+            if (!(weights[i] > 0) || Double.isInfinite(weights[i])) {
+                throw new IllegalArgumentException("Вес слова " + words.get(i) + " должен быть положительным: " +
+                        weights[i]);
+            }
+            total += weights[i];
+        }
+        if (Double.isInfinite(total)) throw new IllegalArgumentException("Сумма весов слишком велика");
+
+        this.words = words.toArray(new String[0]);
+        this.weights = weights.clone();
+        this.threshold = new double[weights.length];
+        this.alias = new int[weights.length];
+        buildAliasTable(total);
+    }
+
+    // Vose: столбцы с долей меньше средней дополняются из столбцов с долей больше средней
+    private void buildAliasTable(double total) {
+        int n = weights.length;
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            threshold[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Оставшиеся столбцы заполнены целиком; для малых это погрешность округления
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            threshold[i] = 1;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            threshold[i] = 1;
+            alias[i] = i;
+        }
+    }
+
+    // ThreadLocalRandom хранит состояние в самом потоке: ни синхронизации, ни выделения памяти
+    // на каждый новый (в том числе виртуальный) поток
+    public String sample() {
+        return sample(ThreadLocalRandom.current());
+    }
+
+    public String sample(RandomGenerator random) {
+        double x = random.nextDouble() * threshold.length;
+        // Округление произведения может дать ровно length
+        int column = Math.min((int) x, threshold.length - 1);
+        return x - column < threshold[column] ? words[column] : words[alias[column]];
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public String getWord(int index) {
+        return words[index];
+    }
+
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    public static Path answersFileFor(Path source) {
+        return source.resolveSibling(source.getFileName() + FILE_EXTENSION);
+    }
+
+    // Пул из файла; слова приводятся к словарному написанию, слова вне словаря пропускаются
+    public static AnswerPool load(Path file, WordleDictionary dictionary, WordleLogger log) throws IOException {
+        if (dictionary == null) throw new IllegalArgumentException("Словарь не может быть null");
+        log = log.forComponent("Answers");
+
+        List<String> words = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int unknown = 0;
+        int duplicates = 0;
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (content.isEmpty()) continue;
+
+                String[] fields = content.split("\\s+");
+                if (fields.length > 2) {
+                    throw new IOException("Строка " + lineNumber + " файла " + file + ": ожидается «слово [вес]»");
+                }
+                double weight = 1;
+                if (fields.length == 2) {
+                    try {
+                        weight = Double.parseDouble(fields[1]);
+                    } catch (NumberFormatException e) {
+                        throw new IOException("Строка " + lineNumber + " файла " + file + ": некорректный вес " +
+                                fields[1]);
+                    }
+                    if (!(weight >= 0) || Double.isInfinite(weight)) {
+                        throw new IOException("Строка " + lineNumber + " файла " + file +
+                                ": вес должен быть неотрицательным: " + fields[1]);
+                    }
+                }
+
+                int index = dictionary.indexOf(fields[0]);
+                if (index < 0) {
+                    unknown++;
+                    String word = fields[0];
+                    log.debug(() -> "  Нет в словаре: " + word);
+                    continue;
+                }
+                String word = dictionary.getWord(index);
+                if (!seen.add(word)) {
+                    duplicates++;
+                    continue;
+                }
+                if (weight > 0) {
+                    words.add(word);
+                    weights.add(weight);
+                }
+            }
+        }
+
+        if (unknown > 0 || duplicates > 0) {
+            log.warn("Пропущено слов вне словаря: " + unknown + ", повторов: " + duplicates + " (" + file + ")");
+        }
+        if (words.isEmpty()) {
+            throw new IOException("Файл " + file + " не содержит ни одного загадываемого слова из словаря");
+        }
+        log.info("Пул загадываемых слов: " + words.size() + " из " + file);
+        return new AnswerPool(words, weights.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+}
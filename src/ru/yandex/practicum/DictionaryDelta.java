@@ -0,0 +1,100 @@
+package ru.yandex.practicum;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Правка словаря: слова, которые нужно добавить и убрать. Применяется через WordleDictionary.apply.
+// Добавление уже имеющегося слова и удаление отсутствующего ничего не меняют, поэтому одну и ту же
+// правку можно применить повторно.
+//
+// Файл правки: по строке «+слово» или «-слово», пробелы после знака допускаются, '#' начинает комментарий.
+public final class DictionaryDelta {
+    private final List<String> added;
+    private final List<String> removed;
+
+    public DictionaryDelta(Collection<String> added, Collection<String> removed) {
+        if (added == null || removed == null) {
+            throw new IllegalArgumentException("Списки слов правки не могут быть null");
+        }
+
+        this.added = normalize(added);
+        this.removed = normalize(removed);
+        for (String word : this.added) {
+            if (this.removed.contains(word)) {
+                throw new IllegalArgumentException("Слово одновременно добавляется и удаляется: " + word);
+            }
+        }
+    }
+
+    public static DictionaryDelta parse(Path file) throws IOException {
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (content.isEmpty()) continue;
+
+                char sign = content.charAt(0);
+                if (sign != '+' && sign != '-') {
+                    throw new IOException("Строка " + lineNumber + " файла " + file +
+                            ": ожидается «+слово» или «-слово»");
+                }
+                String word = content.substring(1).trim();
+                if (WordCodec.encode(WordleDictionary.normalizeWord(word)) == WordCodec.INVALID) {
+                    throw new IOException("Строка " + lineNumber + " файла " + file + ": некорректное слово «" +
+                            word + "»");
+                }
+                (sign == '+' ? added : removed).add(word);
+            }
+        }
+
+        try {
+            return new DictionaryDelta(added, removed);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Нормализованные слова без повторов, в порядке правки
+    public List<String> getAdded() {
+        return added;
+    }
+
+    public List<String> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "+" + added.size() + " -" + removed.size();
+    }
+
+    private static List<String> normalize(Collection<String> words) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String word : words) {
+            String normalized = WordleDictionary.normalizeWord(word);
+            if (WordCodec.encode(normalized) == WordCodec.INVALID) {
+                throw new IllegalArgumentException("Некорректное слово в правке: " + word);
+            }
+            result.add(normalized);
+        }
+        return Collections.unmodifiableList(new ArrayList<>(result));
+    }
+}
@@ -0,0 +1,207 @@
+package ru.yandex.practicum;
+
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.WordleMetrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Общие для всех игр словари: каждый файл загружается один раз, а при его изменении
+// новая версия собирается в фоне и подменяет старую атомарно. Игры держат ссылку на свой
+// экземпляр WordleDictionary, поэтому уже начатые партии доигрываются на старой версии.
+public class DictionaryRegistry implements Closeable {
+    // Редакторы пишут файл в несколько приёмов: ждём, пока события затихнут
+    private static final long RELOAD_DELAY_MILLIS = 200;
+
+    private final WordleDictionaryLoader loader;
+    private final WordleLogger log;
+    private final ConcurrentMap<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+    private final ExecutorService reloader;
+    private final WatchService watchService;
+    private final Thread watcher;
+
+    private static final class Entry {
+        final Path path;
+        final AtomicLong version = new AtomicLong();
+        final AtomicLong failedReloads = new AtomicLong();
+        final AtomicBoolean reloadScheduled = new AtomicBoolean();
+        volatile WordleDictionary dictionary;
+
+        Entry(Path path) {
+            this.path = path;
+        }
+    }
+
+    public DictionaryRegistry(WordleLogger log) throws IOException {
+        if (log == null) throw new IllegalArgumentException("Логгер не может быть null");
+
+        this.loader = new WordleDictionaryLoader(log);
+        this.log = log.forComponent("Registry");
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.reloader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wordle-dictionary-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watcher = new Thread(this::watchLoop, "wordle-dictionary-watcher");
+        this.watcher.setDaemon(true);
+        this.watcher.start();
+    }
+
+    // Текущая версия словаря; первый вызов для файла загружает его и начинает следить за изменениями
+    public WordleDictionary get(String filename) throws IOException {
+        Entry entry = entries.computeIfAbsent(normalize(filename), Entry::new);
+
+        WordleDictionary dictionary = entry.dictionary;
+        if (dictionary != null) {
+            return dictionary;
+        }
+
+        synchronized (entry) {
+            if (entry.dictionary == null) {
+                watch(entry.path.getParent());
+                entry.dictionary = loader.loadCompiled(entry.path.toString());
+                entry.version.incrementAndGet();
+                log.info("Словарь зарегистрирован: " + entry.path);
+            }
+            return entry.dictionary;
+        }
+    }
+
+    // Применяет правку к текущей версии и публикует результат как следующую версию. Правка живёт
+    // только в памяти: если затем изменится сам файл, словарь перечитается из него целиком.
+    public WordleDictionary apply(String filename, DictionaryDelta delta) throws IOException {
+        if (delta == null) throw new IllegalArgumentException("Правка не может быть null");
+
+        get(filename);
+        Entry entry = entries.get(normalize(filename));
+        synchronized (entry) {
+            WordleDictionary current = entry.dictionary;
+            WordleDictionary updated = current.apply(delta);
+            if (updated != current) {
+                entry.dictionary = updated;
+                entry.version.incrementAndGet();
+                WordleMetrics.DICTIONARY_SIZE.set(updated.size());
+                log.info("Правка применена к словарю " + entry.path + " (версия " + entry.version.get() +
+                        ", " + delta + ", слов: " + updated.size() + ")");
+            }
+            return updated;
+        }
+    }
+
+    public WordleDictionary applyPatch(String filename, Path patchFile) throws IOException {
+        return apply(filename, DictionaryDelta.parse(patchFile));
+    }
+
+    // Номер версии словаря: растёт на единицу при каждой успешной перезагрузке, 0 — ещё не загружен
+    public long getVersion(String filename) {
+        Entry entry = entries.get(normalize(filename));
+        return entry == null ? 0 : entry.version.get();
+    }
+
+    // Неудачные перезагрузки словаря после изменения файла; версия при них не меняется
+    public long getFailedReloadCount(String filename) {
+        Entry entry = entries.get(normalize(filename));
+        return entry == null ? 0 : entry.failedReloads.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        reloader.shutdownNow();
+        try {
+            watcher.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Path normalize(String filename) {
+        return Paths.get(filename).toAbsolutePath().normalize();
+    }
+
+    // Изменение пула загадываемых слов перезагружает словарь, к которому он относится
+    private static Path dictionaryFileFor(Path name) {
+        String fileName = name.toString();
+        if (fileName.endsWith(AnswerPool.FILE_EXTENSION) && fileName.length() > AnswerPool.FILE_EXTENSION.length()) {
+            return Paths.get(fileName.substring(0, fileName.length() - AnswerPool.FILE_EXTENSION.length()));
+        }
+        return name;
+    }
+
+    private void watch(Path directory) throws IOException {
+        if (watchedDirectories.add(directory)) {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+    }
+
+    private void watchLoop() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.context() instanceof Path name) {
+                    Entry entry = entries.get(directory.resolve(dictionaryFileFor(name)));
+                    if (entry != null && entry.dictionary != null) {
+                        scheduleReload(entry);
+                    }
+                }
+            }
+            key.reset();
+        }
+    }
+
+    private void scheduleReload(Entry entry) {
+        if (!entry.reloadScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        reloader.execute(() -> {
+            try {
+                Thread.sleep(RELOAD_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            entry.reloadScheduled.set(false);
+
+            try {
+                WordleDictionary reloaded = loader.loadCompiled(entry.path.toString());
+                synchronized (entry) {
+                    entry.dictionary = reloaded;
+                    entry.version.incrementAndGet();
+                }
+                log.info("Словарь перезагружен: " + entry.path + " (версия " + entry.version.get() +
+                        ", слов: " + reloaded.size() + ")");
+            } catch (IOException | RuntimeException e) {
+                // Недописанный или испорченный файл: остаёмся на предыдущей версии
+                entry.failedReloads.incrementAndGet();
+                log.warn("Не удалось перезагрузить словарь " + entry.path + ": " + e.getMessage());
+            }
+        });
+    }
+}
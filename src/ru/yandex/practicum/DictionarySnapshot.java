@@ -0,0 +1,169 @@
+package ru.yandex.practicum;
+
+import ru.yandex.practicum.log.LogLevel;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.log.WriterLogSink;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+// Скомпилированный словарь: упакованные слова, частоты букв и контрольная сумма исходного файла.
+// Снимок отображается в память и превращается в WordleDictionary без разбора текста.
+//
+// Формат (big-endian): magic, версия, длина слова, размер, время изменения и CRC32 исходного файла,
+// число слов, контрольная сумма словаря, затем int[N] слов и int[5 × 32] частот букв по позициям.
+//
+// Исходный файл считается неизменным, если совпали размер и время изменения; CRC32 всего файла
+// пересчитывается, только если время изменилось или слишком близко ко времени записи снимка.
+public final class DictionarySnapshot {
+    public static final String FILE_EXTENSION = ".wdx";
+
+    private static final int MAGIC = 0x57444C58; // "WDLX"
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 48;
+    // Правка в пределах точности времени файловой системы не меняет время изменения:
+    // такому времени не доверяем и сверяем CRC32
+    private static final long RACY_MARGIN_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final int POSITIONAL_COUNTS = WordleGame.WORD_LENGTH * WordCodec.ALPHABET_SIZE;
+
+    // Размер, время изменения и CRC32 исходного файла. Снимаются до разбора файла: если после разбора
+    // размер или время уже другие, файл менялся во время чтения и записывать снимок нельзя
+    public record SourceStamp(long size, long modifiedNanos, long checksum) {
+        public static SourceStamp of(Path source) throws IOException {
+            long size = Files.size(source);
+            long modified = DictionarySnapshot.modifiedNanos(source);
+            return new SourceStamp(size, modified, checksumOf(source));
+        }
+
+        public boolean isCurrent(Path source) throws IOException {
+            return Files.isRegularFile(source) && Files.size(source) == size &&
+                    DictionarySnapshot.modifiedNanos(source) == modifiedNanos;
+        }
+    }
+
+    private DictionarySnapshot() {
+    }
+
+    public static Path snapshotFileFor(Path source) {
+        return source.resolveSibling(source.getFileName() + FILE_EXTENSION);
+    }
+
+    // stamp должен быть снят с исходного файла до его разбора в dictionary
+    public static void compile(WordleDictionary dictionary, SourceStamp stamp, Path snapshot) throws IOException {
+        int n = dictionary.size();
+        int[] positionalCounts = dictionary.positionalCounts();
+        long length = HEADER_SIZE + (long) (n + positionalCounts.length) * Integer.BYTES;
+
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.order(ByteOrder.BIG_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(WordleGame.WORD_LENGTH)
+                    .putLong(stamp.size())
+                    .putLong(stamp.modifiedNanos())
+                    .putLong(stamp.checksum())
+                    .putInt(n)
+                    .putLong(dictionary.getChecksum());
+            for (int i = 0; i < n; i++) {
+                buffer.putInt(dictionary.getPackedWord(i));
+            }
+            for (int count : positionalCounts) {
+                buffer.putInt(count);
+            }
+            buffer.force();
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Словарь из снимка или null, если снимка нет, он повреждён или устарел относительно source
+    public static WordleDictionary open(Path snapshot, Path source, WordleLogger log) throws IOException {
+        if (!Files.isRegularFile(snapshot) || Files.size(snapshot) < HEADER_SIZE) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != WordleGame.WORD_LENGTH) {
+                return null;
+            }
+
+            long sourceSize = buffer.getLong();
+            long sourceModified = buffer.getLong();
+            long sourceChecksum = buffer.getLong();
+            if (!Files.isRegularFile(source) || Files.size(source) != sourceSize) {
+                return null;
+            }
+            boolean unchanged = modifiedNanos(source) == sourceModified &&
+                    sourceModified + RACY_MARGIN_NANOS <= modifiedNanos(snapshot);
+            if (!unchanged && checksumOf(source) != sourceChecksum) {
+                return null;
+            }
+
+            int n = buffer.getInt();
+            long dictionaryChecksum = buffer.getLong();
+            if (n < 0 || buffer.remaining() != (long) (n + POSITIONAL_COUNTS) * Integer.BYTES) {
+                return null;
+            }
+
+            int[] packedWords = new int[n];
+            int[] positionalCounts = new int[POSITIONAL_COUNTS];
+            buffer.asIntBuffer().get(packedWords).get(positionalCounts);
+
+            WordleDictionary dictionary = new WordleDictionary(packedWords, positionalCounts, log);
+            return dictionary.getChecksum() == dictionaryChecksum ? dictionary : null;
+        }
+    }
+
+    // Компиляция снимка: java ru.yandex.practicum.DictionarySnapshot [файл словаря]
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : "words_ru.txt");
+        Path snapshot = snapshotFileFor(source);
+
+        PrintWriter console = new PrintWriter(System.out, true, StandardCharsets.UTF_8);
+        WordleLogger log = new WordleLogger(new WriterLogSink(console), LogLevel.INFO);
+        SourceStamp stamp = SourceStamp.of(source);
+        WordleDictionary dictionary = new WordleDictionaryLoader(log).loadDictionary(source.toString());
+        if (!stamp.isCurrent(source)) {
+            throw new IOException("Файл словаря изменился во время чтения: " + source.toAbsolutePath());
+        }
+        compile(dictionary, stamp, snapshot);
+
+        console.println("Снимок словаря записан: " + snapshot.toAbsolutePath() + " (" + dictionary.size() + " слов)");
+    }
+
+    private static long modifiedNanos(Path file) throws IOException {
+        return Files.getLastModifiedTime(file).to(TimeUnit.NANOSECONDS);
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long chunk = Math.min(size - position, Integer.MAX_VALUE);
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, chunk);
+                crc.update(buffer);
+                position += chunk;
+            }
+        }
+        return crc.getValue();
+    }
+}
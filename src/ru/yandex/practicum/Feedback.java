@@ -0,0 +1,59 @@
+package ru.yandex.practicum;
+
+// Результат сравнения слов как число в троичной системе от 0 до 242.
+// Позиция 0 — старший разряд; цифры: 0 — '-', 1 — '^', 2 — '+'.
+public final class Feedback {
+    public static final int PATTERN_COUNT = 243;
+    public static final int ALL_CORRECT = PATTERN_COUNT - 1;
+
+    public static final int ABSENT = 0;
+    public static final int PRESENT = 1;
+    public static final int CORRECT = 2;
+
+    private static final char[] SYMBOLS = {'-', '^', '+'};
+    private static final int[] POWERS = {81, 27, 9, 3, 1};
+    private static final String[] PATTERNS = new String[PATTERN_COUNT];
+
+    static {
+        for (int code = 0; code < PATTERN_COUNT; code++) {
+            char[] chars = new char[WordleGame.WORD_LENGTH];
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+                chars[i] = SYMBOLS[digitAt(code, i)];
+            }
+            PATTERNS[code] = new String(chars);
+        }
+    }
+
+    private Feedback() {
+    }
+
+    public static int digitAt(int code, int position) {
+        return code / POWERS[position] % 3;
+    }
+
+    // Строки шаблонов заранее созданы, поэтому преобразование не выделяет память
+    public static String toPattern(int code) {
+        if (code < 0 || code >= PATTERN_COUNT) {
+            throw new IllegalArgumentException("Некорректный код подсказки: " + code);
+        }
+        return PATTERNS[code];
+    }
+
+    public static int fromPattern(CharSequence pattern) {
+        if (pattern == null || pattern.length() != WordleGame.WORD_LENGTH) {
+            throw new IllegalArgumentException("Шаблон должен состоять из " + WordleGame.WORD_LENGTH + " символов");
+        }
+
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            int digit = switch (pattern.charAt(i)) {
+                case '-' -> ABSENT;
+                case '^' -> PRESENT;
+                case '+' -> CORRECT;
+                default -> throw new IllegalArgumentException("Недопустимый символ шаблона: " + pattern);
+            };
+            code = code * 3 + digit;
+        }
+        return code;
+    }
+}
@@ -0,0 +1,44 @@
+package ru.yandex.practicum;
+
+// Пакетное вычисление подсказок: одна попытка против массива упакованных слов.
+// Реализация выбирается при запуске: векторная, если JVM запущена с модулем
+// jdk.incubator.vector (--add-modules jdk.incubator.vector), иначе скалярная.
+interface FeedbackKernel {
+    // Отключает векторную реализацию: -Dwordle.simd=false
+    String SIMD_PROPERTY = "wordle.simd";
+
+    FeedbackKernel SCALAR = (guess, secrets, count, out) -> {
+        for (int i = 0; i < count; i++) {
+            out[i] = (byte) WordleDictionary.analyze(secrets[i], guess);
+        }
+    };
+
+    FeedbackKernel DEFAULT = select();
+
+    // out[i] = analyze(secrets[i], guess) для i < count
+    void analyze(int guess, int[] secrets, int count, byte[] out);
+
+    // Векторная реализация или null, если недоступен модуль или сам класс: он собирается
+    // отдельно из vector/src и может отсутствовать в classpath
+    static FeedbackKernel vector() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            // Через рефлексию, чтобы без модуля класс с векторным кодом даже не загружался
+            return (FeedbackKernel) Class.forName("ru.yandex.practicum.VectorFeedbackKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static FeedbackKernel select() {
+        if (!Boolean.parseBoolean(System.getProperty(SIMD_PROPERTY, "true"))) {
+            return SCALAR;
+        }
+        FeedbackKernel vector = vector();
+        return vector != null ? vector : SCALAR;
+    }
+}
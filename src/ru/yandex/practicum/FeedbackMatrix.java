@@ -0,0 +1,122 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+// Таблица N×N кодов Feedback: строка — попытка, столбец — загаданное слово.
+// Хранится вне кучи: в direct-буфере или в отображённом в память файле рядом со словарём.
+public final class FeedbackMatrix {
+    public static final String FILE_EXTENSION = ".fbm";
+    // Больше не помещается в один ByteBuffer
+    public static final int MAX_SIZE = 46_340;
+
+    private static final int MAGIC = 0x57464D58; // "WFMX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+
+    private final int size;
+    private final long checksum;
+    private final ByteBuffer data;
+
+    private FeedbackMatrix(int size, long checksum, ByteBuffer data) {
+        this.size = size;
+        this.checksum = checksum;
+        this.data = data;
+    }
+
+    public static FeedbackMatrix build(WordleDictionary dictionary) {
+        int n = checkSize(dictionary);
+        ByteBuffer data = ByteBuffer.allocateDirect(n * n);
+        fill(dictionary, data, 0);
+        return new FeedbackMatrix(n, dictionary.getChecksum(), data);
+    }
+
+    // Отображает кэш-файл, если он построен для этого же списка слов, иначе пересобирает его
+    public static FeedbackMatrix load(WordleDictionary dictionary, Path file) throws IOException {
+        int n = checkSize(dictionary);
+        long expectedLength = HEADER_SIZE + (long) n * n;
+
+        if (Files.isRegularFile(file) && Files.size(file) == expectedLength) {
+            FeedbackMatrix cached = map(file, n);
+            if (cached != null && cached.checksum == dictionary.getChecksum()) {
+                return cached;
+            }
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, expectedLength);
+            fill(dictionary, buffer, HEADER_SIZE);
+            buffer.order(ByteOrder.BIG_ENDIAN)
+                    .putInt(0, MAGIC)
+                    .putInt(4, VERSION)
+                    .putInt(8, n)
+                    .putInt(12, WordleGame.WORD_LENGTH)
+                    .putLong(16, dictionary.getChecksum());
+            buffer.force();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return map(file, n);
+    }
+
+    public static Path cacheFileFor(Path dictionaryFile) {
+        return dictionaryFile.resolveSibling(dictionaryFile.getFileName() + FILE_EXTENSION);
+    }
+
+    public int feedback(int guessIndex, int secretIndex) {
+        return data.get(guessIndex * size + secretIndex) & 0xFF;
+    }
+
+    // Копирует строку попытки целиком: для массовых проходов это дешевле поэлементного чтения
+    public void copyRow(int guessIndex, byte[] target) {
+        data.get(guessIndex * size, target, 0, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    private static int checkSize(WordleDictionary dictionary) {
+        int n = dictionary.size();
+        if (n > MAX_SIZE) {
+            throw new IllegalArgumentException("Словарь слишком велик для матрицы подсказок: " + n +
+                    " слов (максимум " + MAX_SIZE + ")");
+        }
+        return n;
+    }
+
+    private static void fill(WordleDictionary dictionary, ByteBuffer target, int offset) {
+        int n = dictionary.size();
+        IntStream.range(0, n).parallel().forEach(guessIndex -> {
+            byte[] row = new byte[n];
+            WordleDictionary.analyzeBatch(dictionary.getPackedWord(guessIndex), dictionary.packedWords(), row);
+            target.put(offset + guessIndex * n, row);
+        });
+    }
+
+    private static FeedbackMatrix map(Path file, int n) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != n
+                    || buffer.getInt(12) != WordleGame.WORD_LENGTH) {
+                return null;
+            }
+            return new FeedbackMatrix(n, buffer.getLong(16), buffer.slice(HEADER_SIZE, n * n));
+        }
+    }
+}
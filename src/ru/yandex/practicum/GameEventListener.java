@@ -0,0 +1,21 @@
+package ru.yandex.practicum;
+
+// Наблюдатель за ходом партии, например журнал событий. Вызывается в потоке, который
+// делает ход, после того как состояние игры уже обновлено; исключение наблюдателя
+// записывается в лог и ход не отменяет.
+public interface GameEventListener {
+    GameEventListener NONE = new GameEventListener() {
+    };
+
+    // guess — упакованное слово (WordCodec), feedback — код подсказки (Feedback)
+    default void guessAccepted(WordleGame game, int guess, int feedback) {
+    }
+
+    // hint — выданное слово или null, если подсказать нечего
+    default void hintGiven(WordleGame game, String hint) {
+    }
+
+    // Слово угадано или попытки закончились
+    default void gameEnded(WordleGame game) {
+    }
+}
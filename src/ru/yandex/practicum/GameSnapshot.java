@@ -0,0 +1,166 @@
+package ru.yandex.practicum;
+
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Состояние партии в SIZE байтах, для приостановки и продолжения (в том числе после перезапуска):
+//   версия (1) | флаги и число попыток (1) | контрольная сумма словаря (8) | номер ответа (4)
+//   | попытки, упакованные WordCodec (6 × 4) | коды подсказок (6 × 1)
+// Флаги: старший бит — сложный режим, младшие три бита — число сделанных попыток.
+// Всё остальное (ограничения, кандидаты) восстанавливается из попыток.
+public final class GameSnapshot {
+    public static final int SIZE = 44;
+
+    private static final byte VERSION = 1;
+    private static final int HARD_MODE_BIT = 0x80;
+    private static final int COUNT_MASK = 0x07;
+
+    private final long dictionaryChecksum;
+    private final int answerIndex;
+    private final boolean hardMode;
+    private final int[] guesses;
+    private final byte[] feedbacks;
+
+    GameSnapshot(long dictionaryChecksum, int answerIndex, boolean hardMode, int[] guesses, int[] feedbacks) {
+        if (answerIndex < 0) throw new IllegalArgumentException("Некорректный номер ответа: " + answerIndex);
+        if (guesses.length > WordleGame.MAX_ATTEMPTS || guesses.length != feedbacks.length) {
+            throw new IllegalArgumentException("Некорректное число попыток: " + guesses.length);
+        }
+
+        this.dictionaryChecksum = dictionaryChecksum;
+        this.answerIndex = answerIndex;
+        this.hardMode = hardMode;
+        this.guesses = guesses.clone();
+        this.feedbacks = new byte[feedbacks.length];
+        for (int i = 0; i < feedbacks.length; i++) {
+            if (feedbacks[i] < 0 || feedbacks[i] >= Feedback.PATTERN_COUNT) {
+                throw new IllegalArgumentException("Некорректный код подсказки: " + feedbacks[i]);
+            }
+            this.feedbacks[i] = (byte) feedbacks[i];
+        }
+    }
+
+    public static GameSnapshot of(WordleGame game) {
+        return game.snapshot();
+    }
+
+    // Партия в том же состоянии. Снимок должен быть сделан с этой же версией словаря.
+    public WordleGame restore(WordleDictionary dictionary, WordleLogger log) {
+        if (dictionary == null) throw new IllegalArgumentException("Словарь не может быть null");
+        if (log == null) throw new IllegalArgumentException("Логгер не может быть null");
+        if (dictionary.getChecksum() != dictionaryChecksum) {
+            throw new IllegalArgumentException("Снимок сделан для другой версии словаря");
+        }
+        if (answerIndex >= dictionary.size()) {
+            throw new IllegalArgumentException("Некорректный номер ответа: " + answerIndex);
+        }
+
+        int answer = dictionary.getPackedWord(answerIndex);
+        for (int i = 0; i < guesses.length; i++) {
+            if (dictionary.indexOfPacked(guesses[i]) < 0
+                    || WordleDictionary.analyze(answer, guesses[i]) != getFeedback(i)) {
+                throw new IllegalArgumentException("Снимок повреждён: попытка " + (i + 1) + " не согласуется с ответом");
+            }
+        }
+        return new WordleGame(dictionary, this, log);
+    }
+
+    public long getDictionaryChecksum() {
+        return dictionaryChecksum;
+    }
+
+    public int getAnswerIndex() {
+        return answerIndex;
+    }
+
+    public boolean isHardMode() {
+        return hardMode;
+    }
+
+    public int getGuessCount() {
+        return guesses.length;
+    }
+
+    public int getAttemptsRemaining() {
+        return WordleGame.MAX_ATTEMPTS - guesses.length;
+    }
+
+    // Упакованное слово i-й попытки
+    public int getGuess(int i) {
+        return guesses[i];
+    }
+
+    public int getFeedback(int i) {
+        return feedbacks[i] & 0xFF;
+    }
+
+    // Записывает SIZE байт с позиции offset, позиция буфера не меняется
+    public void writeTo(ByteBuffer buffer, int offset) {
+        buffer.put(offset, VERSION);
+        buffer.put(offset + 1, (byte) ((hardMode ? HARD_MODE_BIT : 0) | guesses.length));
+        buffer.putLong(offset + 2, dictionaryChecksum);
+        buffer.putInt(offset + 10, answerIndex);
+        for (int i = 0; i < WordleGame.MAX_ATTEMPTS; i++) {
+            buffer.putInt(offset + 14 + 4 * i, i < guesses.length ? guesses[i] : 0);
+            buffer.put(offset + 38 + i, i < guesses.length ? feedbacks[i] : 0);
+        }
+    }
+
+    public static GameSnapshot readFrom(ByteBuffer buffer, int offset) {
+        byte version = buffer.get(offset);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Неподдерживаемая версия снимка: " + version);
+        }
+        int flags = buffer.get(offset + 1) & 0xFF;
+        int count = flags & COUNT_MASK;
+        if (count > WordleGame.MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("Некорректное число попыток в снимке: " + count);
+        }
+
+        int[] guesses = new int[count];
+        int[] feedbacks = new int[count];
+        for (int i = 0; i < count; i++) {
+            guesses[i] = buffer.getInt(offset + 14 + 4 * i);
+            feedbacks[i] = buffer.get(offset + 38 + i) & 0xFF;
+        }
+        return new GameSnapshot(buffer.getLong(offset + 2), buffer.getInt(offset + 10),
+                (flags & HARD_MODE_BIT) != 0, guesses, feedbacks);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[SIZE];
+        writeTo(ByteBuffer.wrap(bytes), 0);
+        return bytes;
+    }
+
+    public static GameSnapshot fromBytes(byte[] bytes) {
+        if (bytes.length != SIZE) {
+            throw new IllegalArgumentException("Снимок должен занимать " + SIZE + " байта, получено: " + bytes.length);
+        }
+        return readFrom(ByteBuffer.wrap(bytes), 0);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GameSnapshot other)) return false;
+        return dictionaryChecksum == other.dictionaryChecksum
+                && answerIndex == other.answerIndex
+                && hardMode == other.hardMode
+                && Arrays.equals(guesses, other.guesses)
+                && Arrays.equals(feedbacks, other.feedbacks);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(dictionaryChecksum) + answerIndex) + Arrays.hashCode(guesses);
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot{answerIndex=" + answerIndex + ", guesses=" + guesses.length +
+                (hardMode ? ", hardMode" : "") + "}";
+    }
+}
@@ -0,0 +1,67 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+// Способ ранжировать слова-кандидаты для подсказок. prepare вызывается один раз на запрос
+// и возвращает оценку для номера слова словаря: чем больше, тем выше слово в списке.
+// Равные оценки упорядочиваются по номеру слова.
+@FunctionalInterface
+public interface HintScorer {
+    // Частота букв среди оставшихся кандидатов, в том числе на тех же позициях (как scoreWord)
+    HintScorer POSITIONAL_FREQUENCY = (dictionary, candidates, count) -> {
+        if (count == dictionary.size()) {
+            return index -> dictionary.scoreWord(dictionary.getPackedWord(index));
+        }
+        LetterFrequency frequency = LetterFrequency.of(packedWords(dictionary, candidates, count), count);
+        return index -> frequency.score(dictionary.getPackedWord(index));
+    };
+
+    // Число различных букв: такое слово проверяет больше букв за одну попытку
+    HintScorer DISTINCT_LETTERS = (dictionary, candidates, count) ->
+            index -> Integer.bitCount(letterMask(dictionary.getPackedWord(index)));
+
+    // Сколько кандидатов в среднем останется после такой попытки (меньше — лучше).
+    // Требует сравнения каждого кандидата с каждым: O(count²), для первого хода это десятки миллисекунд.
+    HintScorer EXPECTED_REMAINING = HintScorer::expectedRemaining;
+
+    // candidates — номера слов словаря, значимы первые count элементов
+    IntToLongFunction prepare(WordleDictionary dictionary, int[] candidates, int count);
+
+    private static IntToLongFunction expectedRemaining(WordleDictionary dictionary, int[] candidates, int count) {
+        int[] words = packedWords(dictionary, candidates, count);
+        byte[] feedbacks = new byte[count];
+        int[] groups = new int[Feedback.PATTERN_COUNT];
+
+        // Среднее число оставшихся равно Σ n² / count по группам одинаковых подсказок;
+        // count одинаков для всех слов, поэтому сравнивается только Σ n²
+        return index -> {
+            WordleDictionary.analyzeBatch(dictionary.getPackedWord(index), words, count, feedbacks);
+            Arrays.fill(groups, 0);
+            for (int i = 0; i < count; i++) {
+                groups[feedbacks[i] & 0xFF]++;
+            }
+            long sumOfSquares = 0;
+            for (int n : groups) {
+                sumOfSquares += (long) n * n;
+            }
+            return -sumOfSquares;
+        };
+    }
+
+    private static int[] packedWords(WordleDictionary dictionary, int[] candidates, int count) {
+        int[] words = new int[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = dictionary.getPackedWord(candidates[i]);
+        }
+        return words;
+    }
+
+    private static int letterMask(int word) {
+        int mask = 0;
+        for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+            mask |= 1 << WordCodec.letterAt(word, pos);
+        }
+        return mask;
+    }
+}
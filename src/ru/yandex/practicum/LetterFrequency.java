@@ -0,0 +1,124 @@
+package ru.yandex.practicum;
+
+import java.util.stream.IntStream;
+
+// Частоты букв словаря: общее число вхождений каждой буквы и число вхождений в каждой позиции.
+// Считается один раз при создании словаря; большие словари обрабатываются параллельно кусками.
+final class LetterFrequency {
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private final int[] counts;
+    // positional[pos * ALPHABET_SIZE + letter]
+    private final int[] positional;
+
+    private LetterFrequency(int[] positional) {
+        this.positional = positional;
+        this.counts = new int[WordCodec.ALPHABET_SIZE];
+        for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+            for (int letter = 0; letter < WordCodec.ALPHABET_SIZE; letter++) {
+                counts[letter] += positional[pos * WordCodec.ALPHABET_SIZE + letter];
+            }
+        }
+    }
+
+    static LetterFrequency of(int[] packedWords) {
+        return of(packedWords, packedWords.length);
+    }
+
+    // Частоты первых count слов массива
+    static LetterFrequency of(int[] packedWords, int count) {
+        if (count < PARALLEL_THRESHOLD) {
+            return new LetterFrequency(count(packedWords, 0, count));
+        }
+
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        int[] positional = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> count(packedWords, chunk * CHUNK_SIZE,
+                        Math.min(count, (chunk + 1) * CHUNK_SIZE)))
+                .reduce(LetterFrequency::add)
+                .orElseThrow();
+        return new LetterFrequency(positional);
+    }
+
+    // Из сохранённых позиционных счётчиков (например, из снимка словаря); массив не копируется
+    static LetterFrequency fromPositional(int[] positional) {
+        if (positional.length != WordleGame.WORD_LENGTH * WordCodec.ALPHABET_SIZE) {
+            throw new IllegalArgumentException("Некорректный размер таблицы частот: " + positional.length);
+        }
+        return new LetterFrequency(positional);
+    }
+
+    // Частоты после правки словаря без пересчёта по всем словам; исходный объект не меняется
+    LetterFrequency adjusted(int[] removedWords, int[] addedWords) {
+        int[] updated = positional.clone();
+        for (int word : removedWords) {
+            for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                updated[pos * WordCodec.ALPHABET_SIZE + WordCodec.letterAt(word, pos)]--;
+            }
+        }
+        for (int word : addedWords) {
+            for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                updated[pos * WordCodec.ALPHABET_SIZE + WordCodec.letterAt(word, pos)]++;
+            }
+        }
+        return new LetterFrequency(updated);
+    }
+
+    int count(int letter) {
+        return counts[letter];
+    }
+
+    int count(int position, int letter) {
+        return positional[position * WordCodec.ALPHABET_SIZE + letter];
+    }
+
+    int[] positionalCopy() {
+        return positional.clone();
+    }
+
+    // Оценка слова: сколько слов словаря имеют ту же букву в той же позиции, плюс общая
+    // частота каждой различной буквы слова (повторы не добавляют новой информации)
+    long score(int word) {
+        long score = 0;
+        int seen = 0;
+        for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+            int letter = WordCodec.letterAt(word, pos);
+            score += positional[pos * WordCodec.ALPHABET_SIZE + letter];
+            if ((seen & (1 << letter)) == 0) {
+                seen |= 1 << letter;
+                score += counts[letter];
+            }
+        }
+        return score;
+    }
+
+    // Буквы по убыванию частоты, при равенстве — в порядке алфавита; отсутствующие не включаются
+    int[] lettersByFrequency() {
+        return IntStream.range(0, WordCodec.ALPHABET_SIZE)
+                .filter(letter -> counts[letter] > 0)
+                .boxed()
+                .sorted((a, b) -> counts[a] != counts[b] ? Integer.compare(counts[b], counts[a]) : Integer.compare(a, b))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int[] count(int[] packedWords, int from, int to) {
+        int[] positional = new int[WordleGame.WORD_LENGTH * WordCodec.ALPHABET_SIZE];
+        for (int i = from; i < to; i++) {
+            int word = packedWords[i];
+            for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                positional[pos * WordCodec.ALPHABET_SIZE + WordCodec.letterAt(word, pos)]++;
+            }
+        }
+        return positional;
+    }
+
+    private static int[] add(int[] a, int[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+}
@@ -0,0 +1,112 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+
+// Множество упакованных слов с открытой адресацией: в ячейке хранится номер слова в массиве
+// words, пустая ячейка — EMPTY. Заполнение не выше половины, поэтому поиск почти всегда
+// укладывается в одно-два сравнения и не создаёт объектов.
+final class PackedWordTable {
+    private static final int EMPTY = -1;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private final int[] words;
+    private final int[] slots;
+    private final int shift;
+
+    // words заполняется вызывающим по мере добавления; capacity — наибольшее число слов
+    PackedWordTable(int[] words, int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+        this.words = words;
+        this.slots = new int[tableSize];
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(tableSize);
+        Arrays.fill(slots, EMPTY);
+    }
+
+    private PackedWordTable(int[] words, int[] slots) {
+        this.words = words;
+        this.slots = slots;
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(slots.length);
+    }
+
+    // Таблица по уже уникальным словам
+    static PackedWordTable of(int[] words) {
+        PackedWordTable table = new PackedWordTable(words, words.length);
+        for (int i = 0; i < words.length; i++) {
+            table.add(i);
+        }
+        return table;
+    }
+
+    // Изменяемая копия для правки словаря: первые count слов берутся из words, места хватает на capacity.
+    // Если прежняя таблица вмещает capacity, ячейки копируются как есть, иначе таблица строится заново
+    PackedWordTable copy(int[] words, int count, int capacity) {
+        if (capacity * 2 <= slots.length) {
+            return new PackedWordTable(words, slots.clone());
+        }
+        PackedWordTable table = new PackedWordTable(words, capacity);
+        for (int i = 0; i < count; i++) {
+            table.add(i);
+        }
+        return table;
+    }
+
+    // Та же таблица поверх другого массива с теми же словами на тех же местах; ячейки общие
+    PackedWordTable withWords(int[] words) {
+        return new PackedWordTable(words, slots);
+    }
+
+    // Убирает слово words[index]. Следующие записи цепочки сдвигаются назад, поэтому надгробий нет
+    void remove(int index) {
+        int mask = slots.length - 1;
+        int hole = slot(words[index]);
+        while (slots[hole] != index) {
+            if (slots[hole] == EMPTY) {
+                throw new IllegalStateException("Слова с номером " + index + " нет в таблице");
+            }
+            hole = (hole + 1) & mask;
+        }
+
+        for (int j = (hole + 1) & mask; slots[j] != EMPTY; j = (j + 1) & mask) {
+            if (((j - slot(words[slots[j]])) & mask) >= ((j - hole) & mask)) {
+                slots[hole] = slots[j];
+                hole = j;
+            }
+        }
+        slots[hole] = EMPTY;
+    }
+
+    // Добавляет words[index]; false, если такое слово уже есть
+    boolean add(int index) {
+        int code = words[index];
+        int mask = slots.length - 1;
+        for (int slot = slot(code); ; slot = (slot + 1) & mask) {
+            int existing = slots[slot];
+            if (existing == EMPTY) {
+                slots[slot] = index;
+                return true;
+            }
+            if (words[existing] == code) {
+                return false;
+            }
+        }
+    }
+
+    // Номер слова или -1
+    int indexOf(int code) {
+        if (code == WordCodec.INVALID) {
+            return -1;
+        }
+
+        int mask = slots.length - 1;
+        for (int slot = slot(code); ; slot = (slot + 1) & mask) {
+            int existing = slots[slot];
+            if (existing == EMPTY || words[existing] == code) {
+                return existing;
+            }
+        }
+    }
+
+    private int slot(int code) {
+        return (code * HASH_MULTIPLIER) >>> shift;
+    }
+}
@@ -0,0 +1,90 @@
+package ru.yandex.practicum;
+
+// K лучших элементов потока по оценке: двоичная куча-минимум фиксированного размера,
+// в корне — худший из отобранных. Память выделяется один раз, экземпляр можно переиспользовать.
+// При равных оценках выше ставится элемент с меньшим номером (раньше в порядке словаря).
+final class TopK {
+    private final int[] items;
+    private final long[] scores;
+    private int size;
+
+    TopK(int k) {
+        if (k <= 0) throw new IllegalArgumentException("Число лучших элементов должно быть положительным: " + k);
+        this.items = new int[k];
+        this.scores = new long[k];
+    }
+
+    void offer(int item, long score) {
+        if (size < items.length) {
+            items[size] = item;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (better(item, score, items[0], scores[0])) {
+            items[0] = item;
+            scores[0] = score;
+            siftDown(0, size);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return items.length;
+    }
+
+    // Переписывает отобранные элементы в out от лучшего к худшему и очищает кучу; возвращает их число
+    int drain(int[] out) {
+        int count = size;
+        // Пирамидальная сортировка на месте: худший уходит в конец, получается порядок от лучшего
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        System.arraycopy(items, 0, out, 0, count);
+        size = 0;
+        return count;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private static boolean better(int item, long score, int otherItem, long otherScore) {
+        return score > otherScore || (score == otherScore && item < otherItem);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(items[parent], scores[parent], items[i], scores[i])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int end) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= end) break;
+            int worst = left;
+            int right = left + 1;
+            if (right < end && better(items[left], scores[left], items[right], scores[right])) {
+                worst = right;
+            }
+            if (!better(items[i], scores[i], items[worst], scores[worst])) break;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+        long score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,103 @@
+package ru.yandex.practicum;
+
+// Упаковка 5-буквенного слова в один int: по 5 бит на букву, позиция 0 — младшие биты.
+// Алфавит — 32 буквы 'а'..'я', 'ё' приравнивается к 'е'.
+public final class WordCodec {
+    public static final int ALPHABET_SIZE = 32;
+    public static final int BITS_PER_LETTER = 5;
+    public static final int INVALID = -1;
+
+    private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+    private static final char FIRST_LETTER = 'а';
+
+    private WordCodec() {
+    }
+
+    public static int encode(CharSequence word) {
+        if (word == null || word.length() != WordleGame.WORD_LENGTH) {
+            return INVALID;
+        }
+
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            char c = word.charAt(i);
+            int letter = letterIndex(c == 'ё' ? 'е' : c);
+            if (letter < 0) {
+                return INVALID;
+            }
+            code |= letter << (BITS_PER_LETTER * i);
+        }
+        return code;
+    }
+
+    // То же, что encode(WordleDictionary.normalizeWord(word)), но без создания строк:
+    // пробельные символы по краям отбрасываются, заглавные буквы и 'ё' допускаются
+    public static int encodeLoose(CharSequence word) {
+        if (word == null) {
+            return INVALID;
+        }
+
+        int from = 0;
+        int to = word.length();
+        while (from < to && word.charAt(from) <= ' ') from++;
+        while (to > from && word.charAt(to - 1) <= ' ') to--;
+        if (to - from != WordleGame.WORD_LENGTH) {
+            return INVALID;
+        }
+
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            int letter = looseLetterIndex(word.charAt(from + i));
+            if (letter < 0) {
+                return INVALID;
+            }
+            code |= letter << (BITS_PER_LETTER * i);
+        }
+        return code;
+    }
+
+    public static String decode(int code) {
+        if (code < 0) {
+            throw new IllegalArgumentException("Некорректный код слова: " + code);
+        }
+
+        char[] chars = new char[WordleGame.WORD_LENGTH];
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            chars[i] = letterChar(letterAt(code, i));
+        }
+        return new String(chars);
+    }
+
+    public static int letterAt(int code, int position) {
+        return (code >>> (BITS_PER_LETTER * position)) & LETTER_MASK;
+    }
+
+    // Сколько раз буква встречается в упакованном слове
+    public static int countLetter(int code, int letter) {
+        int count = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            if (letterAt(code, i) == letter) count++;
+        }
+        return count;
+    }
+
+    // Номер буквы в алфавите или -1, если символ не строчная русская буква ('ё' не входит)
+    public static int letterIndex(char c) {
+        int letter = c - FIRST_LETTER;
+        return letter >= 0 && letter < ALPHABET_SIZE ? letter : -1;
+    }
+
+    private static int looseLetterIndex(char c) {
+        if (c == 'ё' || c == 'Ё') {
+            return 'е' - FIRST_LETTER;
+        }
+        if (c >= 'А' && c <= 'Я') {
+            return c - 'А';
+        }
+        return letterIndex(c);
+    }
+
+    public static char letterChar(int letter) {
+        return (char) (FIRST_LETTER + letter);
+    }
+}
@@ -0,0 +1,312 @@
+package ru.yandex.practicum;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// Всё, что известно об ответе после нескольких подсказок, в виде битовых масок:
+// для каждой позиции — множество допустимых букв (бит i — i-я буква алфавита),
+// для каждой буквы — наименьшее и наибольшее возможное число её вхождений.
+// Объект неизменяем: apply возвращает новый, поэтому его можно отдавать без копирования.
+public final class WordConstraints {
+    private static final int ALL_LETTERS = -1;
+
+    public static final WordConstraints NONE = new WordConstraints();
+
+    private final int[] allowed;
+    // Буквы, получившие '^' в этой позиции
+    private final int[] misplaced;
+    // Позиции, буква в которых угадана ('+')
+    private final int fixedPositions;
+    private final byte[] minCounts;
+    private final byte[] maxCounts;
+    private final int presentLetters;
+    private final int absentLetters;
+    // Есть ли ограничения числа вхождений, которые не выражаются масками позиций
+    private final boolean countLimited;
+
+    private WordConstraints() {
+        this.allowed = new int[WordleGame.WORD_LENGTH];
+        this.misplaced = new int[WordleGame.WORD_LENGTH];
+        this.fixedPositions = 0;
+        this.minCounts = new byte[WordCodec.ALPHABET_SIZE];
+        this.maxCounts = new byte[WordCodec.ALPHABET_SIZE];
+        this.presentLetters = 0;
+        this.absentLetters = 0;
+        this.countLimited = false;
+
+        Arrays.fill(allowed, ALL_LETTERS);
+        Arrays.fill(maxCounts, (byte) WordleGame.WORD_LENGTH);
+    }
+
+    private WordConstraints(int[] allowed, int[] misplaced, int fixedPositions, byte[] minCounts, byte[] maxCounts) {
+        this.allowed = allowed;
+        this.misplaced = misplaced;
+        this.fixedPositions = fixedPositions;
+        this.minCounts = minCounts;
+        this.maxCounts = maxCounts;
+
+        int present = 0;
+        int absent = 0;
+        boolean limited = false;
+        for (int letter = 0; letter < WordCodec.ALPHABET_SIZE; letter++) {
+            if (minCounts[letter] > 0) present |= 1 << letter;
+            if (maxCounts[letter] == 0) absent |= 1 << letter;
+            limited |= minCounts[letter] > 1 || (maxCounts[letter] > 0 && maxCounts[letter] < WordleGame.WORD_LENGTH);
+        }
+        this.presentLetters = present;
+        this.absentLetters = absent;
+        this.countLimited = limited;
+    }
+
+    // Ограничения с учётом ещё одной попытки: guess — упакованное слово, feedback — код подсказки
+    public WordConstraints apply(int guess, int feedback) {
+        if (guess < 0) throw new IllegalArgumentException("Некорректный код слова: " + guess);
+        if (feedback < 0 || feedback >= Feedback.PATTERN_COUNT) {
+            throw new IllegalArgumentException("Некорректный код подсказки: " + feedback);
+        }
+
+        int[] newAllowed = allowed.clone();
+        int[] newMisplaced = misplaced.clone();
+        int newFixed = fixedPositions;
+        byte[] newMin = minCounts.clone();
+        byte[] newMax = maxCounts.clone();
+
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            int bit = 1 << WordCodec.letterAt(guess, i);
+            switch (Feedback.digitAt(feedback, i)) {
+                case Feedback.CORRECT -> {
+                    newAllowed[i] = bit;
+                    newFixed |= 1 << i;
+                }
+                case Feedback.PRESENT -> {
+                    newAllowed[i] &= ~bit;
+                    newMisplaced[i] |= bit;
+                }
+                default -> newAllowed[i] &= ~bit;
+            }
+        }
+
+        // Число отмеченных ('+' или '^') вхождений буквы — нижняя граница; если при этом
+        // есть '-', то и верхняя: лишних вхождений в ответе нет
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            int letter = WordCodec.letterAt(guess, i);
+            if (firstOccurrence(guess, letter) != i) continue;
+
+            int marked = 0;
+            boolean rejected = false;
+            for (int j = i; j < WordleGame.WORD_LENGTH; j++) {
+                if (WordCodec.letterAt(guess, j) != letter) continue;
+                if (Feedback.digitAt(feedback, j) == Feedback.ABSENT) {
+                    rejected = true;
+                } else {
+                    marked++;
+                }
+            }
+
+            newMin[letter] = (byte) Math.max(newMin[letter], marked);
+            if (rejected) {
+                newMax[letter] = (byte) Math.min(newMax[letter], marked);
+            }
+            if (newMax[letter] == 0) {
+                for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                    newAllowed[pos] &= ~(1 << letter);
+                }
+            }
+        }
+
+        return new WordConstraints(newAllowed, newMisplaced, newFixed, newMin, newMax);
+    }
+
+    public WordConstraints apply(String guess, String pattern) {
+        int code = WordCodec.encode(WordleDictionary.normalizeWord(guess));
+        if (code == WordCodec.INVALID) {
+            throw new IllegalArgumentException("Некорректное слово: " + guess);
+        }
+        return apply(code, Feedback.fromPattern(pattern));
+    }
+
+    // Может ли упакованное слово быть ответом
+    public boolean matches(int word) {
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            if ((allowed[i] & (1 << WordCodec.letterAt(word, i))) == 0) {
+                return false;
+            }
+        }
+
+        int required = presentLetters;
+        while (required != 0) {
+            int letter = Integer.numberOfTrailingZeros(required);
+            if (WordCodec.countLetter(word, letter) < minCounts[letter]) {
+                return false;
+            }
+            required &= required - 1;
+        }
+
+        if (countLimited) {
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+                int letter = WordCodec.letterAt(word, i);
+                if (WordCodec.countLetter(word, letter) > maxCounts[letter]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public boolean matches(String word) {
+        int code = WordCodec.encode(WordleDictionary.normalizeWord(word));
+        return code != WordCodec.INVALID && matches(code);
+    }
+
+    // Маска допустимых в позиции букв
+    public int getAllowedMask(int position) {
+        return allowed[checkPosition(position)];
+    }
+
+    public int getMisplacedMask(int position) {
+        return misplaced[checkPosition(position)];
+    }
+
+    public boolean isFixed(int position) {
+        return (fixedPositions & (1 << checkPosition(position))) != 0;
+    }
+
+    public int getFixedPositions() {
+        return fixedPositions;
+    }
+
+    public int getMinCount(int letter) {
+        return minCounts[checkLetter(letter)];
+    }
+
+    public int getMaxCount(int letter) {
+        return maxCounts[checkLetter(letter)];
+    }
+
+    // Маска букв, которые точно есть в ответе
+    public int getPresentMask() {
+        return presentLetters;
+    }
+
+    // Маска букв, которых точно нет в ответе
+    public int getAbsentMask() {
+        return absentLetters;
+    }
+
+    boolean isCountLimited() {
+        return countLimited;
+    }
+
+    // Ниже — представления в виде коллекций для старого API; они неизменяемы и не копируют масок
+
+    public Set<Character> getPresentLetters() {
+        return new LetterSet(presentLetters);
+    }
+
+    public Set<Character> getAbsentLetters() {
+        return new LetterSet(absentLetters);
+    }
+
+    public Map<Integer, Character> getFixedLetters() {
+        Map<Integer, Character> letters = new HashMap<>();
+        int positions = fixedPositions;
+        while (positions != 0) {
+            int pos = Integer.numberOfTrailingZeros(positions);
+            letters.put(pos, WordCodec.letterChar(Integer.numberOfTrailingZeros(allowed[pos])));
+            positions &= positions - 1;
+        }
+        return Map.copyOf(letters);
+    }
+
+    public Map<Integer, Set<Character>> getMisplacedLetters() {
+        return Map.of(
+                0, new LetterSet(misplaced[0]),
+                1, new LetterSet(misplaced[1]),
+                2, new LetterSet(misplaced[2]),
+                3, new LetterSet(misplaced[3]),
+                4, new LetterSet(misplaced[4]));
+    }
+
+    private static int firstOccurrence(int word, int letter) {
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            if (WordCodec.letterAt(word, i) == letter) return i;
+        }
+        return -1;
+    }
+
+    private static int checkPosition(int position) {
+        if (position < 0 || position >= WordleGame.WORD_LENGTH) {
+            throw new IllegalArgumentException("Некорректная позиция: " + position);
+        }
+        return position;
+    }
+
+    private static int checkLetter(int letter) {
+        if (letter < 0 || letter >= WordCodec.ALPHABET_SIZE) {
+            throw new IllegalArgumentException("Некорректный номер буквы: " + letter);
+        }
+        return letter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WordConstraints other)) return false;
+        return fixedPositions == other.fixedPositions
+                && Arrays.equals(allowed, other.allowed)
+                && Arrays.equals(misplaced, other.misplaced)
+                && Arrays.equals(minCounts, other.minCounts)
+                && Arrays.equals(maxCounts, other.maxCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(allowed) + Arrays.hashCode(minCounts);
+    }
+
+    // Неизменяемое множество букв поверх 32-битной маски
+    private static final class LetterSet extends AbstractSet<Character> {
+        private final int mask;
+
+        LetterSet(int mask) {
+            this.mask = mask;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Character c)) return false;
+            int letter = WordCodec.letterIndex(c);
+            return letter >= 0 && (mask & (1 << letter)) != 0;
+        }
+
+        @Override
+        public int size() {
+            return Integer.bitCount(mask);
+        }
+
+        @Override
+        public Iterator<Character> iterator() {
+            return new Iterator<>() {
+                private int remaining = mask;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining != 0;
+                }
+
+                @Override
+                public Character next() {
+                    if (remaining == 0) throw new NoSuchElementException();
+                    int letter = Integer.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    return WordCodec.letterChar(letter);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Разбор файла словаря прямо из байтов UTF-8, без regex и без строки на каждую строку файла.
+// Файл отображается в память кусками по границам строк, куски разбираются параллельно,
+// результаты склеиваются по порядку с удалением повторов.
+final class WordFileParser {
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 256L << 20;
+    private static final int WORD_BYTES = WordleGame.WORD_LENGTH * 2;
+
+    // Буква по второму байту двухбайтовой последовательности: [0..63] для 0xD0, [64..127] для 0xD1
+    private static final byte[] LETTERS = new byte[128];
+
+    static {
+        Arrays.fill(LETTERS, (byte) -1);
+        for (int i = 0; i < 32; i++) {
+            LETTERS[0x10 + i] = (byte) i;               // 'А'..'Я' = D0 90..D0 AF
+        }
+        for (int i = 0; i < 16; i++) {
+            LETTERS[0x30 + i] = (byte) i;               // 'а'..'п' = D0 B0..D0 BF
+            LETTERS[64 + i] = (byte) (16 + i);          // 'р'..'я' = D1 80..D1 8F
+        }
+        LETTERS[0x01] = (byte) WordCodec.letterIndex('е');      // 'Ё' = D0 81
+        LETTERS[64 + 0x11] = (byte) WordCodec.letterIndex('е'); // 'ё' = D1 91
+    }
+
+    // lineCount — число непустых строк
+    record Result(int[] words, int lineCount, int validCount, List<String> skippedLines) {
+    }
+
+    private static final class Chunk {
+        int[] words = new int[1024];
+        int wordCount;
+        int lineCount;
+        List<String> skippedLines;
+
+        void add(int code) {
+            if (wordCount == words.length) {
+                words = Arrays.copyOf(words, wordCount * 2);
+            }
+            words[wordCount++] = code;
+        }
+    }
+
+    private WordFileParser() {
+    }
+
+    // skippedLines в результате заполняется только при collectSkipped, иначе пуст
+    static Result parse(Path path, boolean collectSkipped) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = splitIntoChunks(channel);
+
+            Chunk[] chunks;
+            try {
+                chunks = IntStream.range(0, bounds.length - 1)
+                        .parallel()
+                        .mapToObj(i -> parseChunk(channel, bounds[i], bounds[i + 1], collectSkipped))
+                        .toArray(Chunk[]::new);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            return merge(chunks, collectSkipped);
+        }
+    }
+
+    // Упакованное слово из байтов строки или INVALID; пробельные символы по краям отбрасываются
+    static int decodeLine(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) & 0xFF) <= ' ') from++;
+        while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') to--;
+        if (to - from != WORD_BYTES) {
+            return WordCodec.INVALID;
+        }
+
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            int lead = buffer.get(from + 2 * i) & 0xFF;
+            int next = buffer.get(from + 2 * i + 1) & 0xFF;
+            if ((lead != 0xD0 && lead != 0xD1) || (next & 0xC0) != 0x80) {
+                return WordCodec.INVALID;
+            }
+            int letter = LETTERS[((lead & 1) << 6) | (next & 0x3F)];
+            if (letter < 0) {
+                return WordCodec.INVALID;
+            }
+            code |= letter << (WordCodec.BITS_PER_LETTER * i);
+        }
+        return code;
+    }
+
+    // Границы кусков: каждая, кроме первой и последней, стоит сразу после перевода строки
+    private static long[] splitIntoChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        long chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, size / (parallelism * 4L) + 1));
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = chunkSize;
+        while (position < size) {
+            long boundary = findLineEnd(channel, position, probe);
+            if (boundary >= size) break;
+            bounds.add(boundary);
+            position = boundary + chunkSize;
+        }
+        bounds.add(size);
+
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long findLineEnd(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static Chunk parseChunk(FileChannel channel, long start, long end, boolean collectSkipped) {
+        Chunk chunk = new Chunk();
+        if (collectSkipped) {
+            chunk.skippedLines = new ArrayList<>();
+        }
+        if (end - start > Integer.MAX_VALUE) {
+            throw new UncheckedIOException(new IOException("Слишком длинная строка в файле словаря"));
+        }
+
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int limit = buffer.limit();
+        int lineStart = 0;
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit) {
+                byte b = buffer.get(i);
+                if (b != '\n' && b != '\r') continue;
+            }
+            if (i > lineStart) {
+                processLine(chunk, buffer, lineStart, i);
+            }
+            lineStart = i + 1;
+        }
+        return chunk;
+    }
+
+    private static void processLine(Chunk chunk, ByteBuffer buffer, int from, int to) {
+        int code = decodeLine(buffer, from, to);
+        if (code != WordCodec.INVALID) {
+            chunk.add(code);
+            chunk.lineCount++;
+            return;
+        }
+
+        boolean blank = true;
+        for (int i = from; i < to && blank; i++) {
+            blank = (buffer.get(i) & 0xFF) <= ' ';
+        }
+        if (!blank) {
+            chunk.lineCount++;
+            if (chunk.skippedLines != null) {
+                byte[] bytes = new byte[to - from];
+                buffer.get(from, bytes);
+                chunk.skippedLines.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static Result merge(Chunk[] chunks, boolean collectSkipped) {
+        int total = 0;
+        int lineCount = 0;
+        for (Chunk chunk : chunks) {
+            total += chunk.wordCount;
+            lineCount += chunk.lineCount;
+        }
+
+        // Битовая карта всех 2^25 возможных кодов: повтор определяется одной проверкой бита
+        long[] seen = new long[1 << (WordCodec.BITS_PER_LETTER * WordleGame.WORD_LENGTH - 6)];
+        int[] unique = new int[total];
+        int uniqueCount = 0;
+        List<String> skippedLines = new ArrayList<>();
+
+        for (Chunk chunk : chunks) {
+            for (int i = 0; i < chunk.wordCount; i++) {
+                int code = chunk.words[i];
+                long bit = 1L << code;
+                if ((seen[code >>> 6] & bit) == 0) {
+                    seen[code >>> 6] |= bit;
+                    unique[uniqueCount++] = code;
+                }
+            }
+            if (collectSkipped) {
+                skippedLines.addAll(chunk.skippedLines);
+            }
+        }
+
+        return new Result(Arrays.copyOf(unique, uniqueCount), lineCount, total, skippedLines);
+    }
+}
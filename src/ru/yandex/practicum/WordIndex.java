@@ -0,0 +1,168 @@
+package ru.yandex.practicum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Инвертированный индекс словаря: битовое множество слов для каждой буквы
+// и для каждой пары (позиция, буква). Бит i соответствует i-му слову словаря.
+// Строки индекса не меняются после создания, поэтому версии словаря после правки делят
+// все строки, которых правка не коснулась; строка может быть короче all — недостающие биты нулевые.
+final class WordIndex {
+    private final int size;
+    private final long[] all;
+    private final long[][] containing;
+    private final long[][] atPosition;
+
+    WordIndex(int[] packedWords) {
+        this.size = packedWords.length;
+        int length = (size + Long.SIZE - 1) / Long.SIZE;
+
+        this.all = new long[length];
+        this.containing = new long[WordCodec.ALPHABET_SIZE][length];
+        this.atPosition = new long[WordleGame.WORD_LENGTH * WordCodec.ALPHABET_SIZE][length];
+
+        for (int i = 0; i < size; i++) {
+            int word = i >>> 6;
+            long bit = 1L << i;
+            all[word] |= bit;
+            for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                int letter = WordCodec.letterAt(packedWords[i], pos);
+                containing[letter][word] |= bit;
+                atPosition[pos * WordCodec.ALPHABET_SIZE + letter][word] |= bit;
+            }
+        }
+    }
+
+    private WordIndex(int size, long[][] containing, long[][] atPosition) {
+        this.size = size;
+        this.all = fullSet(size);
+        this.containing = containing;
+        this.atPosition = atPosition;
+    }
+
+    long[] newFullSet() {
+        return all.clone();
+    }
+
+    void retainContaining(long[] set, int letter) {
+        and(set, containing[letter]);
+    }
+
+    void removeContaining(long[] set, int letter) {
+        andNot(set, containing[letter]);
+    }
+
+    void retainAt(long[] set, int position, int letter) {
+        and(set, atPosition[position * WordCodec.ALPHABET_SIZE + letter]);
+    }
+
+    void removeAt(long[] set, int position, int letter) {
+        andNot(set, atPosition[position * WordCodec.ALPHABET_SIZE + letter]);
+    }
+
+    static void clear(long[] set) {
+        Arrays.fill(set, 0L);
+    }
+
+    static int cardinality(long[] set) {
+        int count = 0;
+        for (long bits : set) {
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    // Слова из множества в порядке словаря
+    static List<String> toWords(long[] set, List<String> words) {
+        List<String> result = new ArrayList<>(cardinality(set));
+        for (int word = 0; word < set.length; word++) {
+            long bits = set[word];
+            while (bits != 0) {
+                result.add(words.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Update update() {
+        return new Update();
+    }
+
+    // Правка индекса с копированием при записи: строка копируется при первом изменении
+    final class Update {
+        private final long[][] containing = WordIndex.this.containing.clone();
+        private final long[][] atPosition = WordIndex.this.atPosition.clone();
+        private final boolean[] copiedContaining = new boolean[containing.length];
+        private final boolean[] copiedAtPosition = new boolean[atPosition.length];
+
+        void set(int index, int code) {
+            for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                int letter = WordCodec.letterAt(code, pos);
+                setBit(writable(containing, copiedContaining, letter, index), index);
+                setBit(writable(atPosition, copiedAtPosition, pos * WordCodec.ALPHABET_SIZE + letter, index), index);
+            }
+        }
+
+        void clear(int index, int code) {
+            for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                int letter = WordCodec.letterAt(code, pos);
+                clearBit(writable(containing, copiedContaining, letter, index), index);
+                clearBit(writable(atPosition, copiedAtPosition, pos * WordCodec.ALPHABET_SIZE + letter, index), index);
+            }
+        }
+
+        WordIndex build(int size) {
+            return new WordIndex(size, containing, atPosition);
+        }
+
+        // Строка, которую можно менять: копия при первом изменении, с местом для бита index
+        private static long[] writable(long[][] rows, boolean[] copied, int row, int index) {
+            int length = Math.max(rows[row].length, (index >>> 6) + 1);
+            if (!copied[row] || rows[row].length < length) {
+                rows[row] = Arrays.copyOf(rows[row], length);
+                copied[row] = true;
+            }
+            return rows[row];
+        }
+    }
+
+    private static long[] fullSet(int size) {
+        long[] set = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        Arrays.fill(set, -1L);
+        if (size % Long.SIZE != 0) {
+            set[set.length - 1] = (1L << size) - 1;
+        }
+        return set;
+    }
+
+    private static void setBit(long[] set, int index) {
+        set[index >>> 6] |= 1L << index;
+    }
+
+    private static void clearBit(long[] set, int index) {
+        set[index >>> 6] &= ~(1L << index);
+    }
+
+    private static void and(long[] set, long[] other) {
+        int common = Math.min(set.length, other.length);
+        for (int i = 0; i < common; i++) {
+            set[i] &= other[i];
+        }
+        if (common < set.length) {
+            Arrays.fill(set, common, set.length, 0L);
+        }
+    }
+
+    private static void andNot(long[] set, long[] other) {
+        int common = Math.min(set.length, other.length);
+        for (int i = 0; i < common; i++) {
+            set[i] &= ~other[i];
+        }
+    }
+}
@@ -2,6 +2,10 @@ package ru.yandex.practicum;
 
 import ru.yandex.practicum.exception.InvalidWordException;
 import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.log.AsyncLogSink;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.MetricsRegistry;
+import ru.yandex.practicum.metrics.MetricsReporter;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -9,49 +13,66 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 public class Wordle {
     private static final String DICTIONARY_FILE = "words_ru.txt";
     private static final String LOG_FILE = "wordle_game.log";
     private static final String CRASH_LOG_FILE = "wordle_crash.log";
+    private static final long METRICS_REPORT_MINUTES = 5;
 
     public static void main(String[] args) {
         boolean playAgain = true;
         Scanner scanner = new Scanner(System.in, StandardCharsets.UTF_8);
 
-        while (playAgain) {
-            try (PrintWriter log = createLogger()) {
-                runGame(log, scanner);
-                playAgain = askForRestart(scanner, log);
-            } catch (Exception e) {
-                handleCriticalError(e, null);
-                playAgain = false;
+        try (AsyncLogSink logSink = createLogSink()) {
+            WordleLogger log = new WordleLogger(logSink, WordleLogger.defaultLevel());
+            MetricsRegistry.global().registerMBean();
+            MetricsReporter reporter = new MetricsReporter(MetricsRegistry.global(), log,
+                    METRICS_REPORT_MINUTES, TimeUnit.MINUTES);
+
+            // Словарь загружается один раз на все партии и подхватывает правки файла без перезапуска
+            try (DictionaryRegistry registry = new DictionaryRegistry(log)) {
+                while (playAgain) {
+                    try {
+                        runGame(log, scanner, registry);
+                        playAgain = askForRestart(scanner, log);
+                    } catch (Exception e) {
+                        handleCriticalError(e, null);
+                        log.error("КРИТИЧЕСКАЯ ОШИБКА: " + e.getMessage());
+                        playAgain = false;
+                    }
+                }
+            } finally {
+                reporter.close();
             }
+        } catch (IOException e) {
+            handleCriticalError(e, null);
         }
 
         System.out.println("\nСпасибо за игру! До свидания!");
         scanner.close();
     }
 
-     private static PrintWriter createLogger() throws IOException {
+    // Запись в файл идёт в фоновом потоке пачками, а не со сбросом после каждой строки
+    private static AsyncLogSink createLogSink() throws IOException {
         Path logPath = Paths.get(LOG_FILE);
         boolean append = Files.exists(logPath);
-        return new PrintWriter(
+        return new AsyncLogSink(
                 Files.newBufferedWriter(logPath,
                         StandardCharsets.UTF_8,
                         append ? java.nio.file.StandardOpenOption.APPEND : java.nio.file.StandardOpenOption.CREATE)
         );
     }
 
-  private static void runGame(PrintWriter log, Scanner scanner) throws IOException {
-        log.println("\n" + "=".repeat(50));
-        log.println("Запуск Wordle " + java.time.LocalDateTime.now());
-        log.println("Словарь: " + DICTIONARY_FILE);
-        log.println("Лог-файл: " + LOG_FILE);
-        log.println("=".repeat(50));
+  private static void runGame(WordleLogger log, Scanner scanner, DictionaryRegistry registry) throws IOException {
+        log.info("\n" + "=".repeat(50));
+        log.info("Запуск Wordle " + java.time.LocalDateTime.now());
+        log.info("Словарь: " + DICTIONARY_FILE);
+        log.info("Лог-файл: " + LOG_FILE);
+        log.info("=".repeat(50));
 
-        WordleDictionaryLoader loader = new WordleDictionaryLoader(log);
-        WordleDictionary dictionary = loader.loadDictionary(DICTIONARY_FILE);
+        WordleDictionary dictionary = registry.get(DICTIONARY_FILE);
         WordleGame game = new WordleGame(dictionary, log);
 
         showWelcomeMessage();
@@ -75,7 +96,7 @@ public class Wordle {
         System.out.println("=".repeat(50) + "\n");
     }
 
-     private static void gameLoop(WordleGame game, Scanner scanner, PrintWriter log) {
+     private static void gameLoop(WordleGame game, Scanner scanner, WordleLogger log) {
         while (!game.isGameOver()) {
             System.out.print("Введите слово (или нажмите Enter для подсказки): ");
             if (!scanner.hasNextLine()) return;
@@ -86,17 +107,17 @@ public class Wordle {
                 String hint = game.getHint();
                 if (hint != null) {
                     System.out.println("Подсказка: " + hint + "\n");
-                    log.println("Игрок запросил подсказку: " + hint);
+                    log.info("Игрок запросил подсказку: " + hint);
                 } else {
                     System.out.println("Подсказки временно недоступны.\n");
-                    log.println("Игрок запросил подсказку, но подсказки недоступны");
+                    log.info("Игрок запросил подсказку, но подсказки недоступны");
                 }
                 continue;
             }
 
             if (input.equalsIgnoreCase("стоп")) {
                 System.out.println("\nИгра остановлена.");
-                log.println("Игрок остановил игру.");
+                log.info("Игрок остановил игру.");
                 return;
             }
 
@@ -106,7 +127,7 @@ public class Wordle {
 
                 if (game.isWordGuessed()) {
                     System.out.println("🎉 ПОЗДРАВЛЯЕМ! Вы угадали слово!");
-                    log.println("Игрок угадал слово!");
+                    log.info("Игрок угадал слово!");
                     break;
                 }
 
@@ -114,12 +135,12 @@ public class Wordle {
 
             } catch (InvalidWordException | WordNotFoundInDictionaryException e) {
                 System.out.println("❌ Ошибка: " + e.getMessage() + "\n");
-                log.println("Ошибка ввода: " + e.getMessage());
+                log.info("Ошибка ввода: " + e.getMessage());
             }
         }
     }
 
-     private static void showResults(WordleGame game, PrintWriter log) {
+     private static void showResults(WordleGame game, WordleLogger log) {
         System.out.println("\n" + "=".repeat(50));
 
         if (!game.isWordGuessed()) {
@@ -141,21 +162,19 @@ public class Wordle {
 
         System.out.println("=".repeat(50));
 
-        log.println("Игра завершена. Угадано: " + game.isWordGuessed());
-        log.println("Загаданное слово: " + game.getAnswer());
-        log.println("Попыток использовано: " + (WordleGame.MAX_ATTEMPTS - game.getAttemptsRemaining()));
-        log.println("Лог сохранен в: " + LOG_FILE);
+        log.info("Игра завершена. Угадано: " + game.isWordGuessed());
+        log.info("Загаданное слово: " + game.getAnswer());
+        log.info("Попыток использовано: " + (WordleGame.MAX_ATTEMPTS - game.getAttemptsRemaining()));
+        log.info("Лог сохранен в: " + LOG_FILE);
     }
 
-     private static boolean askForRestart(Scanner scanner, PrintWriter log) {
+     private static boolean askForRestart(Scanner scanner, WordleLogger log) {
         System.out.print("\nХотите сыграть ещё раз? (да/нет): ");
         String response = scanner.nextLine().trim().toLowerCase();
 
         boolean restart = response.equals("да") || response.equals("yes") || response.equals("y");
 
-        if (log != null) {
-            log.println("Игрок выбрал: " + (restart ? "играть снова" : "выйти"));
-        }
+        log.info("Игрок выбрал: " + (restart ? "играть снова" : "выйти"));
 
         if (restart) {
             System.out.println("\n" + "=".repeat(50));
@@ -1,87 +1,350 @@
 package ru.yandex.practicum;
 
 import ru.yandex.practicum.exception.InvalidWordException;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.WordleMetrics;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
 
 public class WordleDictionary {
     private final List<String> words;
-    private final Random random;
-    private Map<Character, Integer> cachedFrequency;
-    private final Set<String> wordSet;
-    private final PrintWriter log;
+    private final int[] packedWords;
+    private final long checksum;
+    private final WordIndex index;
+    private final LetterFrequency frequency;
+    private final Map<Character, Integer> letterFrequency;
+    private final List<Character> mostCommonLetters;
+    private final PackedWordTable table;
+    // Гонка при первом обращении безопасна: все потоки строят одинаковый массив
+    private volatile int[] allIndices;
+    // null — загадывается любое слово словаря с равной вероятностью
+    private final AnswerPool answerPool;
+    private final WordleLogger log;
 
     private static final int MOST_COMMON_LETTERS_COUNT = 10;
 
     public WordleDictionary(List<String> words, PrintWriter log) {
+        this(words, WordleLogger.of(log));
+    }
+
+    public WordleDictionary(List<String> words, WordleLogger log) {
         if (words == null) {
             throw new IllegalArgumentException("Список слов не может быть null");
         }
+        if (log == null) {
+            throw new IllegalArgumentException("Логгер не может быть null");
+        }
 
-        this.log = log;
-        logMessage("Создание словаря. Исходный список: " + words.size() + " слов");
+        this.log = log.forComponent("Dictionary");
+        this.log.info("Создание словаря. Исходный список: " + words.size() + " слов");
 
-        this.wordSet = new LinkedHashSet<>();
+        // Подробная трассировка по каждому слову только на уровне DEBUG
+        boolean trace = this.log.isDebugEnabled();
+        int[] codes = new int[words.size()];
+        PackedWordTable unique = new PackedWordTable(codes, codes.length);
+        this.words = new ArrayList<>(words.size());
         for (String word : words) {
             String normalized = normalizeWord(word);
-            if (normalized.length() == WordleGame.WORD_LENGTH && normalized.matches("[а-я]+")) {
-                if (this.wordSet.add(normalized)) {
-                    logMessage("  Добавлено слово: " + normalized);
+            int code = WordCodec.encode(normalized);
+            if (code != WordCodec.INVALID) {
+                codes[this.words.size()] = code;
+                if (unique.add(this.words.size())) {
+                    this.words.add(normalized);
+                    if (trace) {
+                        this.log.debug(() -> "  Добавлено слово: " + normalized);
+                    }
                 }
-            } else {
-                logMessage("  Пропущено слово: " + word + " → " + normalized +
+            } else if (trace) {
+                this.log.debug(() -> "  Пропущено слово: " + word + " → " + normalized +
                         " (длина: " + normalized.length() + ", требуется: " + WordleGame.WORD_LENGTH + ")");
             }
         }
 
-        this.words = new ArrayList<>(wordSet);
-        this.random = new Random();
+        if (this.words.size() == codes.length) {
+            this.packedWords = codes;
+            this.table = unique;
+        } else {
+            this.packedWords = Arrays.copyOf(codes, this.words.size());
+            this.table = PackedWordTable.of(packedWords);
+        }
+        this.checksum = computeChecksum(packedWords);
+        this.index = new WordIndex(packedWords);
+        this.frequency = LetterFrequency.of(packedWords);
+        this.letterFrequency = frequencyMap(frequency);
+        this.mostCommonLetters = mostCommonLetters(frequency);
+        this.answerPool = null;
+
+        this.log.info("Словарь создан. Уникальных слов: " + this.words.size());
+    }
+
+    // Словарь из уже проверенных уникальных упакованных слов, например из бинарного снимка
+    WordleDictionary(int[] packedWords, int[] positionalCounts, WordleLogger log) {
+        this.log = log.forComponent("Dictionary");
+        this.packedWords = packedWords;
+        this.words = new ArrayList<>(packedWords.length);
+        for (int code : packedWords) {
+            this.words.add(WordCodec.decode(code));
+        }
+        this.table = PackedWordTable.of(packedWords);
+        this.checksum = computeChecksum(packedWords);
+        this.index = new WordIndex(packedWords);
+        this.frequency = positionalCounts != null
+                ? LetterFrequency.fromPositional(positionalCounts)
+                : LetterFrequency.of(packedWords);
+        this.letterFrequency = frequencyMap(frequency);
+        this.mostCommonLetters = mostCommonLetters(frequency);
+        this.answerPool = null;
+
+        this.log.info("Словарь создан из упакованных слов. Уникальных слов: " + this.words.size());
+    }
 
-        logMessage("Словарь создан. Уникальных слов: " + this.words.size());
+    // Новая версия после правки: части собраны в apply, остальное выводится из них
+    private WordleDictionary(List<String> words, int[] packedWords, PackedWordTable table, WordIndex index,
+                             LetterFrequency frequency, AnswerPool answerPool, WordleLogger log) {
+        this.log = log;
+        this.words = words;
+        this.packedWords = packedWords;
+        this.table = table;
+        this.checksum = computeChecksum(packedWords);
+        this.index = index;
+        this.frequency = frequency;
+        this.letterFrequency = frequencyMap(frequency);
+        this.mostCommonLetters = mostCommonLetters(frequency);
+        this.answerPool = answerPool;
+    }
+
+    // Новая версия словаря с правкой; этот словарь не меняется, и начатые на нём партии доигрываются.
+    // Пересчитываются только затронутые места: удалённое слово замещается добавленным или словом из
+    // конца списка, новые слова дописываются в конец, частоты сдвигаются на разницу, а строки индекса
+    // и таблица поиска копируются при записи — нетронутые строки индекса общие со старой версией.
+    public WordleDictionary apply(DictionaryDelta delta) {
+        if (delta == null) throw new IllegalArgumentException("Правка не может быть null");
+        long start = System.nanoTime();
+
+        int n = packedWords.length;
+        int[] removedIndices = new int[delta.getRemoved().size()];
+        int removedCount = 0;
+        for (String word : delta.getRemoved()) {
+            int i = table.indexOf(WordCodec.encode(word));
+            if (i >= 0) {
+                removedIndices[removedCount++] = i;
+            }
+        }
+        int[] addedCodes = new int[delta.getAdded().size()];
+        List<String> addedWords = new ArrayList<>(addedCodes.length);
+        for (String word : delta.getAdded()) {
+            int code = WordCodec.encode(word);
+            if (table.indexOf(code) < 0) {
+                addedCodes[addedWords.size()] = code;
+                addedWords.add(word);
+            }
+        }
+        int addedCount = addedWords.size();
+        if (removedCount == 0 && addedCount == 0) {
+            log.info("Правка словаря ничего не меняет: " + delta);
+            return this;
+        }
+
+        int size = n - removedCount + addedCount;
+        int[] codes = Arrays.copyOf(packedWords, Math.max(n, size));
+        int[] removedCodes = new int[removedCount];
+        for (int k = 0; k < removedCount; k++) {
+            removedCodes[k] = packedWords[removedIndices[k]];
+        }
+        List<String> updatedWords = new ArrayList<>(Math.max(n, size));
+        updatedWords.addAll(words);
+        PackedWordTable updatedTable = table.copy(codes, n, Math.max(n, size));
+        WordIndex.Update updatedIndex = index.update();
+
+        // Удалённые слова замещаются добавленными на тех же местах
+        int paired = Math.min(removedCount, addedCount);
+        for (int k = 0; k < paired; k++) {
+            int i = removedIndices[k];
+            updatedTable.remove(i);
+            updatedIndex.clear(i, codes[i]);
+            codes[i] = addedCodes[k];
+            updatedTable.add(i);
+            updatedIndex.set(i, codes[i]);
+            updatedWords.set(i, addedWords.get(k));
+        }
+
+        // Оставшиеся новые слова — в конец
+        for (int k = paired; k < addedCount; k++) {
+            int i = n + k - paired;
+            codes[i] = addedCodes[k];
+            updatedTable.add(i);
+            updatedIndex.set(i, codes[i]);
+            updatedWords.add(addedWords.get(k));
+        }
+
+        // Оставшиеся удалённые: дыры ниже size заполняются уцелевшими словами из хвоста
+        if (removedCount > paired) {
+            Set<Integer> gone = new HashSet<>();
+            for (int k = paired; k < removedCount; k++) {
+                int i = removedIndices[k];
+                gone.add(i);
+                updatedTable.remove(i);
+                updatedIndex.clear(i, codes[i]);
+            }
+            int tail = n - 1;
+            for (int k = paired; k < removedCount; k++) {
+                int hole = removedIndices[k];
+                if (hole >= size) continue;
+                while (gone.contains(tail)) {
+                    tail--;
+                }
+                updatedTable.remove(tail);
+                updatedIndex.clear(tail, codes[tail]);
+                codes[hole] = codes[tail];
+                updatedTable.add(hole);
+                updatedIndex.set(hole, codes[hole]);
+                updatedWords.set(hole, updatedWords.get(tail));
+                tail--;
+            }
+            updatedWords.subList(size, n).clear();
+            codes = Arrays.copyOf(codes, size);
+            updatedTable = updatedTable.withWords(codes);
+        }
+
+        WordleDictionary updated = new WordleDictionary(updatedWords, codes, updatedTable, updatedIndex.build(size),
+                frequency.adjusted(removedCodes, Arrays.copyOf(addedCodes, addedCount)),
+                answerPoolWithout(delta.getRemoved()), log);
+        long elapsed = System.nanoTime() - start;
+        log.info(() -> String.format("Правка словаря применена: +%d -%d, слов: %d (%.2f мс)",
+                addedCount, removedCodes.length, size, elapsed / 1e6));
+        return updated;
+    }
+
+    // Пул загадываемых слов без удалённых; новые слова в пул сами не попадают
+    private AnswerPool answerPoolWithout(List<String> removed) {
+        AnswerPool pool = answerPool;
+        if (pool == null) {
+            return null;
+        }
+
+        Set<String> gone = new HashSet<>(removed);
+        List<String> kept = new ArrayList<>(pool.size());
+        double[] weights = new double[pool.size()];
+        for (int i = 0; i < pool.size(); i++) {
+            if (!gone.contains(pool.getWord(i))) {
+                weights[kept.size()] = pool.getWeight(i);
+                kept.add(pool.getWord(i));
+            }
+        }
+        if (kept.size() == pool.size()) {
+            return pool;
+        }
+        if (kept.isEmpty()) {
+            log.warn("Правка удалила все слова пула, загадывается любое слово словаря");
+            return null;
+        }
+        return new AnswerPool(kept, Arrays.copyOf(weights, kept.size()));
     }
 
     public boolean contains(String word) {
-        String normalized = normalizeWord(word);
-        boolean result = wordSet.contains(normalized);
-        logMessage("Проверка слова '" + word + "' → '" + normalized + "': " + result);
+        boolean result = indexOf(word) >= 0;
+        if (log.isDebugEnabled()) {
+            log.debug("Проверка слова '" + word + "': " + result);
+        }
         return result;
     }
 
+    // Номер слова в словаре (после нормализации) или -1
+    public int indexOf(String word) {
+        return table.indexOf(WordCodec.encodeLoose(word));
+    }
+
+    // Номер упакованного слова в словаре или -1
+    public int indexOfPacked(int code) {
+        return table.indexOf(code);
+    }
+
     public String getRandomWord() {
         if (words.isEmpty()) {
-            logMessage("Попытка получить случайное слово из пустого словаря");
+            log.warn("Попытка получить случайное слово из пустого словаря");
             throw new IllegalStateException("Словарь пуст.");
         }
-        String word = words.get(random.nextInt(words.size()));
-        logMessage("Выбрано случайное слово: " + word);
+        String word = answerPool != null
+                ? answerPool.sample()
+                : words.get(ThreadLocalRandom.current().nextInt(words.size()));
+        log.debug(() -> "Выбрано случайное слово: " + word);
         return word;
     }
 
+    public AnswerPool getAnswerPool() {
+        return answerPool;
+    }
+
+    // Тот же словарь с другим пулом загадываемых слов; этот словарь не меняется.
+    // Все слова пула должны быть в словаре, иначе загаданное слово нельзя будет угадать
+    public WordleDictionary withAnswerPool(AnswerPool pool) {
+        if (pool != null) {
+            for (int i = 0; i < pool.size(); i++) {
+                if (indexOf(pool.getWord(i)) < 0) {
+                    throw new IllegalArgumentException("Слова пула нет в словаре: " + pool.getWord(i));
+                }
+            }
+        }
+        log.info(pool == null
+                ? "Загадывается любое слово словаря"
+                : "Загадываются слова из пула: " + pool.size());
+        return new WordleDictionary(words, packedWords, table, index, frequency, pool, log);
+    }
+
+    public String getWord(int index) {
+        return words.get(index);
+    }
+
+    public int getPackedWord(int index) {
+        return packedWords[index];
+    }
+
+    // Внутренний массив упакованных слов в порядке словаря; изменять нельзя
+    int[] packedWords() {
+        return packedWords;
+    }
+
+    // Номера всех слов 0..size-1, создаётся один раз; изменять нельзя
+    int[] allIndices() {
+        int[] indices = allIndices;
+        if (indices == null) {
+            indices = new int[packedWords.length];
+            Arrays.setAll(indices, i -> i);
+            allIndices = indices;
+        }
+        return indices;
+    }
+
     public List<String> getAllWords() {
-        logMessage("Запрос всех слов (возвращено: " + words.size() + ")");
+        log.debug(() -> "Запрос всех слов (возвращено: " + words.size() + ")");
         return Collections.unmodifiableList(words);
     }
 
     public void validateWord(String word) throws InvalidWordException {
         String normalized = normalizeWord(word);
-        logMessage("Валидация слова: '" + word + "' → '" + normalized + "'");
+        log.debug(() -> "Валидация слова: '" + word + "' → '" + normalized + "'");
 
         if (normalized.isBlank()) {
-            logMessage("  Ошибка: слово пустое");
+            log.debug("  Ошибка: слово пустое");
             throw new InvalidWordException("Слово не может быть пустым");
         }
         if (normalized.length() != WordleGame.WORD_LENGTH) {
-            logMessage("  Ошибка: длина " + normalized.length() + " вместо " + WordleGame.WORD_LENGTH);
+            log.debug(() -> "  Ошибка: длина " + normalized.length() + " вместо " + WordleGame.WORD_LENGTH);
             throw new InvalidWordException("Слово должно быть " + WordleGame.WORD_LENGTH +
                     " букв. Введено: " + normalized.length());
         }
-        if (!normalized.matches("[а-я]+")) {
-            logMessage("  Ошибка: содержит не только русские буквы");
+        if (WordCodec.encode(normalized) == WordCodec.INVALID) {
+            log.debug("  Ошибка: содержит не только русские буквы");
             throw new InvalidWordException("Слово должно содержать только русские буквы: " + word);
         }
 
-        logMessage("  Слово валидно");
+        log.debug("  Слово валидно");
     }
 
     public static String analyzeWord(String secret, String guess) {
@@ -96,38 +359,62 @@ public class WordleDictionary {
             throw new IllegalArgumentException("Слова должны быть по " + WordleGame.WORD_LENGTH + " букв");
         }
 
-        char[] result = new char[WordleGame.WORD_LENGTH];
-        Arrays.fill(result, '-');
+        int secretCode = WordCodec.encode(secret);
+        int guessCode = WordCodec.encode(guess);
+        if (secretCode == WordCodec.INVALID || guessCode == WordCodec.INVALID) {
+            throw new IllegalArgumentException("Слова должны содержать только русские буквы");
+        }
 
-        boolean[] secretUsed = new boolean[WordleGame.WORD_LENGTH];
-        boolean[] guessUsed = new boolean[WordleGame.WORD_LENGTH];
+        return Feedback.toPattern(analyze(secretCode, guessCode));
+    }
 
+    // Сравнение упакованных слов без выделения памяти, результат — код Feedback
+    public static int analyze(int secret, int guess) {
         // Шаг 1: Находим точные совпадения
+        int matched = 0;
         for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
-            if (secret.charAt(i) == guess.charAt(i)) {
-                result[i] = '+';
-                secretUsed[i] = true;
-                guessUsed[i] = true;
+            if (WordCodec.letterAt(secret, i) == WordCodec.letterAt(guess, i)) {
+                matched |= 1 << i;
             }
         }
 
+        int exact = matched;
+        int code = 0;
+
         // Шаг 2: Находим буквы на других местах
         for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
-            if (guessUsed[i]) continue;
-
-            char guessChar = guess.charAt(i);
+            int digit = Feedback.ABSENT;
 
-            for (int j = 0; j < WordleGame.WORD_LENGTH; j++) {
-                if (!secretUsed[j] && secret.charAt(j) == guessChar) {
-                    result[i] = '^';
-                    secretUsed[j] = true;
-                    guessUsed[i] = true;
-                    break;
+            if ((exact & (1 << i)) != 0) {
+                digit = Feedback.CORRECT;
+            } else {
+                int guessLetter = WordCodec.letterAt(guess, i);
+                for (int j = 0; j < WordleGame.WORD_LENGTH; j++) {
+                    if ((matched & (1 << j)) == 0 && WordCodec.letterAt(secret, j) == guessLetter) {
+                        matched |= 1 << j;
+                        digit = Feedback.PRESENT;
+                        break;
+                    }
                 }
             }
+
+            code = code * 3 + digit;
         }
 
-        return new String(result);
+        return code;
+    }
+
+    // Подсказки одной попытки для многих слов: out[i] = analyze(secrets[i], guess).
+    // Векторная реализация включается автоматически, если доступен модуль jdk.incubator.vector.
+    public static void analyzeBatch(int guess, int[] secrets, byte[] out) {
+        analyzeBatch(guess, secrets, secrets.length, out);
+    }
+
+    public static void analyzeBatch(int guess, int[] secrets, int count, byte[] out) {
+        if (count < 0 || count > secrets.length || count > out.length) {
+            throw new IllegalArgumentException("Некорректный размер пакета: " + count);
+        }
+        FeedbackKernel.DEFAULT.analyze(guess, secrets, count, out);
     }
 
     public static String normalizeWord(String word) {
@@ -138,49 +425,53 @@ public class WordleDictionary {
     public List<String> findSuggestions(Set<Character> mustContain,
                                         Set<Character> mustNotContain,
                                         String pattern) {
-        logMessage("Поиск предложений: mustContain=" + mustContain +
+        long start = System.nanoTime();
+        try {
+            return suggest(mustContain, mustNotContain, pattern);
+        } finally {
+            WordleMetrics.FIND_SUGGESTIONS.recordSince(start);
+        }
+    }
+
+    private List<String> suggest(Set<Character> mustContain, Set<Character> mustNotContain, String pattern) {
+        log.debug(() -> "Поиск предложений: mustContain=" + mustContain +
                 ", mustNotContain=" + mustNotContain +
                 ", pattern=" + pattern);
 
-        List<String> suggestions = new ArrayList<>();
-
-        for (String word : words) {
-            boolean valid = true;
+        long[] matches = index.newFullSet();
 
-            for (char c : mustContain) {
-                if (word.indexOf(c) == -1) {
-                    valid = false;
-                    break;
-                }
+        for (char c : mustContain) {
+            int letter = WordCodec.letterIndex(c);
+            if (letter < 0) {
+                WordIndex.clear(matches);
+                break;
             }
+            index.retainContaining(matches, letter);
+        }
 
-            if (!valid) continue;
-
-            for (char c : mustNotContain) {
-                if (word.indexOf(c) != -1) {
-                    valid = false;
-                    break;
-                }
+        for (char c : mustNotContain) {
+            int letter = WordCodec.letterIndex(c);
+            if (letter >= 0) {
+                index.removeContaining(matches, letter);
             }
+        }
 
-            if (!valid) continue;
+        if (pattern != null && pattern.length() == WordleGame.WORD_LENGTH) {
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+                char patternChar = pattern.charAt(i);
+                if (patternChar == '_') continue;
 
-            if (pattern != null && pattern.length() == WordleGame.WORD_LENGTH) {
-                for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
-                    char patternChar = pattern.charAt(i);
-                    if (patternChar != '_' && word.charAt(i) != patternChar) {
-                        valid = false;
-                        break;
-                    }
+                int letter = WordCodec.letterIndex(patternChar);
+                if (letter < 0) {
+                    WordIndex.clear(matches);
+                    break;
                 }
-            }
-
-            if (valid) {
-                suggestions.add(word);
+                index.retainAt(matches, i, letter);
             }
         }
 
-        logMessage("Найдено предложений: " + suggestions.size());
+        List<String> suggestions = WordIndex.toWords(matches, words);
+        log.debug(() -> "Найдено предложений: " + suggestions.size());
         return suggestions;
     }
 
@@ -188,94 +479,198 @@ public class WordleDictionary {
                                                  Set<Character> mustNotContain,
                                                  Map<Integer, Character> correctPositions,
                                                  Map<Integer, Set<Character>> wrongPositions) {
-        logMessage("Оптимизированный поиск предложений: mustContain=" + mustContain +
+        long start = System.nanoTime();
+        try {
+            return suggest(mustContain, mustNotContain, correctPositions, wrongPositions);
+        } finally {
+            WordleMetrics.FIND_SUGGESTIONS_OPTIMIZED.recordSince(start);
+        }
+    }
+
+    private List<String> suggest(Set<Character> mustContain,
+                                 Set<Character> mustNotContain,
+                                 Map<Integer, Character> correctPositions,
+                                 Map<Integer, Set<Character>> wrongPositions) {
+        log.debug(() -> "Оптимизированный поиск предложений: mustContain=" + mustContain +
                 ", mustNotContain=" + mustNotContain +
                 ", correctPositions=" + correctPositions +
                 ", wrongPositions=" + wrongPositions);
 
-        List<String> suggestions = new ArrayList<>();
-
-        for (String word : words) {
-            boolean valid = true;
+        long[] matches = index.newFullSet();
 
-            for (char c : mustContain) {
-                if (word.indexOf(c) == -1) {
-                    valid = false;
-                    break;
-                }
+        for (char c : mustContain) {
+            int letter = WordCodec.letterIndex(c);
+            if (letter < 0) {
+                WordIndex.clear(matches);
+                break;
             }
+            index.retainContaining(matches, letter);
+        }
 
-            if (!valid) continue;
-
-            for (char c : mustNotContain) {
-                if (word.indexOf(c) != -1) {
-                    valid = false;
-                    break;
-                }
+        for (char c : mustNotContain) {
+            int letter = WordCodec.letterIndex(c);
+            if (letter >= 0) {
+                index.removeContaining(matches, letter);
             }
+        }
 
-            if (!valid) continue;
-
-            for (Map.Entry<Integer, Character> entry : correctPositions.entrySet()) {
-                int pos = entry.getKey();
-                char expectedChar = entry.getValue();
-                if (pos < 0 || pos >= WordleGame.WORD_LENGTH || word.charAt(pos) != expectedChar) {
-                    valid = false;
-                    break;
-                }
+        for (Map.Entry<Integer, Character> entry : correctPositions.entrySet()) {
+            int pos = entry.getKey();
+            int letter = WordCodec.letterIndex(entry.getValue());
+            if (pos < 0 || pos >= WordleGame.WORD_LENGTH || letter < 0) {
+                WordIndex.clear(matches);
+                break;
             }
+            index.retainAt(matches, pos, letter);
+        }
 
-            if (!valid) continue;
+        for (Map.Entry<Integer, Set<Character>> entry : wrongPositions.entrySet()) {
+            int pos = entry.getKey();
+            if (pos < 0 || pos >= WordleGame.WORD_LENGTH) continue;
 
-            for (Map.Entry<Integer, Set<Character>> entry : wrongPositions.entrySet()) {
-                int pos = entry.getKey();
-                Set<Character> forbiddenChars = entry.getValue();
-                if (pos >= 0 && pos < WordleGame.WORD_LENGTH && forbiddenChars.contains(word.charAt(pos))) {
-                    valid = false;
-                    break;
+            for (char c : entry.getValue()) {
+                int letter = WordCodec.letterIndex(c);
+                if (letter >= 0) {
+                    index.removeAt(matches, pos, letter);
                 }
             }
-
-            if (valid) {
-                suggestions.add(word);
-            }
         }
 
-        logMessage("Найдено предложений (оптимизировано): " + suggestions.size());
+        List<String> suggestions = WordIndex.toWords(matches, words);
+        log.debug(() -> "Найдено предложений (оптимизировано): " + suggestions.size());
         return suggestions;
     }
 
-    public Map<Character, Integer> getLetterFrequency() {
-        logMessage("Вычисление частоты букв");
+    // Слова, совместимые с ограничениями, в порядке словаря
+    public List<String> findMatching(WordConstraints constraints) {
+        if (constraints == null) throw new IllegalArgumentException("Ограничения не могут быть null");
+        return WordIndex.toWords(matchingSet(constraints), words);
+    }
+
+    // Битовое множество слов, совместимых с ограничениями. Маски позиций и обязательные буквы
+    // отсекаются пересечениями по индексу; точное число повторов проверяется только у оставшихся.
+    long[] matchingSet(WordConstraints constraints) {
+        long[] matches = index.newFullSet();
+
+        int absent = constraints.getAbsentMask();
+        for (int letters = absent; letters != 0; letters &= letters - 1) {
+            index.removeContaining(matches, Integer.numberOfTrailingZeros(letters));
+        }
+
+        for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+            int allowed = constraints.getAllowedMask(pos);
+            if (constraints.isFixed(pos)) {
+                index.retainAt(matches, pos, Integer.numberOfTrailingZeros(allowed));
+                continue;
+            }
+            for (int letters = ~allowed & ~absent; letters != 0; letters &= letters - 1) {
+                index.removeAt(matches, pos, Integer.numberOfTrailingZeros(letters));
+            }
+        }
 
-        if (cachedFrequency == null) {
-            cachedFrequency = new HashMap<>();
-            for (String word : words) {
-                for (char c : word.toCharArray()) {
-                    cachedFrequency.put(c, cachedFrequency.getOrDefault(c, 0) + 1);
+        for (int letters = constraints.getPresentMask(); letters != 0; letters &= letters - 1) {
+            index.retainContaining(matches, Integer.numberOfTrailingZeros(letters));
+        }
+
+        if (constraints.isCountLimited()) {
+            for (int word = 0; word < matches.length; word++) {
+                long bits = matches[word];
+                while (bits != 0) {
+                    int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    if (!constraints.matches(packedWords[i])) {
+                        matches[word] &= ~(1L << i);
+                    }
+                    bits &= bits - 1;
                 }
             }
-            logMessage("Частота букв вычислена: " + cachedFrequency.size() + " уникальных букв");
         }
-        return new HashMap<>(cachedFrequency);
+        return matches;
+    }
+
+    // Частоты считаются при создании словаря; возвращается неизменяемое представление без копирования
+    public Map<Character, Integer> getLetterFrequency() {
+        return letterFrequency;
     }
 
     public List<Character> getMostCommonLetters() {
-        logMessage("Поиск самых частых букв");
+        return mostCommonLetters;
+    }
+
+    // Число вхождений буквы во все слова словаря
+    public int getLetterCount(char letter) {
+        int index = WordCodec.letterIndex(letter == 'ё' ? 'е' : letter);
+        return index < 0 ? 0 : frequency.count(index);
+    }
 
-        Map<Character, Integer> freq = getLetterFrequency();
-        List<Map.Entry<Character, Integer>> entries = new ArrayList<>(freq.entrySet());
-        entries.sort((a, b) -> b.getValue().compareTo(a.getValue()));
+    // Число слов словаря с этой буквой в этой позиции
+    public int getLetterCount(int position, char letter) {
+        if (position < 0 || position >= WordleGame.WORD_LENGTH) {
+            throw new IllegalArgumentException("Некорректная позиция: " + position);
+        }
+        int index = WordCodec.letterIndex(letter == 'ё' ? 'е' : letter);
+        return index < 0 ? 0 : frequency.count(position, index);
+    }
 
-        List<Character> result = new ArrayList<>();
-        for (int i = 0; i < Math.min(MOST_COMMON_LETTERS_COUNT, entries.size()); i++) {
-            result.add(entries.get(i).getKey());
+    // Частотная оценка слова: чем чаще его буквы встречаются в словаре, в том числе на тех же
+    // позициях, тем больше слов отсекает такая попытка
+    public long scoreWord(String word) {
+        int code = WordCodec.encodeLoose(word);
+        if (code == WordCodec.INVALID) {
+            throw new IllegalArgumentException("Некорректное слово: " + word);
+        }
+        return frequency.score(code);
+    }
+
+    long scoreWord(int packedWord) {
+        return frequency.score(packedWord);
+    }
+
+    // k слов словаря с наибольшей частотной оценкой, от лучшего к худшему
+    public List<String> getTopWords(int k) {
+        if (k <= 0) throw new IllegalArgumentException("Число слов должно быть положительным: " + k);
+        if (packedWords.length == 0) return List.of();
+
+        TopK top = new TopK(Math.min(k, packedWords.length));
+        for (int i = 0; i < packedWords.length; i++) {
+            top.offer(i, frequency.score(packedWords[i]));
         }
 
-        logMessage("Самые частые буквы (первые " + MOST_COMMON_LETTERS_COUNT + "): " + result);
+        int[] best = new int[top.capacity()];
+        int count = top.drain(best);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(words.get(best[i]));
+        }
         return result;
     }
 
+    // Лучшие по частотной оценке из первых count номеров слов indices; без выделения памяти
+    void offerTopWords(int[] indices, int count, TopK top) {
+        for (int i = 0; i < count; i++) {
+            top.offer(indices[i], frequency.score(packedWords[indices[i]]));
+        }
+    }
+
+    public FeedbackMatrix buildFeedbackMatrix() {
+        log.info("Построение матрицы подсказок " + words.size() + "×" + words.size());
+        return FeedbackMatrix.build(this);
+    }
+
+    public FeedbackMatrix loadFeedbackMatrix(Path cacheFile) throws IOException {
+        log.info("Загрузка матрицы подсказок из: " + cacheFile.toAbsolutePath());
+        return FeedbackMatrix.load(this, cacheFile);
+    }
+
+    // Копия позиционных частот: [позиция × ALPHABET_SIZE + буква]
+    int[] positionalCounts() {
+        return frequency.positionalCopy();
+    }
+
+    // Контрольная сумма упакованного списка слов с учётом порядка
+    public long getChecksum() {
+        return checksum;
+    }
+
     public int size() {
         return words.size();
     }
@@ -284,10 +679,30 @@ public class WordleDictionary {
         return words.isEmpty();
     }
 
-    private void logMessage(String message) {
-        if (log != null) {
-            log.println("[Dictionary] " + message);
-            log.flush();
+    private static Map<Character, Integer> frequencyMap(LetterFrequency frequency) {
+        Map<Character, Integer> map = new HashMap<>();
+        for (int letter = 0; letter < WordCodec.ALPHABET_SIZE; letter++) {
+            if (frequency.count(letter) > 0) {
+                map.put(WordCodec.letterChar(letter), frequency.count(letter));
+            }
         }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static List<Character> mostCommonLetters(LetterFrequency frequency) {
+        int[] letters = frequency.lettersByFrequency();
+        List<Character> result = new ArrayList<>();
+        for (int i = 0; i < Math.min(MOST_COMMON_LETTERS_COUNT, letters.length); i++) {
+            result.add(WordCodec.letterChar(letters[i]));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static long computeChecksum(int[] packedWords) {
+        ByteBuffer buffer = ByteBuffer.allocate(packedWords.length * Integer.BYTES);
+        buffer.asIntBuffer().put(packedWords);
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        return crc.getValue();
     }
 }
\ No newline at end of file
@@ -1,23 +1,39 @@
 package ru.yandex.practicum;
 
-import java.io.BufferedReader;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.LatencyHistogram;
+import ru.yandex.practicum.metrics.WordleMetrics;
+
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class WordleDictionaryLoader {
-    private final PrintWriter log;
+    private final WordleLogger rootLog;
+    private final WordleLogger log;
 
     public WordleDictionaryLoader(PrintWriter log) {
-        this.log = log;
+        this(WordleLogger.of(log));
+    }
+
+    public WordleDictionaryLoader(WordleLogger log) {
+        if (log == null) throw new IllegalArgumentException("Логгер не может быть null");
+        this.rootLog = log;
+        this.log = log.forComponent("Loader");
     }
 
     public WordleDictionary loadDictionary(String filename) throws IOException {
+        long start = System.nanoTime();
+        WordleDictionary dictionary = withAnswers(Paths.get(filename), parse(filename));
+        recordLoad(WordleMetrics.LOAD_DICTIONARY, start, dictionary);
+        return dictionary;
+    }
+
+    private WordleDictionary parse(String filename) throws IOException {
         Path path = Paths.get(filename);
-        logMessage("Попытка загрузки словаря из: " + path.toAbsolutePath());
-        logMessage("Ожидаемая длина слова: " + WordleGame.WORD_LENGTH);
+        log.info("Попытка загрузки словаря из: " + path.toAbsolutePath());
+        log.info("Ожидаемая длина слова: " + WordleGame.WORD_LENGTH);
 
         if (!Files.exists(path)) {
             throw new IOException("Файл не найден: " + path.toAbsolutePath());
@@ -27,44 +43,74 @@ public class WordleDictionaryLoader {
             throw new IOException("Нет прав на чтение: " + path.toAbsolutePath());
         }
 
-        Set<String> wordSet = new LinkedHashSet<>();
-
-        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-            String line;
-            int lineCount = 0;
-            int validCount = 0;
-
-            while ((line = reader.readLine()) != null) {
-                lineCount++;
-                String normalized = WordleDictionary.normalizeWord(line);
-
-                if (normalized.length() == WordleGame.WORD_LENGTH && normalized.matches("[а-я]+")) {
-                    if (wordSet.add(normalized)) {
-                        validCount++;
-                    }
-                } else if (!normalized.isBlank()) {
-                    logMessage("  Пропущено: " + line + " (длина: " + normalized.length() +
-                            ", требуется: " + WordleGame.WORD_LENGTH + ")");
-                }
-            }
+        boolean trace = log.isDebugEnabled();
+        WordFileParser.Result result = WordFileParser.parse(path, trace);
 
-            logMessage("Загружено строк: " + lineCount +
-                    ", валидных слов: " + validCount +
-                    ", уникальных: " + wordSet.size());
+        if (trace) {
+            for (String line : result.skippedLines()) {
+                log.debug(() -> "  Пропущено: " + line + " (требуется " + WordleGame.WORD_LENGTH + " русских букв)");
+            }
         }
+        log.info("Загружено непустых строк: " + result.lineCount() +
+                ", валидных слов: " + result.validCount() +
+                ", уникальных: " + result.words().length);
 
-        if (wordSet.isEmpty()) {
+        if (result.words().length == 0) {
             throw new IOException("Файл не содержит ни одного корректного " +
                     WordleGame.WORD_LENGTH + "-буквенного слова.");
         }
 
-        return new WordleDictionary(new ArrayList<>(wordSet), log);
+        return new WordleDictionary(result.words(), null, rootLog);
+    }
+
+    // Быстрый старт: словарь из бинарного снимка рядом с файлом. Если снимка нет или он
+    // устарел, словарь читается из текста, а снимок пересобирается для следующих запусков.
+    public WordleDictionary loadCompiled(String filename) throws IOException {
+        Path source = Paths.get(filename);
+        Path snapshot = DictionarySnapshot.snapshotFileFor(source);
+
+        long start = System.nanoTime();
+        WordleDictionary dictionary = DictionarySnapshot.open(snapshot, source, rootLog);
+        if (dictionary != null) {
+            dictionary = withAnswers(source, dictionary);
+            recordLoad(WordleMetrics.LOAD_SNAPSHOT, start, dictionary);
+            log.info("Словарь загружен из снимка: " + snapshot.toAbsolutePath());
+            return dictionary;
+        }
+
+        log.info("Снимок словаря отсутствует или устарел: " + snapshot.toAbsolutePath());
+        // Размер, время и CRC32 снимаются до разбора: снимок должен описывать те байты, что были прочитаны
+        DictionarySnapshot.SourceStamp stamp = Files.isRegularFile(source)
+                ? DictionarySnapshot.SourceStamp.of(source)
+                : null;
+        dictionary = loadDictionary(filename);
+        try {
+            if (stamp == null || !stamp.isCurrent(source)) {
+                log.warn("Файл словаря изменился во время чтения, снимок не записан: " + source.toAbsolutePath());
+            } else {
+                DictionarySnapshot.compile(dictionary, stamp, snapshot);
+                log.info("Снимок словаря обновлён: " + snapshot.toAbsolutePath());
+            }
+        } catch (IOException e) {
+            log.warn("Не удалось записать снимок словаря: " + e.getMessage());
+        }
+        return dictionary;
     }
 
-    private void logMessage(String message) {
-        if (log != null) {
-            log.println("[Loader] " + message);
-            log.flush();
+    // Словарь с пулом загадываемых слов из файла рядом с ним, если такой файл есть
+    private WordleDictionary withAnswers(Path source, WordleDictionary dictionary) throws IOException {
+        Path answers = AnswerPool.answersFileFor(source);
+        if (Files.isRegularFile(answers)) {
+            return dictionary.withAnswerPool(AnswerPool.load(answers, dictionary, rootLog));
         }
+        return dictionary;
+    }
+
+    // Неудачные загрузки не учитываются: в гистограмме только время получения готового словаря
+    private static void recordLoad(LatencyHistogram histogram, long start, WordleDictionary dictionary) {
+        long elapsed = System.nanoTime() - start;
+        histogram.record(elapsed);
+        WordleMetrics.DICTIONARY_SIZE.set(dictionary.size());
+        WordleMetrics.DICTIONARY_LOAD_MILLIS.set(TimeUnit.NANOSECONDS.toMillis(elapsed));
     }
-}
\ No newline at end of file
+}
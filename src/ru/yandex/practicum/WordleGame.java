@@ -1,54 +1,119 @@
 package ru.yandex.practicum;
 
+import ru.yandex.practicum.exception.HardModeViolationException;
 import ru.yandex.practicum.exception.InvalidWordException;
 import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.WordleMetrics;
 
 import java.io.PrintWriter;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntToLongFunction;
 
 public class WordleGame {
     private final String answer;
+    private final boolean hardMode;
     private int attemptsRemaining;
     private final WordleDictionary dictionary;
-    private final PrintWriter log;
+    private final WordleLogger log;
 
     private final List<String> guessedWords = new ArrayList<>();
     private final List<String> hints = new ArrayList<>();
+    // Для проверки повторов за O(1); порядок попыток хранит guessedWords
+    private final Set<String> usedWords = new HashSet<>();
 
-    private final Set<Character> correctLetters = new HashSet<>();
-    private final Set<Character> wrongLetters = new HashSet<>();
-    private final Map<Integer, Character> correctPositions = new HashMap<>();
-    private final Map<Integer, Set<Character>> wrongPositions = new HashMap<>();
+    // Известное об ответе; неизменяемый объект, заменяется целиком после каждой попытки
+    private WordConstraints constraints = WordConstraints.NONE;
+
+    // Индексы слов словаря, совместимых со всеми полученными подсказками, в порядке словаря.
+    // До первой попытки подходят все слова, и массив не создаётся (null).
+    private int[] candidates;
+    private int candidateCount;
+
+    private GameEventListener listener = GameEventListener.NONE;
 
     public static final int MAX_ATTEMPTS = 6;
     public static final int WORD_LENGTH = 5;
 
     public WordleGame(WordleDictionary dictionary, PrintWriter log) {
+        this(dictionary, log == null ? null : WordleLogger.of(log));
+    }
+
+    public WordleGame(WordleDictionary dictionary, WordleLogger log) {
+        this(dictionary, log, false);
+    }
+
+    // hardMode — сложный режим: каждая попытка обязана учитывать все полученные подсказки
+    public WordleGame(WordleDictionary dictionary, WordleLogger log, boolean hardMode) {
+        this(dictionary, dictionary == null ? null : dictionary.getRandomWord(), log, hardMode);
+    }
+
+    // Игра с заранее выбранным ответом: для бенчмарков и симуляций
+    public WordleGame(WordleDictionary dictionary, String answer, WordleLogger log) {
+        this(dictionary, answer, log, false);
+    }
+
+    public WordleGame(WordleDictionary dictionary, String answer, WordleLogger log, boolean hardMode) {
         if (dictionary == null) throw new IllegalArgumentException("Словарь не может быть null");
         if (log == null) throw new IllegalArgumentException("Логгер не может быть null");
+        if (!dictionary.contains(answer)) {
+            throw new IllegalArgumentException("Загаданного слова нет в словаре: " + answer);
+        }
 
         this.dictionary = dictionary;
         this.log = log;
-        this.answer = dictionary.getRandomWord();
+        this.answer = WordleDictionary.normalizeWord(answer);
+        this.hardMode = hardMode;
         this.attemptsRemaining = MAX_ATTEMPTS;
 
-        for (int i = 0; i < WORD_LENGTH; i++) {
-            wrongPositions.put(i, new HashSet<>());
-        }
+        WordleMetrics.GAMES_STARTED.increment();
+
+        log.info(() -> "=".repeat(50));
+        log.info("Игра началась");
+        log.debug(() -> "Загаданное слово: " + answer);
+        log.info(() -> "Попыток: " + MAX_ATTEMPTS);
+        log.info(() -> "Сложный режим: " + (hardMode ? "да" : "нет"));
+        log.info(() -> "Размер словаря: " + dictionary.size());
+        log.info(() -> "=".repeat(50));
+    }
+
+    // Восстановление из снимка (GameSnapshot.restore): попытки уже проверены при записи снимка,
+    // поэтому применяются без проверок, метрик и уведомлений наблюдателя
+    WordleGame(WordleDictionary dictionary, GameSnapshot snapshot, WordleLogger log) {
+        this.dictionary = dictionary;
+        this.log = log;
+        this.answer = WordleDictionary.normalizeWord(dictionary.getWord(snapshot.getAnswerIndex()));
+        this.hardMode = snapshot.isHardMode();
+        this.attemptsRemaining = MAX_ATTEMPTS;
 
-        log.println("=".repeat(50));
-        log.println("Игра началась");
-        log.println("Загаданное слово: " + answer);
-        log.println("Попыток: " + MAX_ATTEMPTS);
-        log.println("Размер словаря: " + dictionary.size());
-        log.println("=".repeat(50));
+        for (int i = 0; i < snapshot.getGuessCount(); i++) {
+            int guess = snapshot.getGuess(i);
+            accept(WordCodec.decode(guess), guess, snapshot.getFeedback(i));
+        }
+        log.debug(() -> "Игра восстановлена из снимка, сделано попыток: " + guessedWords.size());
     }
 
     public String checkWord(String word) throws WordNotFoundInDictionaryException,
             InvalidWordException {
+        long start = System.nanoTime();
+        boolean accepted = false;
+        try {
+            String hint = check(word);
+            accepted = true;
+            return hint;
+        } finally {
+            WordleMetrics.CHECK_WORD.recordSince(start);
+            if (!accepted) {
+                WordleMetrics.GUESSES_REJECTED.increment();
+            }
+        }
+    }
+
+    private String check(String word) throws WordNotFoundInDictionaryException, InvalidWordException {
         String normalizedWord = WordleDictionary.normalizeWord(word);
 
-        if (guessedWords.contains(normalizedWord)) {
+        if (usedWords.contains(normalizedWord)) {
             throw new InvalidWordException("Это слово уже было использовано: " + normalizedWord);
         }
 
@@ -58,101 +123,220 @@ public class WordleGame {
             throw new WordNotFoundInDictionaryException(normalizedWord);
         }
 
-        String hint = WordleDictionary.analyzeWord(answer, normalizedWord);
-        guessedWords.add(normalizedWord);
-        hints.add(hint);
+        int guess = WordCodec.encode(normalizedWord);
+        if (hardMode) {
+            checkHardMode(guess);
+        }
 
-        updateAnalysis(normalizedWord, hint);
-        attemptsRemaining--;
+        int feedback = WordleDictionary.analyze(WordCodec.encode(answer), guess);
+        String hint = accept(normalizedWord, guess, feedback);
 
-        log.println("Попытка " + (MAX_ATTEMPTS - attemptsRemaining) + "/" + MAX_ATTEMPTS);
-        log.println("Введено: " + normalizedWord);
-        log.println("Результат: " + hint);
-        log.println("Осталось: " + attemptsRemaining);
+        // Попытка уже учтена: сбой наблюдателя (например, закрытого журнала) не должен выглядеть как отказ
+        try {
+            listener.guessAccepted(this, guess, feedback);
+            if (isGameOver()) {
+                listener.gameEnded(this);
+            }
+        } catch (RuntimeException e) {
+            log.error("Наблюдатель партии не принял попытку: " + e);
+        }
+
+        log.debug(() -> "Попытка " + (MAX_ATTEMPTS - attemptsRemaining) + "/" + MAX_ATTEMPTS);
+        log.debug(() -> "Введено: " + normalizedWord);
+        log.debug(() -> "Результат: " + hint);
+        log.debug(() -> "Осталось: " + attemptsRemaining);
 
         return hint;
     }
 
-    private void updateAnalysis(String word, String hint) {
-        for (int i = 0; i < WORD_LENGTH; i++) {
-            char letter = word.charAt(i);
-            char hintChar = hint.charAt(i);
-
-            switch (hintChar) {
-                case '+':
-                    correctLetters.add(letter);
-                    correctPositions.put(i, letter);
-                    wrongPositions.get(i).remove(letter);
-                    break;
-                case '^':
-                    correctLetters.add(letter);
-                    wrongPositions.get(i).add(letter);
-                    break;
-                case '-':
-                    if (!correctLetters.contains(letter)) {
-                        wrongLetters.add(letter);
-                    }
-                    break;
-            }
-        }
-    }
+    // Учитывает проверенную попытку; общий путь для checkWord и восстановления из снимка
+    private String accept(String word, int guess, int feedback) {
+        String hint = Feedback.toPattern(feedback);
+        guessedWords.add(word);
+        usedWords.add(word);
+        hints.add(hint);
 
-    public String getHint() {
-        List<String> allWords = dictionary.getAllWords();
-        List<String> availableWords = new ArrayList<>();
+        constraints = constraints.apply(guess, feedback);
+        narrowCandidates(guess, feedback);
+        attemptsRemaining--;
+        return hint;
+    }
 
-        for (String word : allWords) {
-            if (isWordSuitableForHint(word)) {
-                availableWords.add(word);
+    // Проверка по маскам ограничений: по одной операции на позицию и на известную букву
+    private void checkHardMode(int guess) throws HardModeViolationException {
+        int fixed = constraints.getFixedPositions();
+        for (int pos = 0; pos < WORD_LENGTH; pos++) {
+            if ((fixed & (1 << pos)) != 0
+                    && (constraints.getAllowedMask(pos) & (1 << WordCodec.letterAt(guess, pos))) == 0) {
+                char letter = WordCodec.letterChar(Integer.numberOfTrailingZeros(constraints.getAllowedMask(pos)));
+                throw new HardModeViolationException(HardModeViolationException.Rule.KEEP_CORRECT_LETTER,
+                        "Сложный режим: на позиции " + (pos + 1) + " должна стоять буква '" + letter + "'");
             }
         }
 
-        if (availableWords.isEmpty()) {
-            return null;
+        for (int present = constraints.getPresentMask(); present != 0; present &= present - 1) {
+            int letter = Integer.numberOfTrailingZeros(present);
+            int min = constraints.getMinCount(letter);
+            if (WordCodec.countLetter(guess, letter) < min) {
+                throw new HardModeViolationException(HardModeViolationException.Rule.REUSE_PRESENT_LETTER,
+                        "Сложный режим: слово должно содержать букву '" + WordCodec.letterChar(letter) + "'" +
+                                (min > 1 ? " не меньше " + min + " раз" : ""));
+            }
         }
 
-        return availableWords.get(new Random().nextInt(availableWords.size()));
+        for (int pos = 0; pos < WORD_LENGTH; pos++) {
+            int letter = WordCodec.letterAt(guess, pos);
+            int max = constraints.getMaxCount(letter);
+            if (WordCodec.countLetter(guess, letter) > max) {
+                throw new HardModeViolationException(HardModeViolationException.Rule.EXCLUDE_ABSENT_LETTER, max == 0
+                        ? "Сложный режим: буквы '" + WordCodec.letterChar(letter) + "' нет в слове"
+                        : "Сложный режим: буква '" + WordCodec.letterChar(letter) + "' встречается в слове только " +
+                                max + " раз");
+            }
+        }
     }
 
-    private boolean isWordSuitableForHint(String word) {
-        // 1. Не использовалось ранее и не является ответом
-        if (guessedWords.contains(word) || word.equals(answer)) {
-            return false;
+    // Оставляет только слова, для которых попытка дала бы ту же подсказку
+    private void narrowCandidates(int guess, int feedback) {
+        if (candidates == null) {
+            // Первая попытка: весь словарь проверяется одним пакетом
+            int[] words = dictionary.packedWords();
+            byte[] feedbacks = new byte[words.length];
+            WordleDictionary.analyzeBatch(guess, words, feedbacks);
+
+            // Массив кандидатов живёт всю партию, поэтому он ровно по числу подошедших слов
+            int kept = 0;
+            for (byte value : feedbacks) {
+                if ((value & 0xFF) == feedback) {
+                    kept++;
+                }
+            }
+            int[] target = new int[kept];
+            int position = 0;
+            for (int i = 0; position < kept; i++) {
+                if ((feedbacks[i] & 0xFF) == feedback) {
+                    target[position++] = i;
+                }
+            }
+            candidates = target;
+            candidateCount = kept;
+            return;
         }
 
-        // 2. Не должно содержать букв, которых точно нет в загаданном слове
-        for (char c : wrongLetters) {
-            if (word.indexOf(c) != -1) {
-                return false;
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int index = candidates[i];
+            if (WordleDictionary.analyze(dictionary.getPackedWord(index), guess) == feedback) {
+                candidates[kept++] = index;
             }
         }
+        candidateCount = kept;
+        if (kept < candidates.length / 4) {
+            candidates = Arrays.copyOf(candidates, kept);
+        }
+    }
 
-        // 3. Должно содержать все буквы, которые точно есть в загаданном слове
-        for (char c : correctLetters) {
-            if (word.indexOf(c) == -1) {
-                return false;
+    // Случайное слово, совместимое со всеми подсказками, кроме самого ответа
+    public String getHint() {
+        long start = System.nanoTime();
+        try {
+            String hint = pickHint();
+            try {
+                listener.hintGiven(this, hint);
+            } catch (RuntimeException e) {
+                log.error("Наблюдатель партии не принял подсказку: " + e);
             }
+            return hint;
+        } finally {
+            WordleMetrics.GET_HINT.recordSince(start);
         }
+    }
 
-        // 4. Буквы на известных правильных позициях должны совпадать
-        for (Map.Entry<Integer, Character> entry : correctPositions.entrySet()) {
-            int pos = entry.getKey();
-            char expected = entry.getValue();
-            if (word.charAt(pos) != expected) {
-                return false;
+    private String pickHint() {
+        int answerCode = WordCodec.encode(answer);
+        int count = getRemainingCandidateCount();
+        if (count == 0 || (count == 1 && dictionary.getPackedWord(candidateAt(0)) == answerCode)) {
+            return null;
+        }
+
+        // Ответ встречается среди кандидатов не более одного раза, поэтому повтор выбора редок
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            int index = candidateAt(random.nextInt(count));
+            if (dictionary.getPackedWord(index) != answerCode) {
+                return dictionary.getWord(index);
             }
         }
+    }
 
-        // 5. Буквы не должны быть на известных неправильных позициях
-        for (Map.Entry<Integer, Set<Character>> entry : wrongPositions.entrySet()) {
-            int pos = entry.getKey();
-            Set<Character> forbidden = entry.getValue();
-            if (forbidden.contains(word.charAt(pos))) {
-                return false;
+    // До k лучших по оценке scorer слов, совместимых со всеми подсказками, кроме самого ответа.
+    // Кандидаты проходят через кучу размера k, весь список не строится и не сортируется.
+    public List<String> getRankedHints(int k, HintScorer scorer) {
+        if (k <= 0) throw new IllegalArgumentException("Число подсказок должно быть положительным: " + k);
+        if (scorer == null) throw new IllegalArgumentException("Способ оценки не может быть null");
+
+        long start = System.nanoTime();
+        try {
+            int count = getRemainingCandidateCount();
+            int[] indices = candidates == null ? dictionary.allIndices() : candidates;
+            IntToLongFunction score = scorer.prepare(dictionary, indices, count);
+
+            int answerCode = WordCodec.encode(answer);
+            TopK top = new TopK(k);
+            for (int i = 0; i < count; i++) {
+                int index = indices[i];
+                if (dictionary.getPackedWord(index) != answerCode) {
+                    top.offer(index, score.applyAsLong(index));
+                }
             }
+
+            int[] best = new int[k];
+            int found = top.drain(best);
+            List<String> hints = new ArrayList<>(found);
+            for (int i = 0; i < found; i++) {
+                hints.add(dictionary.getWord(best[i]));
+            }
+            return hints;
+        } finally {
+            WordleMetrics.GET_RANKED_HINTS.recordSince(start);
+        }
+    }
+
+    public List<String> getRankedHints(int k) {
+        return getRankedHints(k, HintScorer.POSITIONAL_FREQUENCY);
+    }
+
+    public int getRemainingCandidateCount() {
+        return candidates == null ? dictionary.size() : candidateCount;
+    }
+
+    // Кандидат с номером position (0 .. getRemainingCandidateCount() - 1) в порядке словаря
+    public String getRemainingCandidate(int position) {
+        if (position < 0 || position >= getRemainingCandidateCount()) {
+            throw new IllegalArgumentException("Нет кандидата с номером " + position);
+        }
+        return dictionary.getWord(candidateAt(position));
+    }
+
+    // Копия индексов слов-кандидатов в порядке словаря
+    int[] getCandidateIndices() {
+        if (candidates == null) {
+            return dictionary.allIndices().clone();
         }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    private int candidateAt(int position) {
+        return candidates == null ? position : candidates[position];
+    }
+
+    // Ранжированные подсказки (getRankedHints) наблюдателю не передаются: их запрашивают на каждое нажатие
+    public void setEventListener(GameEventListener listener) {
+        this.listener = listener == null ? GameEventListener.NONE : listener;
+    }
 
-        return true;
+    public boolean isHardMode() {
+        return hardMode;
     }
 
     public boolean isWordGuessed() {
@@ -167,6 +351,10 @@ public class WordleGame {
         return answer;
     }
 
+    WordleDictionary getDictionary() {
+        return dictionary;
+    }
+
     public int getAttemptsRemaining() {
         return attemptsRemaining;
     }
@@ -179,34 +367,46 @@ public class WordleGame {
         return new ArrayList<>(hints);
     }
 
+    // Компактная копия состояния для приостановки партии (см. GameSnapshot)
+    public GameSnapshot snapshot() {
+        int[] guesses = new int[guessedWords.size()];
+        int[] feedbacks = new int[guesses.length];
+        for (int i = 0; i < guesses.length; i++) {
+            guesses[i] = WordCodec.encode(guessedWords.get(i));
+            feedbacks[i] = Feedback.fromPattern(hints.get(i));
+        }
+        return new GameSnapshot(dictionary.getChecksum(), dictionary.indexOf(answer), hardMode, guesses, feedbacks);
+    }
+
+    public WordConstraints getConstraints() {
+        return constraints;
+    }
+
+    // Коллекции ниже — неизменяемые представления над constraints
+
     public Set<Character> getCorrectLetters() {
-        return new HashSet<>(correctLetters);
+        return constraints.getPresentLetters();
     }
 
     public Set<Character> getWrongLetters() {
-        return new HashSet<>(wrongLetters);
+        return constraints.getAbsentLetters();
     }
 
     public Map<Integer, Character> getCorrectPositions() {
-        return new HashMap<>(correctPositions);
+        return constraints.getFixedLetters();
     }
 
     public Map<Integer, Set<Character>> getWrongPositions() {
-        Map<Integer, Set<Character>> copy = new HashMap<>();
-        for (Map.Entry<Integer, Set<Character>> entry : wrongPositions.entrySet()) {
-            copy.put(entry.getKey(), new HashSet<>(entry.getValue()));
-        }
-        return copy;
+        return constraints.getMisplacedLetters();
     }
 
     // метод для отображения текущего паттерна
     public String getCurrentPattern() {
         char[] pattern = new char[WORD_LENGTH];
         Arrays.fill(pattern, '_');
-        for (Map.Entry<Integer, Character> entry : correctPositions.entrySet()) {
-            int pos = entry.getKey();
-            if (pos >= 0 && pos < WORD_LENGTH) {
-                pattern[pos] = entry.getValue();
+        for (int pos = 0; pos < WORD_LENGTH; pos++) {
+            if (constraints.isFixed(pos)) {
+                pattern[pos] = WordCodec.letterChar(Integer.numberOfTrailingZeros(constraints.getAllowedMask(pos)));
             }
         }
         return new String(pattern);
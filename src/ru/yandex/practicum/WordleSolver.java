@@ -0,0 +1,224 @@
+package ru.yandex.practicum;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Выбор попытки с максимальным ожидаемым количеством информации (энтропией разбиения
+// оставшихся кандидатов по шаблонам подсказок). Попытки оцениваются параллельно в ForkJoinPool.
+public class WordleSolver {
+    public enum GuessPool {
+        // Только слова, совместимые со всеми полученными подсказками
+        CANDIDATES,
+        // Любое слово словаря, даже заведомо не являющееся ответом
+        DICTIONARY
+    }
+
+    private static final int LEAF_SIZE = 32;
+    // Строка матрицы копируется целиком, только если кандидатов не меньше четверти словаря:
+    // иначе копирование N байт на каждую попытку дороже поэлементного чтения
+    private static final int ROW_COPY_DIVISOR = 4;
+
+    private final WordleDictionary dictionary;
+    private final FeedbackMatrix matrix;
+    private final GuessPool guessPool;
+    private final ForkJoinPool pool;
+
+    // Первый ход не зависит от игры, поэтому вычисляется один раз
+    private volatile int openingGuess = -1;
+
+    public WordleSolver(WordleDictionary dictionary) {
+        this(dictionary, null, GuessPool.DICTIONARY, ForkJoinPool.commonPool());
+    }
+
+    public WordleSolver(WordleDictionary dictionary, FeedbackMatrix matrix, GuessPool guessPool, ForkJoinPool pool) {
+        if (dictionary == null) throw new IllegalArgumentException("Словарь не может быть null");
+        if (guessPool == null) throw new IllegalArgumentException("Набор попыток не может быть null");
+        if (pool == null) throw new IllegalArgumentException("Пул потоков не может быть null");
+        if (matrix != null && matrix.getChecksum() != dictionary.getChecksum()) {
+            throw new IllegalArgumentException("Матрица подсказок построена для другого словаря");
+        }
+
+        this.dictionary = dictionary;
+        this.matrix = matrix;
+        this.guessPool = guessPool;
+        this.pool = pool;
+    }
+
+    public String bestGuess(WordleGame game) {
+        if (game.getDictionary() != dictionary) {
+            throw new IllegalArgumentException("Игра использует другой словарь");
+        }
+
+        List<String> guessedWords = game.getGuessedWords();
+        if (guessedWords.isEmpty() && openingGuess >= 0) {
+            return dictionary.getWord(openingGuess);
+        }
+
+        int[] candidates = game.getCandidateIndices();
+        int best = bestGuessIndex(candidates);
+        if (best < 0) {
+            return null;
+        }
+
+        if (guessedWords.isEmpty()) {
+            openingGuess = best;
+        }
+        return dictionary.getWord(best);
+    }
+
+    // Индекс лучшей попытки для заданных кандидатов или -1, если кандидатов нет
+    public int bestGuessIndex(int[] candidates) {
+        if (candidates.length <= 2) {
+            return candidates.length == 0 ? -1 : candidates[0];
+        }
+
+        long[] candidateSet = new long[(dictionary.size() + Long.SIZE - 1) / Long.SIZE];
+        for (int candidate : candidates) {
+            candidateSet[candidate >>> 6] |= 1L << candidate;
+        }
+
+        int[] candidateWords = packed(candidates);
+        int[] guesses = guessPool == GuessPool.CANDIDATES ? candidates : null;
+        int guessCount = guesses != null ? guesses.length : dictionary.size();
+        Scored best = pool.invoke(new GuessTask(candidates, candidateWords, candidateSet, guesses, 0, guessCount));
+        return best.index;
+    }
+
+    // Индексы слов словаря, дающих те же подсказки, что получены в игре
+    public int[] findCandidates(List<String> guessedWords, List<String> hints) {
+        int count = guessedWords.size();
+        int[] guessCodes = new int[count];
+        int[] feedbacks = new int[count];
+        for (int i = 0; i < count; i++) {
+            guessCodes[i] = WordCodec.encode(guessedWords.get(i));
+            feedbacks[i] = Feedback.fromPattern(hints.get(i));
+        }
+
+        int[] candidates = new int[dictionary.size()];
+        int found = 0;
+        for (int index = 0; index < dictionary.size(); index++) {
+            int secret = dictionary.getPackedWord(index);
+            boolean consistent = true;
+            for (int i = 0; i < count && consistent; i++) {
+                consistent = WordleDictionary.analyze(secret, guessCodes[i]) == feedbacks[i];
+            }
+            if (consistent) {
+                candidates[found++] = index;
+            }
+        }
+        return Arrays.copyOf(candidates, found);
+    }
+
+    // Ожидаемое количество информации в битах, которое даст попытка
+    public double expectedInformation(int guessIndex, int[] candidates) {
+        int[] counts = new int[Feedback.PATTERN_COUNT];
+        return entropy(guessIndex, candidates, packed(candidates), counts, newRow(candidates));
+    }
+
+    private int[] packed(int[] indices) {
+        int[] words = new int[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            words[i] = dictionary.getPackedWord(indices[i]);
+        }
+        return words;
+    }
+
+    // Буфер подсказок: строка матрицы целиком, по одной подсказке на кандидата
+    // или пустой, если подсказки читаются из матрицы поэлементно
+    private byte[] newRow(int[] candidates) {
+        if (matrix == null) {
+            return new byte[candidates.length];
+        }
+        return new byte[copiesRows(candidates) ? matrix.size() : 0];
+    }
+
+    private boolean copiesRows(int[] candidates) {
+        return (long) candidates.length * ROW_COPY_DIVISOR >= matrix.size();
+    }
+
+    private double entropy(int guessIndex, int[] candidates, int[] candidateWords, int[] counts, byte[] row) {
+        Arrays.fill(counts, 0);
+
+        if (matrix != null && row.length == matrix.size()) {
+            matrix.copyRow(guessIndex, row);
+            for (int candidate : candidates) {
+                counts[row[candidate] & 0xFF]++;
+            }
+        } else if (matrix != null) {
+            for (int candidate : candidates) {
+                counts[matrix.feedback(guessIndex, candidate)]++;
+            }
+        } else {
+            WordleDictionary.analyzeBatch(dictionary.getPackedWord(guessIndex), candidateWords, row);
+            for (byte feedback : row) {
+                counts[feedback & 0xFF]++;
+            }
+        }
+
+        double sum = 0;
+        for (int count : counts) {
+            if (count > 1) {
+                sum += count * Math.log(count);
+            }
+        }
+        int n = candidates.length;
+        return (Math.log(n) - sum / n) / Math.log(2);
+    }
+
+    private record Scored(int index, double entropy, boolean candidate) {
+        boolean isBetterThan(Scored other) {
+            if (other == null) return true;
+            if (entropy != other.entropy) return entropy > other.entropy;
+            if (candidate != other.candidate) return candidate;
+            return index < other.index;
+        }
+    }
+
+    private final class GuessTask extends RecursiveTask<Scored> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] candidates;
+        private final int[] candidateWords;
+        private final long[] candidateSet;
+        private final int[] guesses;
+        private final int from;
+        private final int to;
+
+        GuessTask(int[] candidates, int[] candidateWords, long[] candidateSet, int[] guesses, int from, int to) {
+            this.candidates = candidates;
+            this.candidateWords = candidateWords;
+            this.candidateSet = candidateSet;
+            this.guesses = guesses;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Scored compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                GuessTask left = new GuessTask(candidates, candidateWords, candidateSet, guesses, from, middle);
+                left.fork();
+                Scored right = new GuessTask(candidates, candidateWords, candidateSet, guesses, middle, to).compute();
+                Scored leftResult = left.join();
+                return right.isBetterThan(leftResult) ? right : leftResult;
+            }
+
+            int[] counts = new int[Feedback.PATTERN_COUNT];
+            byte[] row = newRow(candidates);
+            Scored best = null;
+            for (int i = from; i < to; i++) {
+                int guessIndex = guesses != null ? guesses[i] : i;
+                boolean candidate = (candidateSet[guessIndex >>> 6] & (1L << guessIndex)) != 0;
+                double entropy = entropy(guessIndex, candidates, candidateWords, counts, row);
+                Scored scored = new Scored(guessIndex, entropy, candidate);
+                if (scored.isBetterThan(best)) {
+                    best = scored;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package ru.yandex.practicum.exception;
+
+// Попытка в сложном режиме не использует уже открытые подсказки
+public class HardModeViolationException extends InvalidWordException {
+    private static final long serialVersionUID = 1L;
+
+    public enum Rule {
+        // Буква, угаданная на своём месте ('+'), должна стоять там же
+        KEEP_CORRECT_LETTER,
+        // Буква, найденная в слове ('^' или '+'), должна быть использована не меньше раз
+        REUSE_PRESENT_LETTER,
+        // Буква, которой нет в слове ('-'), не может быть использована (или использована сверх известного числа)
+        EXCLUDE_ABSENT_LETTER
+    }
+
+    private final Rule rule;
+
+    public HardModeViolationException(Rule rule, String message) {
+        super(message);
+        this.rule = rule;
+    }
+
+    public Rule getRule() {
+        return rule;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.yandex.practicum.exception;
+
+public class SessionNotFoundException extends WordleGameException {
+    private static final long serialVersionUID = 1L;
+
+    private final long sessionId;
+
+    public SessionNotFoundException(long sessionId) {
+        super("Игра не найдена: " + String.format("%016x", sessionId));
+        this.sessionId = sessionId;
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+}
@@ -0,0 +1,328 @@
+package ru.yandex.practicum.journal;
+
+import ru.yandex.practicum.GameEventListener;
+import ru.yandex.practicum.WordCodec;
+import ru.yandex.practicum.WordleGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Двоичный журнал партий: записи фиксированного размера дописываются в сегменты
+// journal-<номер>.wjl, при достижении segmentSize начинается следующий сегмент.
+//
+// Групповая фиксация: append только копирует запись в буфер в памяти. Фоновый поток ждёт
+// до commitInterval, пока наберётся пачка, меняет буферы местами и пишет всю пачку одним
+// write с одним force. flush() дожидается фиксации всего, что было добавлено до вызова.
+public final class GameJournal implements Closeable {
+    // 2^21 записей, 48 МБ
+    public static final long DEFAULT_SEGMENT_SIZE = (1L << 21) * JournalRecord.RECORD_SIZE;
+    public static final long DEFAULT_COMMIT_INTERVAL_MILLIS = 10;
+
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".wjl";
+    static final int MAGIC = 0x574A524E; // "WJRN"
+    static final int VERSION = 1;
+    // Заголовок сегмента размером с запись, чтобы записи оставались выровненными
+    static final int HEADER_SIZE = JournalRecord.RECORD_SIZE;
+
+    private static final int BUFFER_SIZE = 4096 * JournalRecord.RECORD_SIZE;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final long commitIntervalNanos;
+
+    private final Object lock = new Object();
+    // Поля ниже, кроме помеченных, изменяются под lock
+    private ByteBuffer active = ByteBuffer.allocate(BUFFER_SIZE);
+    private long appended;
+    private long committed;
+    private boolean flushRequested;
+    private boolean closed;
+    private IOException failure;
+
+    // Только поток записи
+    private ByteBuffer writing = ByteBuffer.allocate(BUFFER_SIZE);
+    private FileChannel channel;
+    private long segmentIndex;
+    private long segmentPosition;
+
+    private final Thread writer;
+
+    public GameJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_COMMIT_INTERVAL_MILLIS);
+    }
+
+    public GameJournal(Path directory, long segmentSize, long commitIntervalMillis) throws IOException {
+        if (directory == null) throw new IllegalArgumentException("Каталог журнала не может быть null");
+        if (segmentSize < HEADER_SIZE + JournalRecord.RECORD_SIZE || segmentSize > Integer.MAX_VALUE
+                || segmentSize % JournalRecord.RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("Размер сегмента должен быть кратен " + JournalRecord.RECORD_SIZE +
+                    " байтам и не больше 2 ГБ: " + segmentSize);
+        }
+        if (commitIntervalMillis < 0) {
+            throw new IllegalArgumentException("Интервал фиксации не может быть отрицательным: " + commitIntervalMillis);
+        }
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+
+        // Последний сегмент мог оборваться на середине записи, поэтому дописывается всегда новый
+        Files.createDirectories(directory);
+        List<Path> existing = JournalReader.segments(directory);
+        this.segmentIndex = existing.isEmpty() ? 0 : JournalReader.segmentIndex(existing.getLast());
+        openNextSegment();
+
+        this.writer = new Thread(this::writeLoop, "wordle-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Пишет START сразу, а ходы и подсказки партии — по мере игры
+    public void attach(long sessionId, WordleGame game) {
+        append(sessionId, JournalRecord.Type.START, game.isHardMode() ? JournalRecord.FLAG_HARD_MODE : 0, 0,
+                WordCodec.encode(game.getAnswer()));
+        resume(sessionId, game);
+    }
+
+    // Продолжает журнал партии, восстановленной из снимка: START уже записан при её создании
+    public void resume(long sessionId, WordleGame game) {
+        game.setEventListener(new Listener(sessionId));
+    }
+
+    public void append(JournalRecord record) {
+        append(record.sessionId(), record.timeMillis(), record.type(), record.flags(), record.extra(), record.word());
+    }
+
+    void append(long sessionId, JournalRecord.Type type, int flags, int extra, int word) {
+        append(sessionId, System.currentTimeMillis(), type, flags, extra, word);
+    }
+
+    private void append(long sessionId, long timeMillis, JournalRecord.Type type, int flags, int extra, int word) {
+        boolean interrupted = false;
+        synchronized (lock) {
+            // Буфер полон: ждём, пока поток записи заберёт его
+            while (!closed && failure == null && active.remaining() < JournalRecord.RECORD_SIZE) {
+                lock.notifyAll();
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            checkOpen();
+
+            JournalRecord.write(active, sessionId, timeMillis, type.code(), flags, extra, word);
+            appended++;
+            if (active.position() >= BUFFER_SIZE / 2) {
+                lock.notifyAll();
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Дожидается, пока все добавленные до вызова записи окажутся на диске
+    public void flush() throws IOException {
+        boolean interrupted = false;
+        synchronized (lock) {
+            long target = appended;
+            flushRequested = true;
+            lock.notifyAll();
+            while (committed < target && failure == null && writer.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getCommittedCount() {
+        synchronized (lock) {
+            return committed;
+        }
+    }
+
+    // Фиксирует всё добавленное и закрывает текущий сегмент
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+            lock.notifyAll();
+        }
+
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (lock) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private void checkOpen() {
+        if (failure != null) {
+            throw new IllegalStateException("Журнал недоступен после ошибки записи: " + failure.getMessage(), failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Журнал закрыт");
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                long batchEnd;
+                synchronized (lock) {
+                    while (active.position() == 0 && !closed) {
+                        waitQuietly(0);
+                    }
+                    if (active.position() == 0) {
+                        break;
+                    }
+
+                    // Ждём попутчиков, если фиксацию не торопят
+                    long deadline = System.nanoTime() + commitIntervalNanos;
+                    while (!closed && !flushRequested && active.position() < BUFFER_SIZE / 2) {
+                        long left = deadline - System.nanoTime();
+                        if (left <= 0) break;
+                        waitQuietly(left);
+                    }
+
+                    ByteBuffer full = active;
+                    active = writing;
+                    writing = full;
+                    batchEnd = appended;
+                    flushRequested = false;
+                    lock.notifyAll();
+                }
+
+                writeBatch(writing);
+                synchronized (lock) {
+                    committed = batchEnd;
+                    lock.notifyAll();
+                }
+            }
+            channel.close();
+        } catch (IOException e) {
+            synchronized (lock) {
+                failure = e;
+                lock.notifyAll();
+            }
+            try {
+                channel.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+        }
+    }
+
+    // Вызывается под lock
+    private void waitQuietly(long nanos) {
+        try {
+            if (nanos > 0) {
+                TimeUnit.NANOSECONDS.timedWait(lock, nanos);
+            } else {
+                lock.wait();
+            }
+        } catch (InterruptedException e) {
+            // Поток записи останавливается только через close()
+        }
+    }
+
+    private void writeBatch(ByteBuffer batch) throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            if (segmentPosition == segmentSize) {
+                channel.force(false);
+                channel.close();
+                openNextSegment();
+            }
+
+            // Размер сегмента и пачки кратны размеру записи, поэтому запись не разрывается
+            int chunk = (int) Math.min(batch.remaining(), segmentSize - segmentPosition);
+            int limit = batch.limit();
+            batch.limit(batch.position() + chunk);
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            batch.limit(limit);
+            segmentPosition += chunk;
+        }
+        channel.force(false);
+        batch.clear();
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentIndex++;
+        Path path = directory.resolve(JournalReader.segmentName(segmentIndex));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(JournalRecord.RECORD_SIZE)
+                .putInt(WordleGame.WORD_LENGTH)
+                .putLong(System.currentTimeMillis());
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        segmentPosition = HEADER_SIZE;
+    }
+
+    private final class Listener implements GameEventListener {
+        private final long sessionId;
+
+        Listener(long sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void guessAccepted(WordleGame game, int guess, int feedback) {
+            append(sessionId, JournalRecord.Type.GUESS, attemptsMade(game), feedback, guess);
+        }
+
+        @Override
+        public void hintGiven(WordleGame game, String hint) {
+            append(sessionId, JournalRecord.Type.HINT, 0, 0, hint == null ? -1 : WordCodec.encode(hint));
+        }
+
+        @Override
+        public void gameEnded(WordleGame game) {
+            append(sessionId, JournalRecord.Type.END, game.isWordGuessed() ? JournalRecord.FLAG_GUESSED : 0,
+                    attemptsMade(game), 0);
+        }
+
+        private static int attemptsMade(WordleGame game) {
+            return WordleGame.MAX_ATTEMPTS - game.getAttemptsRemaining();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ru.yandex.practicum.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Последовательное чтение журнала: сегменты по порядку отображаются в память и разбираются
+// без создания объектов на запись. Оборванная запись в конце сегмента (сбой при записи)
+// пропускается.
+public final class JournalReader {
+
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(long sessionId, long timeMillis, JournalRecord.Type type, int flags, int extra, int word);
+    }
+
+    private JournalReader() {
+    }
+
+    // Возвращает число прочитанных записей
+    public static long scan(Path directory, RecordVisitor visitor) throws IOException {
+        long records = 0;
+        for (Path segment : segments(directory)) {
+            records += scanSegment(segment, visitor);
+        }
+        return records;
+    }
+
+    public static void forEach(Path directory, Consumer<JournalRecord> consumer) throws IOException {
+        scan(directory, (sessionId, timeMillis, type, flags, extra, word) ->
+                consumer.accept(new JournalRecord(sessionId, timeMillis, type, flags, extra, word)));
+    }
+
+    public static List<JournalRecord> readAll(Path directory) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        forEach(directory, records::add);
+        return records;
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(JournalReader::isSegment)
+                    .sorted(Comparator.comparingLong(JournalReader::segmentIndex))
+                    .toList();
+        }
+    }
+
+    static String segmentName(long index) {
+        return GameJournal.SEGMENT_PREFIX + String.format("%016d", index) + GameJournal.SEGMENT_SUFFIX;
+    }
+
+    static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(GameJournal.SEGMENT_PREFIX.length(),
+                name.length() - GameJournal.SEGMENT_SUFFIX.length()));
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(GameJournal.SEGMENT_PREFIX) || !name.endsWith(GameJournal.SEGMENT_SUFFIX)) {
+            return false;
+        }
+        String number = name.substring(GameJournal.SEGMENT_PREFIX.length(),
+                name.length() - GameJournal.SEGMENT_SUFFIX.length());
+        return !number.isEmpty() && number.chars().allMatch(Character::isDigit);
+    }
+
+    private static long scanSegment(Path segment, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            // Сегмент, созданный перед сбоем, может не успеть получить даже заголовок
+            if (size < GameJournal.HEADER_SIZE) {
+                return 0;
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Сегмент журнала больше 2 ГБ: " + segment);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            checkHeader(segment, buffer);
+
+            int end = (int) (size - (size - GameJournal.HEADER_SIZE) % JournalRecord.RECORD_SIZE);
+            long records = 0;
+            for (int offset = GameJournal.HEADER_SIZE; offset < end; offset += JournalRecord.RECORD_SIZE) {
+                visitor.visit(
+                        buffer.getLong(offset),
+                        buffer.getLong(offset + 8),
+                        JournalRecord.Type.ofCode(buffer.get(offset + 16)),
+                        buffer.get(offset + 17) & 0xFF,
+                        buffer.getShort(offset + 18) & 0xFFFF,
+                        buffer.getInt(offset + 20));
+                records++;
+            }
+            return records;
+        }
+    }
+
+    private static void checkHeader(Path segment, MappedByteBuffer buffer) throws IOException {
+        if (buffer.getInt(0) != GameJournal.MAGIC) {
+            throw new IOException("Файл не является сегментом журнала: " + segment);
+        }
+        int version = buffer.getInt(4);
+        if (version != GameJournal.VERSION) {
+            throw new IOException("Неподдерживаемая версия журнала " + version + ": " + segment);
+        }
+        int recordSize = buffer.getInt(8);
+        if (recordSize != JournalRecord.RECORD_SIZE) {
+            throw new IOException("Неожиданный размер записи " + recordSize + ": " + segment);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ru.yandex.practicum.journal;
+
+import java.nio.ByteBuffer;
+
+// Одна запись журнала, RECORD_SIZE байт:
+//   sessionId (8) | время, мс от эпохи (8) | тип (1) | флаги (1) | доп. поле (2) | слово (4)
+//
+//   START: word — загаданное слово (WordCodec), flags — FLAG_HARD_MODE
+//   GUESS: word — попытка, extra — код подсказки, flags — номер попытки
+//   HINT:  word — выданное слово или -1, если подсказать нечего
+//   END:   flags — FLAG_GUESSED, extra — число сделанных попыток
+public record JournalRecord(long sessionId, long timeMillis, Type type, int flags, int extra, int word) {
+    public static final int RECORD_SIZE = 24;
+
+    public static final int FLAG_HARD_MODE = 1;
+    public static final int FLAG_GUESSED = 1;
+
+    public enum Type {
+        START, GUESS, HINT, END;
+
+        private static final Type[] VALUES = values();
+
+        int code() {
+            return ordinal() + 1;
+        }
+
+        static Type ofCode(int code) {
+            if (code < 1 || code > VALUES.length) {
+                throw new IllegalArgumentException("Неизвестный тип записи журнала: " + code);
+            }
+            return VALUES[code - 1];
+        }
+    }
+
+    public JournalRecord {
+        if (type == null) throw new IllegalArgumentException("Тип записи не может быть null");
+        if (flags < 0 || flags > 0xFF) throw new IllegalArgumentException("Флаги не помещаются в байт: " + flags);
+        if (extra < 0 || extra > 0xFFFF) throw new IllegalArgumentException("Поле не помещается в 2 байта: " + extra);
+    }
+
+    static void write(ByteBuffer buffer, long sessionId, long timeMillis, int type, int flags, int extra, int word) {
+        buffer.putLong(sessionId)
+                .putLong(timeMillis)
+                .put((byte) type)
+                .put((byte) flags)
+                .putShort((short) extra)
+                .putInt(word);
+    }
+}
@@ -0,0 +1,135 @@
+package ru.yandex.practicum.journal;
+
+import ru.yandex.practicum.Feedback;
+import ru.yandex.practicum.WordCodec;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleDictionaryLoader;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.exception.InvalidWordException;
+import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Проигрывание журнала: сводная статистика за один проход и восстановление партий
+public final class JournalReplay {
+
+    // guessDistribution[k] — число партий, выигранных за k попыток (индекс 0 не используется)
+    public record Statistics(long records,
+                             long gamesStarted,
+                             long gamesFinished,
+                             long gamesWon,
+                             long guesses,
+                             long hints,
+                             long[] guessDistribution,
+                             long elapsedNanos) {
+
+        public double recordsPerSecond() {
+            return elapsedNanos == 0 ? 0 : records * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        public String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Записей: %d, партий начато: %d, завершено: %d, выиграно: %d%n",
+                    records, gamesStarted, gamesFinished, gamesWon));
+            sb.append(String.format("Попыток: %d, подсказок: %d%n", guesses, hints));
+            for (int attempts = 1; attempts <= WordleGame.MAX_ATTEMPTS; attempts++) {
+                sb.append(String.format("  %d: %d%n", attempts, guessDistribution[attempts]));
+            }
+            sb.append(String.format("Время: %.1f мс, записей в секунду: %.0f",
+                    elapsedNanos / 1e6, recordsPerSecond()));
+            return sb.toString();
+        }
+    }
+
+    private JournalReplay() {
+    }
+
+    public static Statistics statistics(Path directory) throws IOException {
+        long start = System.nanoTime();
+        long[] counts = new long[JournalRecord.Type.values().length];
+        long[] won = new long[1];
+        long[] distribution = new long[WordleGame.MAX_ATTEMPTS + 1];
+
+        long records = JournalReader.scan(directory, (sessionId, timeMillis, type, flags, extra, word) -> {
+            counts[type.ordinal()]++;
+            if (type == JournalRecord.Type.END && (flags & JournalRecord.FLAG_GUESSED) != 0) {
+                won[0]++;
+                if (extra > 0 && extra <= WordleGame.MAX_ATTEMPTS) {
+                    distribution[extra]++;
+                }
+            }
+        });
+
+        return new Statistics(records,
+                counts[JournalRecord.Type.START.ordinal()],
+                counts[JournalRecord.Type.END.ordinal()],
+                won[0],
+                counts[JournalRecord.Type.GUESS.ordinal()],
+                counts[JournalRecord.Type.HINT.ordinal()],
+                distribution,
+                System.nanoTime() - start);
+    }
+
+    // Восстанавливает партии, повторяя записанные попытки. Подсказки случайны и на
+    // состояние не влияют, поэтому пропускаются. Партии, начало которых не попало в журнал, пропускаются.
+    public static Map<Long, WordleGame> rebuild(Path directory, WordleDictionary dictionary) throws IOException {
+        Map<Long, WordleGame> games = new HashMap<>();
+        JournalReader.scan(directory, (sessionId, timeMillis, type, flags, extra, word) -> {
+            switch (type) {
+                case START -> games.put(sessionId, new WordleGame(dictionary, WordCodec.decode(word), WordleLogger.NONE,
+                        (flags & JournalRecord.FLAG_HARD_MODE) != 0));
+                case GUESS -> {
+                    WordleGame game = games.get(sessionId);
+                    if (game != null) {
+                        replayGuess(sessionId, game, word, extra);
+                    }
+                }
+                default -> {
+                }
+            }
+        });
+        return games;
+    }
+
+    private static void replayGuess(long sessionId, WordleGame game, int word, int feedback) {
+        String guess = WordCodec.decode(word);
+        String pattern;
+        try {
+            pattern = game.checkWord(guess);
+        } catch (InvalidWordException | WordNotFoundInDictionaryException e) {
+            throw new IllegalStateException("Журнал не соответствует словарю: партия " + sessionId +
+                    ", попытка \"" + guess + "\": " + e.getMessage(), e);
+        }
+        if (!pattern.equals(Feedback.toPattern(feedback))) {
+            throw new IllegalStateException("Журнал не соответствует словарю: партия " + sessionId +
+                    ", попытка \"" + guess + "\" дала " + pattern);
+        }
+    }
+
+    // Запуск: java ru.yandex.practicum.journal.JournalReplay <каталог журнала> [файл словаря]
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Укажите каталог журнала");
+            System.exit(1);
+        }
+        Path directory = Path.of(args[0]);
+        PrintWriter console = new PrintWriter(System.out, true, StandardCharsets.UTF_8);
+        console.println(statistics(directory).format());
+
+        if (args.length > 1) {
+            WordleDictionary dictionary = new WordleDictionaryLoader(WordleLogger.NONE).loadCompiled(args[1]);
+            long start = System.nanoTime();
+            Map<Long, WordleGame> games = rebuild(directory, dictionary);
+            long active = games.values().stream().filter(game -> !game.isGameOver()).count();
+            console.printf("Восстановлено партий: %d, незавершённых: %d, за %.1f мс%n",
+                    games.size(), active, (System.nanoTime() - start) / 1e6);
+        }
+    }
+}
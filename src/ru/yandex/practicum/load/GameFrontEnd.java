@@ -0,0 +1,82 @@
+package ru.yandex.practicum.load;
+
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.session.GameSessionManager;
+
+// Путь, которым нагрузка доходит до движка. G — то, чем игрок ссылается на свою партию:
+// сама WordleGame при прямом вызове или идентификатор сессии во внешнем слое.
+// Методы вызываются из многих потоков, но с одной партией работает только один игрок.
+public interface GameFrontEnd<G> {
+    G newGame() throws Exception;
+
+    String checkWord(G game, String word) throws Exception;
+
+    // null, если подсказать нечего
+    String getHint(G game) throws Exception;
+
+    void endGame(G game) throws Exception;
+
+    default String getName() {
+        String name = getClass().getSimpleName();
+        return name.isEmpty() ? getClass().getName() : name;
+    }
+
+    static GameFrontEnd<WordleGame> direct(WordleDictionary dictionary) {
+        return new GameFrontEnd<>() {
+            @Override
+            public WordleGame newGame() {
+                return new WordleGame(dictionary, WordleLogger.NONE);
+            }
+
+            @Override
+            public String checkWord(WordleGame game, String word) throws Exception {
+                return game.checkWord(word);
+            }
+
+            @Override
+            public String getHint(WordleGame game) {
+                return game.getHint();
+            }
+
+            @Override
+            public void endGame(WordleGame game) {
+            }
+
+            @Override
+            public String getName() {
+                return "direct";
+            }
+        };
+    }
+
+    static GameFrontEnd<Long> sessions(GameSessionManager manager) {
+        return new GameFrontEnd<>() {
+            @Override
+            public Long newGame() {
+                return manager.create(false);
+            }
+
+            @Override
+            public String checkWord(Long game, String word) throws Exception {
+                return manager.execute(game, g -> g.checkWord(word));
+            }
+
+            @Override
+            public String getHint(Long game) throws Exception {
+                return manager.execute(game, WordleGame::getHint);
+            }
+
+            @Override
+            public void endGame(Long game) {
+                manager.remove(game);
+            }
+
+            @Override
+            public String getName() {
+                return "sessions";
+            }
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package ru.yandex.practicum.load;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.Closeable;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+// Паузы сборщика мусора за время наблюдения. GarbageCollectorMXBean.getCollectionTime у G1, ZGC и
+// Shenandoah учитывает и конкурентные фазы, поэтому паузы берутся из уведомлений о сборках:
+// «GC cycle» и сборщики *Cycles — это работа параллельно с приложением, остальное — остановки.
+public final class GcPauseMonitor implements Closeable {
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener listener = this::handle;
+    private final AtomicLong pauses = new AtomicLong();
+    private final AtomicLong pauseMillis = new AtomicLong();
+    private final LongAccumulator maxPauseMillis = new LongAccumulator(Math::max, 0);
+    // Время работы JVM, с которого сборки учитываются
+    private final long fromUptimeMillis;
+
+    public GcPauseMonitor() {
+        this(0);
+    }
+
+    // Сборки, начавшиеся в первые delayMillis наблюдения, не учитываются
+    public GcPauseMonitor(long delayMillis) {
+        if (delayMillis < 0) throw new IllegalArgumentException("Задержка не может быть отрицательной: " + delayMillis);
+
+        this.fromUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime() + delayMillis;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    public long getPauseCount() {
+        return pauses.get();
+    }
+
+    public long getPauseMillis() {
+        return pauseMillis.get();
+    }
+
+    public long getMaxPauseMillis() {
+        return maxPauseMillis.get();
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException ignored) {
+                // уже снят
+            }
+        }
+        emitters.clear();
+    }
+
+    private void handle(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (!isPause(info.getGcName(), info.getGcAction()) || info.getGcInfo().getStartTime() < fromUptimeMillis) {
+            return;
+        }
+        long duration = info.getGcInfo().getDuration();
+        pauses.incrementAndGet();
+        pauseMillis.addAndGet(duration);
+        maxPauseMillis.accumulate(duration);
+    }
+
+    static boolean isPause(String gcName, String gcAction) {
+        if (gcAction.contains("pause")) {
+            return true;
+        }
+        return !gcAction.contains("cycle") && !gcName.contains("Cycles") && !gcName.contains("Concurrent");
+    }
+}
@@ -0,0 +1,288 @@
+package ru.yandex.practicum.load;
+
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleDictionaryLoader;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.LatencyHistogram;
+import ru.yandex.practicum.session.GameSessionManager;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Нагрузка от множества игроков, каждый в своём виртуальном потоке: случайные допустимые попытки
+// и запросы подсказок. Расписание открытое: игрок отправляет запросы с заданной частотой независимо
+// от того, как быстро пришли ответы, а задержка считается от запланированного момента отправки.
+// Если движок притормозил, следующие запросы опаздывают, и это опоздание попадает в процентили,
+// а не теряется, как при замкнутом цикле «запрос — ответ — запрос» (coordinated omission).
+public final class LoadGenerator<G> {
+    private static final String SOLVED = "+".repeat(WordleGame.WORD_LENGTH);
+
+    // Источник времени для расписания и задержек; тесты подставляют виртуальное время
+    interface TimeSource {
+        TimeSource SYSTEM = new TimeSource() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public boolean sleepUntil(long deadline) {
+                long delay;
+                while ((delay = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(delay);
+                    if (Thread.currentThread().isInterrupted()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+
+        long nanoTime();
+
+        // false — поток прерван
+        boolean sleepUntil(long deadline);
+    }
+
+    private final GameFrontEnd<G> frontEnd;
+    private final WordleDictionary dictionary;
+    private final int players;
+    private final double requestsPerSecond;
+    private final double hintProbability;
+    private final long seed;
+    private final TimeSource time;
+
+    // Измерения одного прогона, общие для всех игроков; запросы, запланированные раньше measureFrom
+    // (прогрев), отправляются, но не учитываются
+    private record Recorder(TimeSource time,
+                            long measureFrom,
+                            LatencyHistogram checkWordLatency,
+                            LatencyHistogram checkWordService,
+                            LatencyHistogram hintLatency,
+                            LatencyHistogram hintService,
+                            LongAdder games,
+                            LongAdder errors) {
+        Recorder(TimeSource time, long measureFrom) {
+            this(time, measureFrom, new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram(),
+                    new LatencyHistogram(), new LongAdder(), new LongAdder());
+        }
+
+        void record(LatencyHistogram latency, LatencyHistogram service, long intended, long sent) {
+            long now = time.nanoTime();
+            if (intended - measureFrom >= 0) {
+                latency.record(now - intended);
+                service.record(now - sent);
+            }
+        }
+
+        void gameStarted(long intended) {
+            if (intended - measureFrom >= 0) {
+                games.increment();
+            }
+        }
+
+        void error(long intended) {
+            if (intended - measureFrom >= 0) {
+                errors.increment();
+            }
+        }
+    }
+
+    // requestsPerSecond — суммарная частота запросов всех игроков; hintProbability — доля
+    // запросов, которые вместо попытки просят подсказку
+    public LoadGenerator(GameFrontEnd<G> frontEnd, WordleDictionary dictionary, int players,
+                         double requestsPerSecond, double hintProbability, long seed) {
+        this(frontEnd, dictionary, players, requestsPerSecond, hintProbability, seed, TimeSource.SYSTEM);
+    }
+
+    LoadGenerator(GameFrontEnd<G> frontEnd, WordleDictionary dictionary, int players,
+                  double requestsPerSecond, double hintProbability, long seed, TimeSource time) {
+        if (frontEnd == null) throw new IllegalArgumentException("Способ доступа к игре не может быть null");
+        if (dictionary == null) throw new IllegalArgumentException("Словарь не может быть null");
+        if (dictionary.size() <= WordleGame.MAX_ATTEMPTS) {
+            throw new IllegalArgumentException("В словаре должно быть больше " + WordleGame.MAX_ATTEMPTS +
+                    " слов: " + dictionary.size());
+        }
+        if (players <= 0) throw new IllegalArgumentException("Число игроков должно быть положительным: " + players);
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException("Частота запросов должна быть положительной: " + requestsPerSecond);
+        }
+        if (!(hintProbability >= 0 && hintProbability <= 1)) {
+            throw new IllegalArgumentException("Доля подсказок должна быть от 0 до 1: " + hintProbability);
+        }
+
+        this.frontEnd = frontEnd;
+        this.dictionary = dictionary;
+        this.players = players;
+        this.requestsPerSecond = requestsPerSecond;
+        this.hintProbability = hintProbability;
+        this.seed = seed;
+        this.time = time;
+    }
+
+    public LoadReport run(long duration, TimeUnit unit) throws InterruptedException {
+        return run(0, duration, unit);
+    }
+
+    // Первые warmup единиц нагрузка идёт без учёта (JIT, ленивые кеши), затем duration измеряется.
+    // Ждёт, пока будут отправлены все запланированные запросы: при перегрузке прогон длится
+    // дольше, а отставание видно в задержках
+    public LoadReport run(long warmup, long duration, TimeUnit unit) throws InterruptedException {
+        if (warmup < 0) throw new IllegalArgumentException("Прогрев не может быть отрицательным: " + warmup);
+        if (duration <= 0) throw new IllegalArgumentException("Длительность должна быть положительной: " + duration);
+        if (unit == null) throw new IllegalArgumentException("Единица времени не может быть null");
+
+        long interval = Math.max(1, Math.round(players * (double) TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        long start = time.nanoTime();
+        long measureFrom = start + unit.toNanos(warmup);
+        long end = measureFrom + unit.toNanos(duration);
+        Recorder recorder = new Recorder(time, measureFrom);
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Player> team = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            team.add(new Player(random.split(), recorder));
+        }
+
+        try (GcPauseMonitor gc = new GcPauseMonitor(unit.toMillis(warmup))) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < players; i++) {
+                    // Игроки сдвинуты по фазе, чтобы запросы шли равномерно, а не залпами
+                    Player player = team.get(i);
+                    long first = start + interval * i / players;
+                    executor.execute(() -> player.play(first, end, interval));
+                }
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long elapsed = time.nanoTime() - measureFrom;
+
+            return new LoadReport(frontEnd.getName(), players, requestsPerSecond, elapsed,
+                    recorder.games().sum(), recorder.errors().sum(),
+                    recorder.checkWordLatency().snapshot(), recorder.checkWordService().snapshot(),
+                    recorder.hintLatency().snapshot(), recorder.hintService().snapshot(),
+                    gc.getPauseCount(), gc.getPauseMillis(), gc.getMaxPauseMillis());
+        }
+    }
+
+    private final class Player {
+        private final SplittableRandom random;
+        private final Recorder recorder;
+        private final Set<String> used = new HashSet<>();
+        private G game;
+        private int attempts;
+        private String hint;
+
+        Player(SplittableRandom random, Recorder recorder) {
+            this.random = random;
+            this.recorder = recorder;
+        }
+
+        void play(long next, long end, long interval) {
+            try {
+                while (next < end) {
+                    if (!time.sleepUntil(next)) {
+                        return;
+                    }
+                    long intended = next;
+                    next += interval;
+                    try {
+                        step(intended);
+                    } catch (Exception e) {
+                        recorder.error(intended);
+                        finishGame();
+                    }
+                }
+            } finally {
+                finishGame();
+            }
+        }
+
+        private void step(long intended) throws Exception {
+            if (game == null) {
+                game = frontEnd.newGame();
+                recorder.gameStarted(intended);
+                attempts = 0;
+                used.clear();
+                hint = null;
+            }
+
+            if (hint == null && random.nextDouble() < hintProbability) {
+                long sent = time.nanoTime();
+                hint = frontEnd.getHint(game);
+                recorder.record(recorder.hintLatency(), recorder.hintService(), intended, sent);
+                return;
+            }
+
+            String word = hint != null && !used.contains(hint) ? hint : randomUnusedWord();
+            hint = null;
+            long sent = time.nanoTime();
+            String feedback = frontEnd.checkWord(game, word);
+            recorder.record(recorder.checkWordLatency(), recorder.checkWordService(), intended, sent);
+
+            used.add(word);
+            if (++attempts == WordleGame.MAX_ATTEMPTS || SOLVED.equals(feedback)) {
+                finishGame();
+            }
+        }
+
+        private String randomUnusedWord() {
+            String word;
+            do {
+                word = dictionary.getWord(random.nextInt(dictionary.size()));
+            } while (used.contains(word));
+            return word;
+        }
+
+        private void finishGame() {
+            if (game == null) return;
+            G finished = game;
+            game = null;
+            try {
+                frontEnd.endGame(finished);
+            } catch (Exception e) {
+                recorder.errors().increment();
+            }
+        }
+    }
+
+    // Запуск: java ru.yandex.practicum.load.LoadGenerator [direct|sessions] [игроков] [запросов в секунду]
+    //         [секунд] [секунд прогрева] [доля подсказок] [seed]
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = args.length > 0 ? args[0] : "sessions";
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        double rate = args.length > 2 ? Double.parseDouble(args[2]) : 10_000;
+        long seconds = args.length > 3 ? Long.parseLong(args[3]) : 10;
+        long warmup = args.length > 4 ? Long.parseLong(args[4]) : 5;
+        double hints = args.length > 5 ? Double.parseDouble(args[5]) : 0.1;
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : 1;
+
+        WordleDictionary dictionary = new WordleDictionaryLoader(WordleLogger.NONE).loadCompiled("words_ru.txt");
+        PrintWriter console = new PrintWriter(System.out, true, StandardCharsets.UTF_8);
+        switch (mode) {
+            case "direct" -> console.println(new LoadGenerator<>(GameFrontEnd.direct(dictionary), dictionary,
+                    players, rate, hints, seed).run(warmup, seconds, TimeUnit.SECONDS).format());
+            case "sessions" -> {
+                try (GameSessionManager manager = new GameSessionManager(dictionary, WordleLogger.NONE,
+                        30, TimeUnit.MINUTES, Math.max(1000, players * 2))) {
+                    console.println(new LoadGenerator<>(GameFrontEnd.sessions(manager), dictionary,
+                            players, rate, hints, seed).run(warmup, seconds, TimeUnit.SECONDS).format());
+                }
+            }
+            default -> throw new IllegalArgumentException("Неизвестный способ доступа: " + mode +
+                    " (доступны: direct, sessions)");
+        }
+    }
+}
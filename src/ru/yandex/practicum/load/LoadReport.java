@@ -0,0 +1,53 @@
+package ru.yandex.practicum.load;
+
+import ru.yandex.practicum.metrics.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+// Итоги нагрузочного прогона. *Latency — от запланированного момента отправки до ответа
+// (с учётом очереди, если движок не успевал), *Service — от фактической отправки до ответа.
+public record LoadReport(String frontEnd,
+                         int players,
+                         double targetRate,
+                         long elapsedNanos,
+                         long games,
+                         long errors,
+                         LatencyHistogram.Snapshot checkWordLatency,
+                         LatencyHistogram.Snapshot checkWordService,
+                         LatencyHistogram.Snapshot hintLatency,
+                         LatencyHistogram.Snapshot hintService,
+                         long gcPauses,
+                         long gcPauseMillis,
+                         long gcMaxPauseMillis) {
+
+    public long requests() {
+        return checkWordLatency.getCount() + hintLatency.getCount() + errors;
+    }
+
+    public double achievedRate() {
+        return elapsedNanos == 0 ? 0 : requests() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Нагрузка: %s, игроков: %d, запросов в секунду: %.0f (цель %.0f), время: %.1f с%n",
+                frontEnd, players, achievedRate(), targetRate, elapsedNanos / 1e9));
+        sb.append(String.format("Запросов: %d, партий: %d, ошибок: %d%n", requests(), games, errors));
+        sb.append(formatLatency("checkWord", checkWordLatency, checkWordService));
+        sb.append(formatLatency("getHint", hintLatency, hintService));
+        sb.append(String.format("Паузы GC: %d, всего %d мс (%.2f%% времени), самая долгая %d мс",
+                gcPauses, gcPauseMillis,
+                elapsedNanos == 0 ? 0 : gcPauseMillis * 1e8 / elapsedNanos, gcMaxPauseMillis));
+        return sb.toString();
+    }
+
+    private static String formatLatency(String name, LatencyHistogram.Snapshot latency,
+                                        LatencyHistogram.Snapshot service) {
+        return String.format("%-9s n=%d, p50: %.1f, p90: %.1f, p99: %.1f, p99.9: %.1f, max: %.1f мкс"
+                        + " (обслуживание p50: %.1f, p99: %.1f мкс)%n",
+                name, latency.getCount(),
+                latency.getPercentile(0.50) / 1e3, latency.getPercentile(0.90) / 1e3,
+                latency.getPercentile(0.99) / 1e3, latency.getPercentile(0.999) / 1e3, latency.getMax() / 1e3,
+                service.getPercentile(0.50) / 1e3, service.getPercentile(0.99) / 1e3);
+    }
+}
@@ -0,0 +1,204 @@
+package ru.yandex.practicum.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Асинхронная запись лога: строки попадают в ограниченный кольцевой буфер, фоновый поток
+// забирает их пачками, пишет в writer и сбрасывает его один раз на пачку.
+public class AsyncLogSink implements LogSink, Closeable {
+    public enum OverflowPolicy {
+        // Писатель ждёт освобождения места: ни одна строка не теряется
+        BLOCK,
+        // Строка отбрасывается, счётчик потерь попадает в лог при следующей записи
+        DROP
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final int BATCH_SIZE = 512;
+    // Сравнивается по ссылке, поэтому не совпадает ни с одной строкой лога
+    private static final String STOP = new String("STOP");
+
+    private final Writer writer;
+    private final BlockingQueue<String> queue;
+    private final OverflowPolicy policy;
+    private final AtomicLong dropped = new AtomicLong();
+    // Писатели между проверкой closed и постановкой строки в буфер
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    // Строки, поставленные в буфер (производитель) и записанные в writer (потребитель)
+    private final AtomicLong enqueued = new AtomicLong();
+    private final Object progress = new Object();
+    // Защищено progress
+    private long written;
+    private final Thread worker;
+    private volatile boolean closed;
+    // Изменяется только фоновым потоком
+    private long reportedDrops;
+
+    public AsyncLogSink(Writer writer) {
+        this(writer, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    public AsyncLogSink(Writer writer, int capacity, OverflowPolicy policy) {
+        if (writer == null) throw new IllegalArgumentException("Writer не может быть null");
+        if (capacity <= 0) throw new IllegalArgumentException("Размер буфера должен быть положительным: " + capacity);
+        if (policy == null) throw new IllegalArgumentException("Политика переполнения не может быть null");
+
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.policy = policy;
+        this.worker = new Thread(this::drainLoop, "wordle-log-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void write(String line) {
+        pendingWrites.incrementAndGet();
+        try {
+            // Фоновый поток, увидев закрытие, дочищает буфер, пока есть незавершённые писатели,
+            // поэтому строка, прошедшая проверку, либо записывается, либо учитывается как потерянная
+            if (closed) {
+                dropped.incrementAndGet();
+                return;
+            }
+            enqueue(line);
+        } finally {
+            pendingWrites.decrementAndGet();
+        }
+    }
+
+    private void enqueue(String line) {
+        if (policy == OverflowPolicy.DROP) {
+            if (queue.offer(line)) {
+                enqueued.incrementAndGet();
+            } else {
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+
+        try {
+            queue.put(line);
+            enqueued.incrementAndGet();
+        } catch (InterruptedException e) {
+            dropped.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Ждёт, пока фоновый поток запишет и сбросит все строки, поставленные в буфер до вызова
+    @Override
+    public void flush() {
+        long target = enqueued.get();
+        synchronized (progress) {
+            while (written < target && worker.isAlive()) {
+                try {
+                    progress.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // Дожидается записи всех строк, сбрасывает и закрывает writer
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+
+        boolean interrupted = false;
+        boolean stopQueued = false;
+        while (true) {
+            try {
+                if (!stopQueued) {
+                    queue.put(STOP);
+                    stopQueued = true;
+                }
+                worker.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        writer.close();
+    }
+
+    private void drainLoop() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        boolean running = true;
+
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            running = writeBatch(batch);
+            batch.clear();
+        }
+
+        // closed уже выставлен: дочищаем строки писателей, проверивших флаг до закрытия.
+        // Счётчик читается до проверки буфера, поэтому при нуле все такие строки уже в буфере
+        do {
+            if (queue.drainTo(batch) == 0) {
+                Thread.yield();
+            }
+            writeBatch(batch);
+            batch.clear();
+        } while (pendingWrites.get() > 0 || !queue.isEmpty());
+
+        synchronized (progress) {
+            progress.notifyAll();
+        }
+    }
+
+    // Возвращает false, если в пачке встретился признак остановки
+    private boolean writeBatch(List<String> batch) {
+        int lines = 0;
+        for (String line : batch) {
+            if (line != STOP) lines++;
+        }
+        try {
+            long drops = dropped.get();
+            if (drops > reportedDrops) {
+                writer.write("[Log] Буфер лога переполнен, пропущено строк: " + (drops - reportedDrops) +
+                        System.lineSeparator());
+                reportedDrops = drops;
+            }
+            for (String line : batch) {
+                if (line == STOP) continue;
+                writer.write(line);
+                writer.write(System.lineSeparator());
+            }
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Не удалось записать лог: " + e.getMessage());
+        }
+        // Строки, которые не удалось записать, тоже считаются обработанными: flush() не должен зависнуть
+        if (lines > 0) {
+            synchronized (progress) {
+                written += lines;
+                progress.notifyAll();
+            }
+        }
+        return lines == batch.size();
+    }
+}
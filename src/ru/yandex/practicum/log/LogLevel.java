@@ -0,0 +1,9 @@
+package ru.yandex.practicum.log;
+
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
@@ -0,0 +1,9 @@
+package ru.yandex.practicum.log;
+
+// Получатель готовых строк лога. Реализации должны быть потокобезопасными.
+public interface LogSink {
+    void write(String line);
+
+    default void flush() {
+    }
+}
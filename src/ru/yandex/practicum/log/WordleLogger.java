@@ -0,0 +1,118 @@
+package ru.yandex.practicum.log;
+
+import java.io.PrintWriter;
+import java.util.function.Supplier;
+
+// Логгер с уровнями. Сообщения-поставщики вычисляются, только если уровень включён,
+// поэтому выключенный DEBUG не тратит время на склейку строк.
+public final class WordleLogger {
+    public static final String LEVEL_PROPERTY = "wordle.log.level";
+    public static final String GAME_LEVEL_PROPERTY = "wordle.log.game.level";
+    public static final WordleLogger NONE = new WordleLogger(line -> {
+    }, LogLevel.OFF, "");
+
+    private final LogSink sink;
+    private final LogLevel level;
+    private final String prefix;
+
+    public WordleLogger(LogSink sink, LogLevel level) {
+        this(sink, level, "");
+    }
+
+    private WordleLogger(LogSink sink, LogLevel level, String prefix) {
+        if (sink == null) throw new IllegalArgumentException("Получатель лога не может быть null");
+        if (level == null) throw new IllegalArgumentException("Уровень лога не может быть null");
+
+        this.sink = sink;
+        this.level = level;
+        this.prefix = prefix;
+    }
+
+    // Синхронный логгер поверх PrintWriter с уровнем по умолчанию; для null — выключенный логгер
+    public static WordleLogger of(PrintWriter writer) {
+        return writer == null ? NONE : new WordleLogger(new WriterLogSink(writer), defaultLevel());
+    }
+
+    // Уровень из системного свойства wordle.log.level, по умолчанию INFO
+    public static LogLevel defaultLevel() {
+        return levelFromProperty(LEVEL_PROPERTY, LogLevel.INFO);
+    }
+
+    // Уровень логов партий на сервере из wordle.log.game.level, по умолчанию WARN:
+    // ход каждой партии и загаданные слова не попадают в общий лог
+    public static LogLevel defaultGameLevel() {
+        return levelFromProperty(GAME_LEVEL_PROPERTY, LogLevel.WARN);
+    }
+
+    private static LogLevel levelFromProperty(String property, LogLevel fallback) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return LogLevel.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    public WordleLogger forComponent(String component) {
+        return new WordleLogger(sink, level, "[" + component + "] ");
+    }
+
+    public WordleLogger withLevel(LogLevel newLevel) {
+        return new WordleLogger(sink, newLevel, prefix);
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel != LogLevel.OFF && messageLevel.compareTo(level) >= 0;
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public void log(LogLevel messageLevel, String message) {
+        if (isEnabled(messageLevel)) {
+            sink.write(prefix.isEmpty() ? message : prefix + message);
+        }
+    }
+
+    public void log(LogLevel messageLevel, Supplier<String> message) {
+        if (isEnabled(messageLevel)) {
+            log(messageLevel, message.get());
+        }
+    }
+
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message);
+    }
+
+    public void flush() {
+        sink.flush();
+    }
+}
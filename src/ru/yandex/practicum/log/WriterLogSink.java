@@ -0,0 +1,23 @@
+package ru.yandex.practicum.log;
+
+import java.io.PrintWriter;
+
+// Синхронная запись в PrintWriter без сброса после каждой строки: буфер сбрасывает владелец writer'а
+public class WriterLogSink implements LogSink {
+    private final PrintWriter writer;
+
+    public WriterLogSink(PrintWriter writer) {
+        if (writer == null) throw new IllegalArgumentException("Writer не может быть null");
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(String line) {
+        writer.println(line);
+    }
+
+    @Override
+    public void flush() {
+        writer.flush();
+    }
+}
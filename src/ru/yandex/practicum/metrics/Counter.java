@@ -0,0 +1,23 @@
+package ru.yandex.practicum.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Счётчик событий; LongAdder разносит одновременные увеличения по разным ячейкам
+public final class Counter {
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
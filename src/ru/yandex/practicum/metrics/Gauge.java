@@ -0,0 +1,17 @@
+package ru.yandex.practicum.metrics;
+
+// Последнее записанное значение, например размер загруженного словаря
+public final class Gauge {
+    private volatile long value;
+
+    Gauge() {
+    }
+
+    public void set(long value) {
+        this.value = value;
+    }
+
+    public long get() {
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+package ru.yandex.practicum.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Метрики реестра как атрибуты JMX: счётчики и значения — по имени, гистограммы — набором
+// атрибутов "<имя>.count", ".mean", ".p50", ".p99", ".p999", ".max" (наносекунды).
+// Список атрибутов строится при каждом запросе, поэтому новые метрики видны сразу.
+final class MetricsMBean implements DynamicMBean {
+    private static final String[] HISTOGRAM_FIELDS = {"count", "mean", "p50", "p99", "p999", "max"};
+
+    private final MetricsRegistry registry;
+
+    MetricsMBean(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        Counter counter = registry.getCounters().get(attribute);
+        if (counter != null) {
+            return counter.get();
+        }
+        Gauge gauge = registry.getGauges().get(attribute);
+        if (gauge != null) {
+            return gauge.get();
+        }
+
+        int dot = attribute.lastIndexOf('.');
+        LatencyHistogram histogram = dot < 0 ? null : registry.getHistograms().get(attribute.substring(0, dot));
+        if (histogram != null) {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            switch (attribute.substring(dot + 1)) {
+                case "count": return snapshot.getCount();
+                case "mean": return snapshot.getMean();
+                case "p50": return snapshot.getPercentile(0.50);
+                case "p99": return snapshot.getPercentile(0.99);
+                case "p999": return snapshot.getPercentile(0.999);
+                case "max": return snapshot.getMax();
+                default: break;
+            }
+        }
+        throw new AttributeNotFoundException("Нет такой метрики: " + attribute);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException e) {
+                // По контракту DynamicMBean отсутствующие атрибуты просто пропускаются
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Метрики доступны только для чтения: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        throw new ReflectionException(new NoSuchMethodException(actionName), "Операции не поддерживаются");
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        for (String name : registry.getCounters().keySet()) {
+            attributes.add(attribute(name, Long.class, "Счётчик"));
+        }
+        for (String name : registry.getGauges().keySet()) {
+            attributes.add(attribute(name, Long.class, "Значение"));
+        }
+        for (String name : registry.getHistograms().keySet()) {
+            for (String field : HISTOGRAM_FIELDS) {
+                Class<?> type = field.equals("mean") ? Double.class : Long.class;
+                attributes.add(attribute(name + "." + field, type, "Задержка, нс"));
+            }
+        }
+
+        return new MBeanInfo(getClass().getName(), "Метрики Wordle",
+                attributes.toArray(new MBeanAttributeInfo[0]), null, null, null);
+    }
+
+    private static MBeanAttributeInfo attribute(String name, Class<?> type, String description) {
+        return new MBeanAttributeInfo(name, type.getName(), description, true, false, false);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.yandex.practicum.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+// Именованные счётчики, значения и гистограммы задержек. Метрики создаются один раз и
+// дальше используются по ссылке, поэтому обращение к реестру на горячем пути не нужно.
+public final class MetricsRegistry {
+    public static final String OBJECT_NAME = "ru.yandex.practicum:type=Metrics";
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentSkipListMap<>();
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(checkName(name), key -> new Counter());
+    }
+
+    public Gauge gauge(String name) {
+        return gauges.computeIfAbsent(checkName(name), key -> new Gauge());
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(checkName(name), key -> new LatencyHistogram());
+    }
+
+    Map<String, Counter> getCounters() {
+        return counters;
+    }
+
+    Map<String, Gauge> getGauges() {
+        return gauges;
+    }
+
+    Map<String, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+
+    // Регистрирует реестр в платформенном MBeanServer; повторная регистрация игнорируется
+    public void registerMBean() {
+        registerMBean(ManagementFactory.getPlatformMBeanServer(), OBJECT_NAME);
+    }
+
+    public void registerMBean(MBeanServer server, String objectName) {
+        try {
+            server.registerMBean(new MetricsMBean(this), new ObjectName(objectName));
+        } catch (InstanceAlreadyExistsException e) {
+            // Уже зарегистрирован — например, сервером и консольной игрой в одном процессе
+        } catch (JMException e) {
+            throw new IllegalStateException("Не удалось зарегистрировать MBean метрик: " + e.getMessage(), e);
+        }
+    }
+
+    // Текстовый срез всех метрик, по одной на строку; задержки в микросекундах
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        counters.forEach((name, counter) -> sb.append(name).append(" = ").append(counter.get())
+                .append(System.lineSeparator()));
+        gauges.forEach((name, gauge) -> sb.append(name).append(" = ").append(gauge.get())
+                .append(System.lineSeparator()));
+        histograms.forEach((name, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            sb.append(String.format(Locale.ROOT,
+                    "%s: count=%d mean=%.1fus p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus%n",
+                    name, snapshot.getCount(), micros(snapshot.getMean()),
+                    micros(snapshot.getPercentile(0.50)), micros(snapshot.getPercentile(0.99)),
+                    micros(snapshot.getPercentile(0.999)), micros(snapshot.getMax())));
+        });
+        return sb.toString();
+    }
+
+    private static double micros(double nanos) {
+        return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    private static String checkName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Имя метрики не может быть пустым");
+        }
+        return name;
+    }
+}
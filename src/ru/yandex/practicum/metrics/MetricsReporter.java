@@ -0,0 +1,41 @@
+package ru.yandex.practicum.metrics;
+
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Периодический вывод всех метрик реестра в лог на уровне INFO
+public final class MetricsReporter implements Closeable {
+    private final MetricsRegistry registry;
+    private final WordleLogger log;
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsReporter(MetricsRegistry registry, WordleLogger log, long period, TimeUnit unit) {
+        if (registry == null) throw new IllegalArgumentException("Реестр метрик не может быть null");
+        if (log == null) throw new IllegalArgumentException("Логгер не может быть null");
+        if (period <= 0) throw new IllegalArgumentException("Период должен быть положительным: " + period);
+
+        this.registry = registry;
+        this.log = log.forComponent("Metrics");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wordle-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::report, period, period, unit);
+    }
+
+    public void report() {
+        log.info(() -> "Метрики:" + System.lineSeparator() + registry.format().stripTrailing());
+    }
+
+    // Останавливает вывод и записывает последний срез
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        report();
+    }
+}
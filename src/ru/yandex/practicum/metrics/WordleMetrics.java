@@ -0,0 +1,30 @@
+package ru.yandex.practicum.metrics;
+
+// Метрики игры в глобальном реестре. Задержки пишутся в наносекундах.
+public final class WordleMetrics {
+    public static final LatencyHistogram CHECK_WORD = histogram("game.checkWord");
+    public static final LatencyHistogram GET_HINT = histogram("game.getHint");
+    public static final LatencyHistogram GET_RANKED_HINTS = histogram("game.getRankedHints");
+    public static final LatencyHistogram FIND_SUGGESTIONS = histogram("dictionary.findSuggestions");
+    public static final LatencyHistogram FIND_SUGGESTIONS_OPTIMIZED = histogram("dictionary.findSuggestionsOptimized");
+    public static final LatencyHistogram LOAD_DICTIONARY = histogram("dictionary.load");
+    public static final LatencyHistogram LOAD_SNAPSHOT = histogram("dictionary.loadSnapshot");
+
+    public static final Counter GAMES_STARTED = MetricsRegistry.global().counter("game.started");
+    public static final Counter GUESSES_REJECTED = MetricsRegistry.global().counter("game.checkWord.rejected");
+    public static final Counter SESSIONS_EXPIRED = MetricsRegistry.global().counter("sessions.expired");
+    public static final Counter SESSIONS_EVICTED = MetricsRegistry.global().counter("sessions.evicted");
+
+    // Размер и время загрузки последнего загруженного словаря
+    public static final Gauge DICTIONARY_SIZE = MetricsRegistry.global().gauge("dictionary.size");
+    public static final Gauge DICTIONARY_LOAD_MILLIS = MetricsRegistry.global().gauge("dictionary.loadTimeMillis");
+    // Партий в памяти GameSessionManager на последнем такте колеса
+    public static final Gauge SESSIONS_ACTIVE = MetricsRegistry.global().gauge("sessions.active");
+
+    private WordleMetrics() {
+    }
+
+    private static LatencyHistogram histogram(String name) {
+        return MetricsRegistry.global().histogram(name);
+    }
+}
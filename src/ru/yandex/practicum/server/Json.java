@@ -0,0 +1,95 @@
+package ru.yandex.practicum.server;
+
+// Минимальный JSON для плоских объектов API: экранирование строк и чтение строкового поля
+final class Json {
+    private Json() {
+    }
+
+    static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    // Значение строкового поля верхнего уровня или null, если поля нет
+    static String readString(String json, String field) {
+        if (json == null) {
+            return null;
+        }
+
+        String key = quote(field);
+        int index = json.indexOf(key);
+        while (index >= 0) {
+            int colon = skipSpaces(json, index + key.length());
+            if (colon < json.length() && json.charAt(colon) == ':') {
+                int start = skipSpaces(json, colon + 1);
+                if (start < json.length() && json.charAt(start) == '"') {
+                    return unquote(json, start + 1);
+                }
+                return null;
+            }
+            index = json.indexOf(key, index + 1);
+        }
+        return null;
+    }
+
+    private static int skipSpaces(String json, int index) {
+        while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static String unquote(String json, int index) {
+        StringBuilder sb = new StringBuilder();
+        while (index < json.length()) {
+            char c = json.charAt(index++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (index >= json.length()) break;
+
+            char escaped = json.charAt(index++);
+            switch (escaped) {
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'u' -> {
+                    if (index + 4 > json.length()) {
+                        throw new IllegalArgumentException("Некорректная escape-последовательность в JSON");
+                    }
+                    sb.append((char) Integer.parseInt(json.substring(index, index + 4), 16));
+                    index += 4;
+                }
+                default -> sb.append(escaped);
+            }
+        }
+        throw new IllegalArgumentException("Незакрытая строка в JSON");
+    }
+}
@@ -0,0 +1,410 @@
+package ru.yandex.practicum.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleDictionaryLoader;
+import ru.yandex.practicum.HintScorer;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.exception.InvalidWordException;
+import ru.yandex.practicum.exception.SessionNotFoundException;
+import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.journal.GameJournal;
+import ru.yandex.practicum.log.AsyncLogSink;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.MetricsRegistry;
+import ru.yandex.practicum.metrics.MetricsReporter;
+import ru.yandex.practicum.session.GameSessionManager;
+import ru.yandex.practicum.session.SessionAction;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// HTTP/JSON сервер для множества одновременных игр. Каждый запрос обрабатывается в своём
+// виртуальном потоке, все партии используют один общий словарь. Партиями управляет
+// GameSessionManager: брошенные удаляются после DEFAULT_IDLE_MINUTES простоя, при превышении
+// DEFAULT_MAX_SESSIONS выселяются самые давние.
+//
+//   POST   /games               — новая игра; ?mode=hard — сложный режим
+//   GET    /games/{id}          — состояние игры
+//   POST   /games/{id}/guesses  — попытка, тело {"word": "..."}
+//   GET    /games/{id}/hint     — подсказка; ?top=K&by=frequency|distinct|expected — K лучших
+//   DELETE /games/{id}          — завершить и удалить игру
+public class WordleServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final long DEFAULT_IDLE_MINUTES = 30;
+    public static final int DEFAULT_MAX_SESSIONS = 1_000_000;
+
+    private static final String GAMES_PATH = "/games";
+    private static final int MAX_BODY_SIZE = 4096;
+    private static final int MAX_RANKED_HINTS = 50;
+    private static final long METRICS_REPORT_SECONDS = 60;
+
+    private final WordleLogger log;
+    // null — партии не журналируются
+    private final GameJournal journal;
+    private final GameSessionManager sessions;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private static final class HttpError extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    public WordleServer(WordleDictionary dictionary, WordleLogger log) {
+        this(dictionary, log, null);
+    }
+
+    public WordleServer(WordleDictionary dictionary, WordleLogger log, GameJournal journal) {
+        this(new GameSessionManager(dictionary, log, DEFAULT_IDLE_MINUTES, TimeUnit.MINUTES, DEFAULT_MAX_SESSIONS),
+                log, journal);
+    }
+
+    public WordleServer(GameSessionManager sessions, WordleLogger log, GameJournal journal) {
+        if (sessions == null) throw new IllegalArgumentException("Менеджер партий не может быть null");
+        if (log == null) throw new IllegalArgumentException("Логгер не может быть null");
+
+        this.sessions = sessions;
+        this.log = log.forComponent("Server");
+        this.journal = journal;
+        if (journal != null) {
+            // Партия, выселенная в хранилище и поднятая снова, продолжает писать в журнал
+            sessions.setResumeHook((game, sessionId) -> journal.resume(sessionId, game));
+        }
+    }
+
+    // port = 0 — любой свободный порт, фактический возвращает getPort()
+    public synchronized void start(int port) throws IOException {
+        if (server != null) throw new IllegalStateException("Сервер уже запущен");
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(executor);
+        server.createContext(GAMES_PATH, this::handle);
+        server.start();
+
+        log.info("Сервер запущен на порту " + getPort());
+    }
+
+    public synchronized int getPort() {
+        if (server == null) throw new IllegalStateException("Сервер не запущен");
+        return server.getAddress().getPort();
+    }
+
+    public synchronized void stop() {
+        if (server == null) return;
+
+        server.stop(0);
+        executor.close();
+        server = null;
+        executor = null;
+        sessions.clear();
+
+        log.info("Сервер остановлен");
+    }
+
+    public int getActiveGameCount() {
+        return sessions.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                String response = route(exchange);
+                send(exchange, exchange.getRequestMethod().equals("POST") && isCollection(exchange) ? 201 : 200,
+                        response);
+            } catch (HttpError e) {
+                send(exchange, e.status, "{\"error\":" + Json.quote(e.getMessage()) + "}");
+            } catch (RuntimeException e) {
+                log.error("Ошибка обработки запроса " + exchange.getRequestURI() + ": " + e);
+                send(exchange, 500, "{\"error\":" + Json.quote("Внутренняя ошибка сервера") + "}");
+            }
+        }
+    }
+
+    private static boolean isCollection(HttpExchange exchange) {
+        return splitPath(exchange).length == 0;
+    }
+
+    private String route(HttpExchange exchange) throws IOException, HttpError {
+        String method = exchange.getRequestMethod();
+        String[] parts = splitPath(exchange);
+
+        if (parts.length == 0) {
+            requireMethod(method, "POST");
+            return createGame(isHardMode(exchange.getRequestURI().getQuery()));
+        }
+
+        String id = parts[0];
+        if (parts.length == 1) {
+            if (method.equals("GET")) {
+                return withGame(id, game -> stateJson(id, game));
+            }
+            requireMethod(method, "DELETE");
+            if (!sessions.remove(parseId(id))) {
+                throw new HttpError(404, "Игра не найдена: " + id);
+            }
+            return "{\"id\":" + Json.quote(id) + ",\"deleted\":true}";
+        }
+
+        if (parts.length == 2 && parts[1].equals("guesses")) {
+            requireMethod(method, "POST");
+            return guess(id, readBody(exchange));
+        }
+        if (parts.length == 2 && parts[1].equals("hint")) {
+            requireMethod(method, "GET");
+            String query = exchange.getRequestURI().getQuery();
+            return query == null ? hint(id) : rankedHints(id, query);
+        }
+        throw new HttpError(404, "Неизвестный адрес: " + exchange.getRequestURI().getPath());
+    }
+
+    // Части пути после /games: "" → [], "/id" → [id], "/id/hint" → [id, hint]
+    private static String[] splitPath(HttpExchange exchange) {
+        String rest = exchange.getRequestURI().getPath().substring(GAMES_PATH.length());
+        while (rest.startsWith("/")) rest = rest.substring(1);
+        while (rest.endsWith("/")) rest = rest.substring(0, rest.length() - 1);
+        return rest.isEmpty() ? new String[0] : rest.split("/");
+    }
+
+    private static void requireMethod(String method, String expected) throws HttpError {
+        if (!method.equals(expected)) {
+            throw new HttpError(405, "Метод не поддерживается: " + method);
+        }
+    }
+
+    private static boolean isHardMode(String query) throws HttpError {
+        if (query == null || query.equals("mode=normal")) {
+            return false;
+        }
+        if (query.equals("mode=hard")) {
+            return true;
+        }
+        throw new HttpError(400, "Неизвестный режим игры: " + query + " (доступны: mode=normal, mode=hard)");
+    }
+
+    private String createGame(boolean hardMode) throws HttpError {
+        long sessionId = sessions.create(hardMode);
+        String id = GameSessionManager.formatId(sessionId);
+        log.debug(() -> "Создана игра " + id + ", активных игр: " + sessions.size());
+        return withGame(id, game -> {
+            if (journal != null) {
+                journal.attach(sessionId, game);
+            }
+            return stateJson(id, game);
+        });
+    }
+
+    private String guess(String id, String body) throws HttpError {
+        String word;
+        try {
+            word = Json.readString(body, "word");
+        } catch (IllegalArgumentException e) {
+            throw new HttpError(400, e.getMessage());
+        }
+        if (word == null) {
+            throw new HttpError(400, "Ожидается поле \"word\"");
+        }
+
+        return withGame(id, game -> {
+            if (game.isGameOver()) {
+                throw new HttpError(409, "Игра уже завершена");
+            }
+
+            String feedback;
+            try {
+                feedback = game.checkWord(word);
+            } catch (InvalidWordException | WordNotFoundInDictionaryException | IllegalArgumentException e) {
+                throw new HttpError(400, e.getMessage());
+            }
+
+            StringBuilder json = new StringBuilder("{\"id\":").append(Json.quote(id))
+                    .append(",\"word\":").append(Json.quote(game.getGuessedWords().getLast()))
+                    .append(",\"feedback\":").append(Json.quote(feedback))
+                    .append(",\"attemptsRemaining\":").append(game.getAttemptsRemaining())
+                    .append(",\"guessed\":").append(game.isWordGuessed())
+                    .append(",\"gameOver\":").append(game.isGameOver());
+            if (game.isGameOver()) {
+                json.append(",\"answer\":").append(Json.quote(game.getAnswer()));
+            }
+            return json.append('}').toString();
+        });
+    }
+
+    private String hint(String id) throws HttpError {
+        return withGame(id, game -> {
+            if (game.isGameOver()) {
+                throw new HttpError(409, "Игра уже завершена");
+            }
+            return "{\"id\":" + Json.quote(id) + ",\"hint\":" + Json.quote(game.getHint()) + "}";
+        });
+    }
+
+    private String rankedHints(String id, String query) throws HttpError {
+        int top = 1;
+        HintScorer scorer = HintScorer.POSITIONAL_FREQUENCY;
+        for (String parameter : query.split("&")) {
+            int eq = parameter.indexOf('=');
+            String name = eq < 0 ? parameter : parameter.substring(0, eq);
+            String value = eq < 0 ? "" : parameter.substring(eq + 1);
+            switch (name) {
+                case "top" -> top = parseTop(value);
+                case "by" -> scorer = scorerByName(value);
+                default -> throw new HttpError(400, "Неизвестный параметр: " + name);
+            }
+        }
+
+        HintScorer chosen = scorer;
+        int count = top;
+        return withGame(id, game -> {
+            if (game.isGameOver()) {
+                throw new HttpError(409, "Игра уже завершена");
+            }
+            StringBuilder json = new StringBuilder("{\"id\":").append(Json.quote(id)).append(",\"hints\":[");
+            List<String> hints = game.getRankedHints(count, chosen);
+            for (int i = 0; i < hints.size(); i++) {
+                if (i > 0) json.append(',');
+                json.append(Json.quote(hints.get(i)));
+            }
+            return json.append("]}").toString();
+        });
+    }
+
+    private static int parseTop(String value) throws HttpError {
+        try {
+            int top = Integer.parseInt(value);
+            if (top >= 1 && top <= MAX_RANKED_HINTS) {
+                return top;
+            }
+        } catch (NumberFormatException e) {
+            // ниже — общее сообщение об ошибке
+        }
+        throw new HttpError(400, "Параметр top должен быть от 1 до " + MAX_RANKED_HINTS);
+    }
+
+    private static HintScorer scorerByName(String name) throws HttpError {
+        return switch (name) {
+            case "frequency" -> HintScorer.POSITIONAL_FREQUENCY;
+            case "distinct" -> HintScorer.DISTINCT_LETTERS;
+            case "expected" -> HintScorer.EXPECTED_REMAINING;
+            default -> throw new HttpError(400, "Неизвестный способ оценки: " + name +
+                    " (доступны: frequency, distinct, expected)");
+        };
+    }
+
+    // Действие над игрой под её блокировкой
+    private <T> T withGame(String id, SessionAction<T, HttpError> action) throws HttpError {
+        try {
+            return sessions.execute(parseId(id), action);
+        } catch (SessionNotFoundException e) {
+            throw new HttpError(404, "Игра не найдена: " + id);
+        }
+    }
+
+    private static long parseId(String id) throws HttpError {
+        try {
+            return GameSessionManager.parseId(id);
+        } catch (IllegalArgumentException e) {
+            throw new HttpError(404, "Игра не найдена: " + id);
+        }
+    }
+
+    // Вызывается под блокировкой игры
+    private static String stateJson(String id, WordleGame game) {
+        StringBuilder json = new StringBuilder("{\"id\":").append(Json.quote(id))
+                .append(",\"wordLength\":").append(WordleGame.WORD_LENGTH)
+                .append(",\"maxAttempts\":").append(WordleGame.MAX_ATTEMPTS)
+                .append(",\"hardMode\":").append(game.isHardMode())
+                .append(",\"attemptsRemaining\":").append(game.getAttemptsRemaining())
+                .append(",\"pattern\":").append(Json.quote(game.getCurrentPattern()))
+                .append(",\"guesses\":[");
+
+        List<String> words = game.getGuessedWords();
+        List<String> hints = game.getHints();
+        for (int i = 0; i < words.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"word\":").append(Json.quote(words.get(i)))
+                    .append(",\"feedback\":").append(Json.quote(hints.get(i))).append('}');
+        }
+
+        json.append("],\"guessed\":").append(game.isWordGuessed())
+                .append(",\"gameOver\":").append(game.isGameOver());
+        if (game.isGameOver()) {
+            json.append(",\"answer\":").append(Json.quote(game.getAnswer()));
+        }
+        return json.append('}').toString();
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException, HttpError {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_SIZE + 1);
+            if (body.length > MAX_BODY_SIZE) {
+                throw new HttpError(413, "Слишком большой запрос");
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // Запуск: java ru.yandex.practicum.server.WordleServer [порт] [файл словаря] [каталог журнала]
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String dictionaryFile = args.length > 1 ? args[1] : "words_ru.txt";
+        GameJournal journal = args.length > 2 ? new GameJournal(Path.of(args[2])) : null;
+
+        AsyncLogSink logSink = new AsyncLogSink(new OutputStreamWriter(System.out, StandardCharsets.UTF_8),
+                AsyncLogSink.DEFAULT_CAPACITY, AsyncLogSink.OverflowPolicy.DROP);
+        WordleLogger log = new WordleLogger(logSink, WordleLogger.defaultLevel());
+
+        // Метрики доступны через JMX (ru.yandex.practicum:type=Metrics) и раз в минуту пишутся в лог
+        MetricsRegistry.global().registerMBean();
+        MetricsReporter reporter = new MetricsReporter(MetricsRegistry.global(), log,
+                METRICS_REPORT_SECONDS, TimeUnit.SECONDS);
+
+        WordleDictionary dictionary = new WordleDictionaryLoader(log).loadCompiled(dictionaryFile);
+        WordleServer server = new WordleServer(dictionary, log, journal);
+        server.start(port);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            reporter.close();
+            if (journal != null) {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    System.err.println("Не удалось закрыть журнал: " + e.getMessage());
+                }
+            }
+            try {
+                logSink.close();
+            } catch (IOException e) {
+                System.err.println("Не удалось закрыть лог: " + e.getMessage());
+            }
+        }));
+    }
+}
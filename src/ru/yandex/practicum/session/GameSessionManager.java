@@ -0,0 +1,468 @@
+package ru.yandex.practicum.session;
+
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.exception.SessionNotFoundException;
+import ru.yandex.practicum.log.LogLevel;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.metrics.WordleMetrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+
+// Партии встраивающего сервиса: выдаёт идентификаторы, хранит партии в ConcurrentHashMap
+// и выполняет действия над партией под её собственной блокировкой — ходы в разных партиях
+// не конкурируют. ReentrantLock, а не synchronized: действия выполняются и в виртуальных потоках.
+//
+// Простой отслеживается хешированным колесом таймеров из WHEEL_SIZE корзин; длина такта
+// подобрана так, что всё колесо покрывает idleTimeout. Обращение к партии только обновляет
+// lastAccess, в колесе она не перемещается: когда колесо доходит до корзины, партия либо
+// удаляется, либо переносится в корзину своего нового срока. Те же корзины, пройденные от
+// текущего такта вперёд, упорядочивают партии по давности обращения — по ним выселяются
+// самые старые, когда партий больше maxSessions (LRU с точностью до такта).
+//
+// Если задано хранилище SessionStore, выселенные незавершённые партии не теряются, а
+// откладываются в него и восстанавливаются при следующем обращении. Наблюдатель событий
+// (setEventListener) у восстановленной партии не сохраняется.
+public final class GameSessionManager implements Closeable {
+    static final int WHEEL_SIZE = 1024;
+
+    private static final long MIN_TICKER_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final WordleDictionary dictionary;
+    private final WordleLogger log;
+    private final WordleLogger gameLog;
+    private final SessionStore store;
+    private final int maxSessions;
+    private final long idleNanos;
+    private final long tickNanos;
+    private final long origin;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+    private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+    private final SecureRandom idGenerator = new SecureRandom();
+
+    // Истечение и выселение идут под этой блокировкой; ходы её не берут
+    private final ReentrantLock maintenance = new ReentrantLock();
+    private long currentTick;
+
+    // Удалённые сессии, ещё лежащие в корзинах колеса
+    private final LongAdder deadEntries = new LongAdder();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final ScheduledExecutorService ticker;
+    // Вызывается для каждой партии, поднятой из хранилища, до того как она станет доступна
+    private volatile ObjLongConsumer<WordleGame> resumeHook = (game, sessionId) -> {
+    };
+
+    private static final class Session {
+        final long id;
+        final ReentrantLock lock = new ReentrantLock();
+        // Доступна под lock; после удаления обнуляется, чтобы пустая оболочка в колесе не держала партию
+        WordleGame game;
+        volatile long lastAccess;
+        // Изменяется под lock
+        volatile boolean removed;
+
+        Session(long id, WordleGame game, long now) {
+            this.id = id;
+            this.game = game;
+            this.lastAccess = now;
+        }
+    }
+
+    private static final class Bucket {
+        final ConcurrentLinkedQueue<Session> sessions = new ConcurrentLinkedQueue<>();
+    }
+
+    public GameSessionManager(WordleDictionary dictionary, WordleLogger log, long idleTimeout, TimeUnit unit,
+                              int maxSessions) {
+        this(dictionary, log, idleTimeout, unit, maxSessions, null);
+    }
+
+    // store == null — выселенные партии удаляются
+    public GameSessionManager(WordleDictionary dictionary, WordleLogger log, long idleTimeout, TimeUnit unit,
+                              int maxSessions, SessionStore store) {
+        this(dictionary, log, unit.toNanos(idleTimeout), maxSessions, store, System::nanoTime, true);
+    }
+
+    GameSessionManager(WordleDictionary dictionary, WordleLogger log, long idleNanos, int maxSessions,
+                       SessionStore store, LongSupplier clock, boolean startTicker) {
+        if (dictionary == null) throw new IllegalArgumentException("Словарь не может быть null");
+        if (log == null) throw new IllegalArgumentException("Логгер не может быть null");
+        if (idleNanos <= 0) throw new IllegalArgumentException("Время простоя должно быть положительным");
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("Число партий должно быть положительным: " + maxSessions);
+        }
+
+        this.dictionary = dictionary;
+        this.log = log.forComponent("Sessions");
+        // Партии пишут в общий лог сервера только предупреждения (если не задан wordle.log.game.level)
+        // и никогда не подробнее самого лога сервера
+        LogLevel gameLevel = WordleLogger.defaultGameLevel();
+        this.gameLog = log.forComponent("Game")
+                .withLevel(gameLevel.compareTo(log.getLevel()) > 0 ? gameLevel : log.getLevel());
+        this.store = store;
+        this.maxSessions = maxSessions;
+        this.idleNanos = idleNanos;
+        // Срок любой партии не дальше чем через WHEEL_SIZE - 2 такта: колесо обходится за один оборот
+        this.tickNanos = Math.max(1, (idleNanos + WHEEL_SIZE - 3) / (WHEEL_SIZE - 2));
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+
+        if (startTicker) {
+            long period = Math.max(tickNanos, MIN_TICKER_PERIOD_NANOS);
+            this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wordle-session-ticker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ticker.scheduleAtFixedRate(this::tick, period, period, TimeUnit.NANOSECONDS);
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    public long create(boolean hardMode) {
+        return register(new WordleGame(dictionary, gameLog, hardMode));
+    }
+
+    // Берёт под управление уже созданную партию (например, с заданным ответом)
+    public long register(WordleGame game) {
+        if (game == null) throw new IllegalArgumentException("Игра не может быть null");
+
+        while (true) {
+            long id = idGenerator.nextLong();
+            if (store != null && store.contains(id)) {
+                continue;
+            }
+            Session session = new Session(id, game, clock.getAsLong());
+            if (sessions.putIfAbsent(id, session) == null) {
+                schedule(session);
+                evictIfNeeded();
+                return id;
+            }
+        }
+    }
+
+    // Выполняет действие под блокировкой партии; действия одной партии идут строго по очереди
+    public <T, E extends Exception> T execute(long sessionId, SessionAction<T, E> action)
+            throws SessionNotFoundException, E {
+        if (action == null) throw new IllegalArgumentException("Действие не может быть null");
+
+        while (true) {
+            Session session = lookup(sessionId);
+            session.lock.lock();
+            try {
+                if (session.removed) {
+                    // Партию выселили между поиском и блокировкой: она уже в хранилище или удалена
+                    continue;
+                }
+                session.lastAccess = clock.getAsLong();
+                return action.apply(session.game);
+            } finally {
+                session.lock.unlock();
+            }
+        }
+    }
+
+    public boolean remove(long sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return store != null && store.remove(sessionId) != null;
+        }
+        session.lock.lock();
+        try {
+            discard(session);
+            // Оболочка остаётся в корзине колеса до своего такта или до чистки
+            deadEntries.increment();
+        } finally {
+            session.lock.unlock();
+        }
+        return true;
+    }
+
+    // Например, журнал заново подключается к восстановленной партии: слушатели в снимок не попадают
+    public void setResumeHook(ObjLongConsumer<WordleGame> hook) {
+        if (hook == null) throw new IllegalArgumentException("Обработчик не может быть null");
+        this.resumeHook = hook;
+    }
+
+    public boolean contains(long sessionId) {
+        return sessions.containsKey(sessionId) || (store != null && store.contains(sessionId));
+    }
+
+    // Партии в памяти, без отложенных в хранилище
+    public int size() {
+        return sessions.size();
+    }
+
+    public long getExpiredCount() {
+        return expired.get();
+    }
+
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    // Удалённые партии, оболочки которых ещё лежат в корзинах колеса
+    long getDeadEntryCount() {
+        return deadEntries.sum();
+    }
+
+    // Выгружает все партии из памяти. При наличии хранилища незавершённые партии откладываются в него,
+    // чтобы их можно было продолжить и после перезапуска; уже отложенные остаются там
+    public void clear() {
+        for (Session session : sessions.values()) {
+            session.lock.lock();
+            try {
+                if (session.removed) {
+                    continue;
+                }
+                if (store != null && !session.game.isGameOver()) {
+                    park(session);
+                }
+                discard(session);
+                deadEntries.increment();
+            } finally {
+                session.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        clear();
+    }
+
+    public static String formatId(long sessionId) {
+        return String.format("%016x", sessionId);
+    }
+
+    // Обратное к formatId; IllegalArgumentException для некорректной строки
+    public static long parseId(String id) {
+        if (id == null || id.length() != 16) {
+            throw new IllegalArgumentException("Некорректный идентификатор игры: " + id);
+        }
+        try {
+            return Long.parseUnsignedLong(id, 16);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный идентификатор игры: " + id, e);
+        }
+    }
+
+    // Один шаг колеса: обрабатывает корзины всех прошедших с прошлого вызова тактов
+    void tick() {
+        maintenance.lock();
+        try {
+            advance();
+            // Явно удалённые партии остаются в корзинах до их такта; при частом удалении
+            // колесо чистится целиком, когда пустых оболочек больше, чем живых партий
+            if (deadEntries.sum() > Math.max(WHEEL_SIZE, sessions.size())) {
+                purge();
+            }
+            WordleMetrics.SESSIONS_ACTIVE.set(sessions.size());
+        } catch (RuntimeException e) {
+            log.error("Ошибка при удалении простаивающих партий: " + e);
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    private Session lookup(long sessionId) throws SessionNotFoundException {
+        Session session = sessions.get(sessionId);
+        if (session == null && store != null) {
+            session = sessions.computeIfAbsent(sessionId, this::resumeParked);
+            if (session != null) {
+                evictIfNeeded();
+            }
+        }
+        if (session == null) {
+            throw new SessionNotFoundException(sessionId);
+        }
+        return session;
+    }
+
+    // Вызывается внутри computeIfAbsent
+    private Session resumeParked(long sessionId) {
+        WordleGame game = store.resume(sessionId, dictionary, gameLog);
+        if (game == null) {
+            return null;
+        }
+        try {
+            resumeHook.accept(game, sessionId);
+        } catch (RuntimeException e) {
+            log.error("Ошибка обработчика восстановления партии " + formatId(sessionId) + ": " + e);
+        }
+        Session session = new Session(sessionId, game, clock.getAsLong());
+        schedule(session);
+        log.debug(() -> "Партия " + formatId(sessionId) + " восстановлена из хранилища");
+        return session;
+    }
+
+    private void schedule(Session session) {
+        wheel[bucketOf(deadlineTick(session))].sessions.add(session);
+    }
+
+    // Первый такт, на котором партия считается простаивающей
+    private long deadlineTick(Session session) {
+        return tickOf(session.lastAccess + idleNanos) + 1;
+    }
+
+    private long tickOf(long nanos) {
+        return Math.floorDiv(nanos - origin, tickNanos);
+    }
+
+    private static int bucketOf(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    private void evictIfNeeded() {
+        if (sessions.size() <= maxSessions || !maintenance.tryLock()) {
+            // Выселением уже занят другой поток; превышение на время его работы допустимо
+            return;
+        }
+        try {
+            // Сначала истекают просроченные: иначе сроки свежих партий могут оказаться дальше оборота колеса
+            advance();
+            for (long tick = currentTick + 1; tick <= currentTick + WHEEL_SIZE && sessions.size() > maxSessions;
+                 tick++) {
+                drain(tick, true);
+            }
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    // Доводит колесо до текущего такта. Вызывается под maintenance.
+    private void advance() {
+        long target = tickOf(clock.getAsLong());
+        // После полного оборота каждая корзина уже просмотрена
+        currentTick = Math.max(currentTick, target - WHEEL_SIZE);
+        while (currentTick < target) {
+            currentTick++;
+            drain(currentTick, false);
+        }
+    }
+
+    // Просматривает корзину такта tick: партии со сроком не позже tick истекают (или выселяются),
+    // остальные переносятся в корзину своего срока. Вызывается под maintenance.
+    private void drain(long tick, boolean evicting) {
+        Bucket bucket = wheel[bucketOf(tick)];
+        List<Session> sameBucket = new ArrayList<>();
+        Session session;
+        while ((!evicting || sessions.size() > maxSessions) && (session = bucket.sessions.poll()) != null) {
+            if (session.removed) {
+                deadEntries.decrement();
+                continue;
+            }
+            long deadline = deadlineTick(session);
+            boolean done = deadline <= tick && (evicting ? evict(session) : expire(session, tick));
+            if (!done) {
+                if (bucketOf(deadline) == bucketOf(tick)) {
+                    sameBucket.add(session);
+                } else {
+                    schedule(session);
+                }
+            }
+        }
+        bucket.sessions.addAll(sameBucket);
+    }
+
+    private void purge() {
+        long purged = 0;
+        for (Bucket bucket : wheel) {
+            for (var it = bucket.sessions.iterator(); it.hasNext(); ) {
+                if (it.next().removed) {
+                    it.remove();
+                    purged++;
+                }
+            }
+        }
+        deadEntries.add(-purged);
+    }
+
+    private boolean expire(Session session, long tick) {
+        // Занятая партия не простаивает
+        if (!session.lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (session.removed) {
+                deadEntries.decrement();
+                return true;
+            }
+            if (deadlineTick(session) > tick) {
+                return false;
+            }
+            discard(session);
+            expired.incrementAndGet();
+            WordleMetrics.SESSIONS_EXPIRED.increment();
+            log.debug(() -> "Партия " + formatId(session.id) + " удалена после простоя");
+            return true;
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    private boolean evict(Session session) {
+        if (!session.lock.tryLock()) {
+            return false;
+        }
+        try {
+            if (session.removed) {
+                deadEntries.decrement();
+                return true;
+            }
+            // Не удалось отложить — партия остаётся в памяти: лучше превысить лимит, чем потерять живую игру
+            if (store != null && !session.game.isGameOver() && !park(session)) {
+                return false;
+            }
+            discard(session);
+            evicted.incrementAndGet();
+            WordleMetrics.SESSIONS_EVICTED.increment();
+            return true;
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    // Вызывается под блокировкой сессии; false, если отложить не удалось (ошибка уже в логе)
+    private boolean park(Session session) {
+        try {
+            store.park(session.id, session.game);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Не удалось отложить партию " + formatId(session.id) + ": " + e);
+            return false;
+        }
+    }
+
+    // Вызывается под блокировкой сессии. Мёртвые оболочки в корзинах считает вызывающий:
+    // expire и evict получают партию уже вынутой из корзины
+    private void discard(Session session) {
+        session.removed = true;
+        session.game = null;
+        sessions.remove(session.id, session);
+    }
+}
@@ -0,0 +1,103 @@
+package ru.yandex.practicum.session;
+
+import java.util.Arrays;
+
+// Отображение long → неотрицательный int на двух массивах с открытой адресацией:
+// 12 байт на ячейку без объектов-обёрток. Удаление сдвигает следующие записи цепочки назад,
+// поэтому надгробий нет и поиск не деградирует при частых удалениях.
+final class LongIntHashMap {
+    static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 3 / 2) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int get(long key) {
+        int i = find(key);
+        return i < 0 ? MISSING : values[i];
+    }
+
+    // Возвращает прежнее значение или MISSING
+    int put(long key, int value) {
+        if (value < 0) throw new IllegalArgumentException("Значение должно быть неотрицательным: " + value);
+
+        int i = home(key);
+        while (values[i] != MISSING) {
+            if (keys[i] == key) {
+                int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > (mask + 1) / 3 * 2) {
+            grow();
+        }
+        return MISSING;
+    }
+
+    int remove(long key) {
+        int hole = find(key);
+        if (hole < 0) return MISSING;
+        int removed = values[hole];
+
+        // Запись из j можно перенести в дыру, если дыра лежит между её домашней ячейкой и j
+        int j = hole;
+        while (true) {
+            j = (j + 1) & mask;
+            if (values[j] == MISSING) break;
+            if (((j - home(keys[j])) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                hole = j;
+            }
+        }
+        values[hole] = MISSING;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int find(long key) {
+        int i = home(key);
+        while (values[i] != MISSING) {
+            if (keys[i] == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int home(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldValues.length * 2);
+        size = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != MISSING) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,9 @@
+package ru.yandex.practicum.session;
+
+import ru.yandex.practicum.WordleGame;
+
+// Действие над партией; GameSessionManager выполняет его под блокировкой сессии
+@FunctionalInterface
+public interface SessionAction<T, E extends Exception> {
+    T apply(WordleGame game) throws E;
+}
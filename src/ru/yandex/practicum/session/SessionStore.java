@@ -0,0 +1,216 @@
+package ru.yandex.practicum.session;
+
+import ru.yandex.practicum.GameSnapshot;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Приостановленные партии в отображаемом в память файле из ячеек по SLOT_SIZE байт:
+//   sessionId (8) | снимок GameSnapshot (44) | признак занятости (4)
+// Файл растёт участками по CHUNK_SLOTS ячеек, каждый участок отображается отдельно.
+// В куче остаётся только индекс sessionId → ячейка на примитивных массивах, поэтому миллион
+// партий — это 56 МБ файла (в памяти столько, сколько держит страничный кеш) и ~24 МБ индекса.
+// После перезапуска индекс восстанавливается одним проходом по файлу.
+public final class SessionStore implements Closeable {
+    public static final int SLOT_SIZE = 56;
+
+    static final int CHUNK_SLOTS = 1 << 16;
+
+    private static final int SNAPSHOT_OFFSET = 8;
+    private static final int USED_OFFSET = SNAPSHOT_OFFSET + GameSnapshot.SIZE;
+    private static final int USED = 1;
+    private static final long CHUNK_SIZE = (long) CHUNK_SLOTS * SLOT_SIZE;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+    private final LongIntHashMap index;
+
+    // Освободившиеся ячейки ниже slotCount; новые ячейки берутся сначала отсюда
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+    private boolean closed;
+
+    public SessionStore(Path file) throws IOException {
+        if (file == null) throw new IllegalArgumentException("Файл хранилища не может быть null");
+
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long chunkCount = (channel.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            for (long i = 0; i < chunkCount; i++) {
+                mapChunk();
+            }
+            this.index = new LongIntHashMap(1024);
+            recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Сохраняет снимок, заменяя прежний снимок той же партии
+    public synchronized void park(long sessionId, GameSnapshot snapshot) throws IOException {
+        if (snapshot == null) throw new IllegalArgumentException("Снимок не может быть null");
+        checkOpen();
+
+        int slot = index.get(sessionId);
+        if (slot == LongIntHashMap.MISSING) {
+            slot = allocateSlot();
+            index.put(sessionId, slot);
+        }
+
+        MappedByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot);
+        chunk.putLong(offset, sessionId);
+        snapshot.writeTo(chunk, offset + SNAPSHOT_OFFSET);
+        chunk.putInt(offset + USED_OFFSET, USED);
+    }
+
+    public void park(long sessionId, WordleGame game) throws IOException {
+        park(sessionId, game.snapshot());
+    }
+
+    public synchronized GameSnapshot get(long sessionId) {
+        checkOpen();
+        int slot = index.get(sessionId);
+        if (slot == LongIntHashMap.MISSING) {
+            return null;
+        }
+        return GameSnapshot.readFrom(chunkOf(slot), offsetOf(slot) + SNAPSHOT_OFFSET);
+    }
+
+    public synchronized GameSnapshot remove(long sessionId) {
+        checkOpen();
+        int slot = index.remove(sessionId);
+        if (slot == LongIntHashMap.MISSING) {
+            return null;
+        }
+
+        MappedByteBuffer chunk = chunkOf(slot);
+        int offset = offsetOf(slot);
+        GameSnapshot snapshot = GameSnapshot.readFrom(chunk, offset + SNAPSHOT_OFFSET);
+        chunk.putInt(offset + USED_OFFSET, 0);
+        releaseSlot(slot);
+        return snapshot;
+    }
+
+    // Забирает партию из хранилища; null, если такой нет или её не удалось восстановить.
+    // Ячейка освобождается только после успешного восстановления: снимок, сделанный для другой
+    // версии словаря, остаётся на месте и может быть поднят позже с подходящим словарём.
+    public synchronized WordleGame resume(long sessionId, WordleDictionary dictionary, WordleLogger log) {
+        WordleGame game;
+        try {
+            GameSnapshot snapshot = get(sessionId);
+            if (snapshot == null) {
+                return null;
+            }
+            game = snapshot.restore(dictionary, log);
+        } catch (IllegalArgumentException e) {
+            log.warn("Не удалось восстановить партию " + GameSessionManager.formatId(sessionId) + ": " +
+                    e.getMessage());
+            return null;
+        }
+        remove(sessionId);
+        return game;
+    }
+
+    public synchronized boolean contains(long sessionId) {
+        checkOpen();
+        return index.get(sessionId) != LongIntHashMap.MISSING;
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    // Сбрасывает изменённые страницы на диск; без вызова это делает ОС в своё время
+    public synchronized void force() {
+        checkOpen();
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        force();
+        closed = true;
+        chunks.clear();
+        channel.close();
+    }
+
+    private void recover() {
+        int used = 0;
+        for (int slot = 0; slot < chunks.size() * CHUNK_SLOTS; slot++) {
+            MappedByteBuffer chunk = chunkOf(slot);
+            int offset = offsetOf(slot);
+            if (chunk.getInt(offset + USED_OFFSET) == USED) {
+                long sessionId = chunk.getLong(offset);
+                if (index.put(sessionId, slot) != LongIntHashMap.MISSING) {
+                    throw new IllegalStateException("Партия " + sessionId + " записана дважды: " + file);
+                }
+                used = slot + 1;
+            }
+        }
+
+        slotCount = used;
+        for (int slot = used - 1; slot >= 0; slot--) {
+            if (chunkOf(slot).getInt(offsetOf(slot) + USED_OFFSET) != USED) {
+                releaseSlot(slot);
+            }
+        }
+    }
+
+    private int allocateSlot() throws IOException {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == chunks.size() * CHUNK_SLOTS) {
+            if (chunks.size() == Integer.MAX_VALUE / CHUNK_SLOTS) {
+                throw new IllegalStateException("Хранилище партий переполнено: " + file);
+            }
+            mapChunk();
+        }
+        return slotCount++;
+    }
+
+    private void releaseSlot(int slot) {
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    // Отображение за концом файла увеличивает его, новые ячейки заполнены нулями (свободны)
+    private void mapChunk() throws IOException {
+        chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, chunks.size() * CHUNK_SIZE, CHUNK_SIZE));
+    }
+
+    private MappedByteBuffer chunkOf(int slot) {
+        return chunks.get(slot / CHUNK_SLOTS);
+    }
+
+    private static int offsetOf(int slot) {
+        return (slot % CHUNK_SLOTS) * SLOT_SIZE;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Хранилище партий закрыто");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ru.yandex.practicum.simulation;
+
+import ru.yandex.practicum.WordleGame;
+
+// Кандидат, чьи различные буквы чаще всего встречаются среди оставшихся кандидатов:
+// такая попытка в среднем отсекает больше слов. При равенстве — первый в порядке словаря.
+public class FrequencyScoredStrategy implements GuessStrategy {
+    private static final char FIRST_LETTER = 'а';
+    private static final int ALPHABET_SIZE = 32;
+
+    @Override
+    public String nextGuess(WordleGame game) {
+        int count = game.getRemainingCandidateCount();
+        if (count == 0) {
+            return null;
+        }
+
+        // Буквы каждого кандидата в виде битовой маски, чтобы повторы считались один раз
+        int[] masks = new int[count];
+        int[] frequency = new int[ALPHABET_SIZE];
+        for (int i = 0; i < count; i++) {
+            String word = game.getRemainingCandidate(i);
+            int mask = 0;
+            for (int j = 0; j < word.length(); j++) {
+                mask |= 1 << (word.charAt(j) - FIRST_LETTER);
+            }
+            masks[i] = mask;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                frequency[Integer.numberOfTrailingZeros(rest)]++;
+            }
+        }
+
+        int best = 0;
+        long bestScore = -1;
+        for (int i = 0; i < count; i++) {
+            long score = 0;
+            for (int rest = masks[i]; rest != 0; rest &= rest - 1) {
+                score += frequency[Integer.numberOfTrailingZeros(rest)];
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return game.getRemainingCandidate(best);
+    }
+
+    @Override
+    public String getName() {
+        return "frequency";
+    }
+}
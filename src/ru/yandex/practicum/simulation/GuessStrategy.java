@@ -0,0 +1,14 @@
+package ru.yandex.practicum.simulation;
+
+import ru.yandex.practicum.WordleGame;
+
+// Выбор следующей попытки по текущему состоянию игры. Реализации вызываются из нескольких
+// потоков одновременно (каждый раз со своей игрой), поэтому не должны хранить состояние партии.
+public interface GuessStrategy {
+    // Слово для следующей попытки или null, если предложить нечего
+    String nextGuess(WordleGame game);
+
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.yandex.practicum.simulation;
+
+import ru.yandex.practicum.WordleGame;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Случайное слово среди совместимых со всеми подсказками — то же, что getHint,
+// только ответ не исключается, иначе стратегия никогда бы не угадала
+public class RandomCandidateStrategy implements GuessStrategy {
+    @Override
+    public String nextGuess(WordleGame game) {
+        int count = game.getRemainingCandidateCount();
+        if (count == 0) {
+            return null;
+        }
+        return game.getRemainingCandidate(ThreadLocalRandom.current().nextInt(count));
+    }
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+}
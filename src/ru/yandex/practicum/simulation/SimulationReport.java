@@ -0,0 +1,55 @@
+package ru.yandex.practicum.simulation;
+
+import ru.yandex.practicum.WordleGame;
+
+import java.util.concurrent.TimeUnit;
+
+// Итоги прогона: guessDistribution[k] — число партий, выигранных за k попыток (индекс 0 не используется)
+public record SimulationReport(String strategy,
+                               int games,
+                               int[] guessDistribution,
+                               int failures,
+                               long elapsedNanos,
+                               long moves,
+                               long moveP50Nanos,
+                               long moveP99Nanos) {
+
+    public double failureRate() {
+        return games == 0 ? 0 : (double) failures / games;
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    // Среднее число попыток по выигранным партиям
+    public double averageGuesses() {
+        long solved = 0;
+        long total = 0;
+        for (int guesses = 1; guesses < guessDistribution.length; guesses++) {
+            solved += guessDistribution[guesses];
+            total += (long) guesses * guessDistribution[guesses];
+        }
+        return solved == 0 ? 0 : (double) total / solved;
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Стратегия: ").append(strategy).append(System.lineSeparator());
+        sb.append(String.format("Партий: %d, проиграно: %d (%.2f%%), в среднем попыток: %.3f%n",
+                games, failures, failureRate() * 100, averageGuesses()));
+
+        int width = Integer.toString(games).length();
+        for (int guesses = 1; guesses <= WordleGame.MAX_ATTEMPTS; guesses++) {
+            int count = guessDistribution[guesses];
+            int bar = games == 0 ? 0 : (int) Math.round(50.0 * count / games);
+            sb.append(String.format("  %d: %" + width + "d %s%n", guesses, count, "#".repeat(bar)));
+        }
+
+        sb.append(String.format("Время: %.1f мс, партий в секунду: %.0f%n",
+                elapsedNanos / 1e6, gamesPerSecond()));
+        sb.append(String.format("Ходов: %d, p50: %.1f мкс, p99: %.1f мкс",
+                moves, moveP50Nanos / 1e3, moveP99Nanos / 1e3));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,154 @@
+package ru.yandex.practicum.simulation;
+
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleDictionaryLoader;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.exception.InvalidWordException;
+import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Самостоятельная игра без консоли: по одной партии на каждое загаданное слово,
+// партии идут параллельно в ForkJoinPool, попытки выбирает GuessStrategy.
+public class SimulationRunner {
+    private final WordleDictionary dictionary;
+    private final GuessStrategy strategy;
+    private final ForkJoinPool pool;
+
+    // Результат одной партии: guesses = 0 — не угадано
+    private record GameResult(int guesses, long[] moveNanos) {
+    }
+
+    public SimulationRunner(WordleDictionary dictionary, GuessStrategy strategy) {
+        this(dictionary, strategy, ForkJoinPool.commonPool());
+    }
+
+    public SimulationRunner(WordleDictionary dictionary, GuessStrategy strategy, ForkJoinPool pool) {
+        if (dictionary == null) throw new IllegalArgumentException("Словарь не может быть null");
+        if (strategy == null) throw new IllegalArgumentException("Стратегия не может быть null");
+        if (pool == null) throw new IllegalArgumentException("Пул потоков не может быть null");
+
+        this.dictionary = dictionary;
+        this.strategy = strategy;
+        this.pool = pool;
+    }
+
+    // Каждое слово словаря загадывается ровно один раз
+    public SimulationReport runAll() {
+        return run(dictionary.getAllWords());
+    }
+
+    // Случайная выборка из size слов словаря без повторов
+    public SimulationReport runSample(int size, long seed) {
+        if (size < 0) throw new IllegalArgumentException("Размер выборки не может быть отрицательным: " + size);
+
+        List<String> words = dictionary.getAllWords();
+        if (size >= words.size()) {
+            return runAll();
+        }
+
+        int[] order = IntStream.range(0, words.size()).toArray();
+        Random random = new Random(seed);
+        for (int i = 0; i < size; i++) {
+            int j = i + random.nextInt(order.length - i);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return run(Arrays.stream(order, 0, size).mapToObj(words::get).toList());
+    }
+
+    public SimulationReport run(List<String> answers) {
+        long start = System.nanoTime();
+        GameResult[] results = pool.submit(() -> IntStream.range(0, answers.size())
+                .parallel()
+                .mapToObj(i -> play(answers.get(i)))
+                .toArray(GameResult[]::new)).join();
+        long elapsed = System.nanoTime() - start;
+
+        int[] distribution = new int[WordleGame.MAX_ATTEMPTS + 1];
+        int failures = 0;
+        int moves = 0;
+        for (GameResult result : results) {
+            if (result.guesses() == 0) {
+                failures++;
+            } else {
+                distribution[result.guesses()]++;
+            }
+            moves += result.moveNanos().length;
+        }
+
+        long[] moveNanos = new long[moves];
+        int position = 0;
+        for (GameResult result : results) {
+            System.arraycopy(result.moveNanos(), 0, moveNanos, position, result.moveNanos().length);
+            position += result.moveNanos().length;
+        }
+        Arrays.sort(moveNanos);
+
+        return new SimulationReport(strategy.getName(), results.length, distribution, failures, elapsed,
+                moves, percentile(moveNanos, 0.50), percentile(moveNanos, 0.99));
+    }
+
+    private GameResult play(String answer) {
+        WordleGame game = new WordleGame(dictionary, answer, WordleLogger.NONE);
+        long[] moveNanos = new long[WordleGame.MAX_ATTEMPTS];
+        int moves = 0;
+
+        while (!game.isGameOver()) {
+            long start = System.nanoTime();
+            String guess = strategy.nextGuess(game);
+            if (guess == null) {
+                break;
+            }
+            try {
+                game.checkWord(guess);
+            } catch (InvalidWordException | WordNotFoundInDictionaryException e) {
+                throw new IllegalStateException("Стратегия " + strategy.getName() +
+                        " предложила недопустимое слово: " + e.getMessage(), e);
+            }
+            moveNanos[moves++] = System.nanoTime() - start;
+        }
+
+        int guesses = game.isWordGuessed() ? game.getGuessedWords().size() : 0;
+        return new GameResult(guesses, Arrays.copyOf(moveNanos, moves));
+    }
+
+    // Ближайший ранг по отсортированному массиву
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    public static GuessStrategy strategyByName(String name) {
+        return switch (name) {
+            case "random" -> new RandomCandidateStrategy();
+            case "frequency" -> new FrequencyScoredStrategy();
+            default -> throw new IllegalArgumentException("Неизвестная стратегия: " + name +
+                    " (доступны: random, frequency)");
+        };
+    }
+
+    // Запуск: java ru.yandex.practicum.simulation.SimulationRunner [random|frequency] [число партий] [seed]
+    public static void main(String[] args) throws IOException {
+        GuessStrategy strategy = strategyByName(args.length > 0 ? args[0] : "frequency");
+        int sampleSize = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+        WordleDictionary dictionary = new WordleDictionaryLoader(WordleLogger.NONE).loadCompiled("words_ru.txt");
+        SimulationRunner runner = new SimulationRunner(dictionary, strategy);
+        PrintWriter console = new PrintWriter(System.out, true, StandardCharsets.UTF_8);
+        console.println(runner.runSample(sampleSize, seed).format());
+    }
+}
@@ -0,0 +1,141 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnswerPoolTest {
+
+    private static final WordleDictionary DICTIONARY = new WordleDictionary(
+            List.of("герой", "горка", "банан", "пчела", "слово", "ёлочка", "ежики"), WordleLogger.NONE);
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testSamplesFollowWeights() {
+        List<String> words = List.of("герой", "горка", "банан", "пчела", "слово");
+        double[] weights = {1, 2, 3, 4, 0.5};
+        AnswerPool pool = new AnswerPool(words, weights);
+
+        int draws = 400_000;
+        Map<String, Integer> counts = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(11);
+        for (int i = 0; i < draws; i++) {
+            counts.merge(pool.sample(random), 1, Integer::sum);
+        }
+
+        double total = 10.5;
+        for (int i = 0; i < words.size(); i++) {
+            double expected = weights[i] / total;
+            double actual = counts.getOrDefault(words.get(i), 0) / (double) draws;
+            assertEquals(expected, actual, 0.005, words.get(i));
+        }
+    }
+
+    @Test
+    public void testSkewedWeightsNeverLoseWords() {
+        // Одно слово почти всё, остальные — на грани погрешности округления
+        List<String> words = List.of("герой", "горка", "банан");
+        AnswerPool pool = new AnswerPool(words, new double[]{1e9, 1, 1});
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(words.contains(pool.sample(random)));
+        }
+
+        AnswerPool single = new AnswerPool(List.of("пчела"), new double[]{0.25});
+        assertEquals("пчела", single.sample());
+    }
+
+    @Test
+    public void testRejectsBadWeights() {
+        List<String> words = List.of("герой", "горка");
+        assertThrows(IllegalArgumentException.class, () -> new AnswerPool(words, new double[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> new AnswerPool(words, new double[]{1, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new AnswerPool(words, new double[]{1, Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> new AnswerPool(List.of(), new double[0]));
+    }
+
+    @Test
+    public void testLoadSkipsUnknownZeroWeightAndDuplicateWords() throws IOException {
+        Path file = tempDir.resolve("words.txt.answers");
+        Files.writeString(file, """
+                # загадываемые слова
+                герой 5
+                ГОРКА   2.5   # регистр не важен
+                банан 0
+                ёжики
+                хижина 3
+                герой 1
+                """);
+
+        AnswerPool pool = AnswerPool.load(file, DICTIONARY, WordleLogger.NONE);
+
+        assertEquals(3, pool.size());
+        assertEquals("герой", pool.getWord(0));
+        assertEquals(5, pool.getWeight(0));
+        assertEquals("горка", pool.getWord(1));
+        assertEquals(2.5, pool.getWeight(1));
+        assertEquals("ежики", pool.getWord(2));
+        assertEquals(1, pool.getWeight(2));
+    }
+
+    @Test
+    public void testLoadRejectsMalformedLines() throws IOException {
+        Path file = tempDir.resolve("bad.answers");
+        Files.writeString(file, "герой много\n");
+        assertThrows(IOException.class, () -> AnswerPool.load(file, DICTIONARY, WordleLogger.NONE));
+
+        Files.writeString(file, "герой -1\n");
+        assertThrows(IOException.class, () -> AnswerPool.load(file, DICTIONARY, WordleLogger.NONE));
+
+        Files.writeString(file, "хижина 1\n");
+        assertThrows(IOException.class, () -> AnswerPool.load(file, DICTIONARY, WordleLogger.NONE));
+    }
+
+    @Test
+    public void testDictionaryDrawsAnswersFromPool() {
+        WordleDictionary dictionary = new WordleDictionary(List.of("герой", "горка", "банан"), WordleLogger.NONE);
+        WordleDictionary pooled = dictionary.withAnswerPool(new AnswerPool(List.of("банан"), new double[]{1}));
+        for (int i = 0; i < 50; i++) {
+            assertEquals("банан", pooled.getRandomWord());
+        }
+        // Исходный словарь не меняется
+        assertNull(dictionary.getAnswerPool());
+        assertEquals(dictionary.getChecksum(), pooled.getChecksum());
+        assertEquals(dictionary.size(), pooled.size());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> dictionary.withAnswerPool(new AnswerPool(List.of("пчела"), new double[]{1})));
+
+        WordleDictionary plain = pooled.withAnswerPool(null);
+        assertNull(plain.getAnswerPool());
+        assertTrue(plain.contains(plain.getRandomWord()));
+    }
+
+    @Test
+    public void testLoaderAttachesSideFile() throws IOException {
+        Path file = tempDir.resolve("words.txt");
+        Files.writeString(file, "герой\nгорка\nбанан\nпчела\n");
+        Files.writeString(AnswerPool.answersFileFor(file), "пчела 3\nгорка 1\n");
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(WordleLogger.NONE);
+        for (WordleDictionary dictionary : List.of(loader.loadDictionary(file.toString()),
+                loader.loadCompiled(file.toString()), loader.loadCompiled(file.toString()))) {
+            assertNotNull(dictionary.getAnswerPool());
+            assertEquals(2, dictionary.getAnswerPool().size());
+            String answer = dictionary.getRandomWord();
+            assertTrue(answer.equals("пчела") || answer.equals("горка"), answer);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DictionaryDeltaTest {
+
+    // Небольшой алфавит, чтобы поиск по буквам и позициям находил много слов
+    private static final String LETTERS = "абвгдеклмнорст";
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testDeltasMatchFullRebuild() {
+        Random random = new Random(5);
+        Set<String> expected = new LinkedHashSet<>();
+        while (expected.size() < 300) {
+            expected.add(randomWord(random));
+        }
+        WordleDictionary dictionary = new WordleDictionary(new ArrayList<>(expected), WordleLogger.NONE);
+
+        for (int round = 0; round < 40; round++) {
+            List<String> added = new ArrayList<>();
+            List<String> removed = new ArrayList<>();
+            List<String> current = new ArrayList<>(expected);
+            // Чередуем правки, которые сокращают и увеличивают словарь
+            int removals = random.nextInt(round % 2 == 0 ? 40 : 10);
+            int additions = random.nextInt(round % 2 == 0 ? 10 : 40);
+            for (int i = 0; i < removals; i++) {
+                removed.add(current.get(random.nextInt(current.size())));
+            }
+            for (int i = 0; i < additions; i++) {
+                String word = randomWord(random);
+                if (!removed.contains(word)) added.add(word);
+            }
+            removed.add("ъъъъъ");
+
+            WordleDictionary previous = dictionary;
+            int previousSize = previous.size();
+            dictionary = dictionary.apply(new DictionaryDelta(added, removed));
+            expected.removeAll(removed);
+            expected.addAll(added);
+
+            assertEquals(previousSize, previous.size());
+            assertSameContent(new WordleDictionary(new ArrayList<>(expected), WordleLogger.NONE), dictionary, random);
+        }
+    }
+
+    private static void assertSameContent(WordleDictionary rebuilt, WordleDictionary updated, Random random) {
+        assertEquals(rebuilt.size(), updated.size());
+        assertEquals(new HashSet<>(rebuilt.getAllWords()), new HashSet<>(updated.getAllWords()));
+        for (int i = 0; i < updated.size(); i++) {
+            assertEquals(i, updated.indexOf(updated.getWord(i)));
+            assertEquals(WordCodec.encode(updated.getWord(i)), updated.getPackedWord(i));
+            assertEquals(rebuilt.scoreWord(updated.getWord(i)), updated.scoreWord(updated.getWord(i)));
+        }
+        assertEquals(rebuilt.getLetterFrequency(), updated.getLetterFrequency());
+        assertEquals(rebuilt.getMostCommonLetters(), updated.getMostCommonLetters());
+
+        for (int query = 0; query < 20; query++) {
+            char present = LETTERS.charAt(random.nextInt(LETTERS.length()));
+            char absent = LETTERS.charAt(random.nextInt(LETTERS.length()));
+            if (present == absent) continue;
+            String pattern = "__" + LETTERS.charAt(random.nextInt(LETTERS.length())) + "__";
+            assertEquals(new HashSet<>(rebuilt.findSuggestions(Set.of(present), Set.of(absent), pattern)),
+                    new HashSet<>(updated.findSuggestions(Set.of(present), Set.of(absent), pattern)));
+            assertEquals(new HashSet<>(rebuilt.findSuggestions(Set.of(present), Set.of(), null)),
+                    new HashSet<>(updated.findSuggestions(Set.of(present), Set.of(), null)));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return word.toString();
+    }
+
+    @Test
+    public void testOldVersionIsUntouched() {
+        WordleDictionary original = new WordleDictionary(List.of("герой", "банан", "пчела"), WordleLogger.NONE);
+        WordleGame game = new WordleGame(original, "банан", WordleLogger.NONE);
+
+        WordleDictionary updated = original.apply(new DictionaryDelta(List.of("Слово"), List.of("банан")));
+
+        assertEquals(List.of("герой", "слово", "пчела"), updated.getAllWords());
+        assertEquals(List.of("герой", "банан", "пчела"), original.getAllWords());
+        assertTrue(original.contains("банан"));
+        assertFalse(updated.contains("банан"));
+        assertNotEquals(original.getChecksum(), updated.getChecksum());
+        assertSame(original, game.getDictionary());
+    }
+
+    @Test
+    public void testNoOpDeltaReturnsSameVersion() {
+        WordleDictionary dictionary = new WordleDictionary(List.of("герой", "банан"), WordleLogger.NONE);
+        assertSame(dictionary, dictionary.apply(new DictionaryDelta(List.of("герой"), List.of("пчела"))));
+        assertTrue(new DictionaryDelta(List.of(), List.of()).isEmpty());
+    }
+
+    @Test
+    public void testRemovingEverythingAndAddingBack() {
+        WordleDictionary dictionary = new WordleDictionary(List.of("герой", "банан"), WordleLogger.NONE);
+        WordleDictionary empty = dictionary.apply(new DictionaryDelta(List.of(), List.of("герой", "банан")));
+        assertTrue(empty.isEmpty());
+        assertTrue(empty.findSuggestions(Set.of(), Set.of(), null).isEmpty());
+
+        WordleDictionary refilled = empty.apply(new DictionaryDelta(List.of("пчела"), List.of()));
+        assertEquals(List.of("пчела"), refilled.getAllWords());
+        assertEquals(List.of("пчела"), refilled.findSuggestions(Set.of('ч'), Set.of(), "п____"));
+    }
+
+    @Test
+    public void testRemovedWordsLeaveAnswerPool() {
+        AnswerPool pool = new AnswerPool(List.of("герой", "банан"), new double[]{1, 3});
+        WordleDictionary dictionary = new WordleDictionary(List.of("герой", "банан", "пчела"), WordleLogger.NONE)
+                .withAnswerPool(pool);
+
+        WordleDictionary kept = dictionary.apply(new DictionaryDelta(List.of("слово"), List.of("пчела")));
+        assertSame(pool, kept.getAnswerPool());
+
+        WordleDictionary updated = dictionary.apply(new DictionaryDelta(List.of(), List.of("банан")));
+        assertEquals(1, updated.getAnswerPool().size());
+        assertEquals("герой", updated.getRandomWord());
+
+        assertNull(updated.apply(new DictionaryDelta(List.of(), List.of("герой"))).getAnswerPool());
+    }
+
+    @Test
+    public void testRejectsInvalidDeltas() {
+        assertThrows(IllegalArgumentException.class, () -> new DictionaryDelta(List.of("слон"), List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new DictionaryDelta(List.of("герой"), List.of("ГЕРОЙ")));
+        assertThrows(IllegalArgumentException.class, () -> new DictionaryDelta(null, List.of()));
+    }
+
+    @Test
+    public void testParsePatchFile() throws IOException {
+        Path patch = tempDir.resolve("fixes.patch");
+        Files.writeString(patch, """
+                # правки редакторов
+                + Ёжики
+                -банан   # опечатка в словаре
+                +слово
+                """);
+
+        DictionaryDelta delta = DictionaryDelta.parse(patch);
+        assertEquals(List.of("ежики", "слово"), delta.getAdded());
+        assertEquals(List.of("банан"), delta.getRemoved());
+
+        Files.writeString(patch, "герой\n");
+        assertThrows(IOException.class, () -> DictionaryDelta.parse(patch));
+        Files.writeString(patch, "+слон\n");
+        assertThrows(IOException.class, () -> DictionaryDelta.parse(patch));
+        Files.writeString(patch, "+герой\n-герой\n");
+        assertThrows(IOException.class, () -> DictionaryDelta.parse(patch));
+    }
+
+    @Test
+    public void testRegistryPublishesPatchedVersion() throws IOException {
+        Path file = tempDir.resolve("words.txt");
+        Files.writeString(file, "герой\nбанан\n");
+        Path patch = tempDir.resolve("fixes.patch");
+        Files.writeString(patch, "+пчела\n-банан\n");
+
+        try (DictionaryRegistry registry = new DictionaryRegistry(WordleLogger.NONE)) {
+            WordleDictionary original = registry.get(file.toString());
+            WordleDictionary patched = registry.applyPatch(file.toString(), patch);
+
+            assertSame(patched, registry.get(file.toString()));
+            assertEquals(2, registry.getVersion(file.toString()));
+            assertTrue(patched.contains("пчела"));
+            assertTrue(original.contains("банан"));
+
+            // Повторная правка ничего не меняет и версию не увеличивает
+            assertSame(patched, registry.applyPatch(file.toString(), patch));
+            assertEquals(2, registry.getVersion(file.toString()));
+        }
+    }
+}
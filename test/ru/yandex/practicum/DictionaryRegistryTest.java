@@ -0,0 +1,88 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DictionaryRegistryTest {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testDictionaryIsLoadedOnceAndShared() throws Exception {
+        Path file = tempDir.resolve("words.txt");
+        Files.writeString(file, "герой\nбанан\nпчела\n");
+
+        try (DictionaryRegistry registry = new DictionaryRegistry(WordleLogger.NONE)) {
+            assertEquals(0, registry.getVersion(file.toString()));
+
+            WordleDictionary first = registry.get(file.toString());
+            WordleDictionary second = registry.get(tempDir.resolve(".").resolve("words.txt").toString());
+
+            assertSame(first, second);
+            assertEquals(3, first.size());
+            assertEquals(1, registry.getVersion(file.toString()));
+        }
+    }
+
+    @Test
+    public void testChangedFileIsSwappedInWithoutTouchingOldVersion() throws Exception {
+        Path file = tempDir.resolve("words.txt");
+        Files.writeString(file, "герой\nбанан\n");
+
+        try (DictionaryRegistry registry = new DictionaryRegistry(WordleLogger.NONE)) {
+            WordleDictionary original = registry.get(file.toString());
+            WordleGame game = new WordleGame(original, WordleLogger.NONE);
+
+            Files.writeString(file, "герой\nбанан\nпчела\nслово\n");
+            WordleDictionary reloaded = awaitVersion(registry, file, 2);
+
+            assertNotSame(original, reloaded);
+            assertEquals(4, reloaded.size());
+            assertEquals(2, original.size());
+            assertSame(original, game.getDictionary());
+        }
+    }
+
+    @Test
+    public void testBrokenUpdateKeepsPreviousVersion() throws Exception {
+        Path file = tempDir.resolve("words.txt");
+        Files.writeString(file, "герой\nбанан\n");
+
+        try (DictionaryRegistry registry = new DictionaryRegistry(WordleLogger.NONE)) {
+            WordleDictionary original = registry.get(file.toString());
+
+            Files.writeString(file, "hello\nworld\n");
+            awaitFailedReload(registry, file);
+            assertSame(original, registry.get(file.toString()));
+            assertEquals(1, registry.getVersion(file.toString()));
+
+            Files.writeString(file, "пчела\n");
+            assertEquals(1, awaitVersion(registry, file, 2).size());
+        }
+    }
+
+    private static WordleDictionary awaitVersion(DictionaryRegistry registry, Path file, long version)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (registry.getVersion(file.toString()) < version) {
+            assertTrue(System.currentTimeMillis() < deadline, "Словарь не был перезагружен");
+            Thread.sleep(50);
+        }
+        return registry.get(file.toString());
+    }
+
+    private static void awaitFailedReload(DictionaryRegistry registry, Path file) throws Exception {
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (registry.getFailedReloadCount(file.toString()) == 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "Перезагрузка испорченного файла не была выполнена");
+            Thread.sleep(50);
+        }
+    }
+}
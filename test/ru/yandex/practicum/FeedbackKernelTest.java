@@ -0,0 +1,89 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FeedbackKernelTest {
+
+    // Слова с повторами букв — самые каверзные случаи для подсчёта желтых
+    private static final String[] WORDS = {
+            "банан", "герой", "гонец", "слово", "пчела", "банка", "горох", "горка", "ослик", "полол",
+            "ааааа", "аабба", "колок", "около", "напан", "шалаш", "кокос", "толпа", "потоп", "еееее"
+    };
+
+    @Test
+    public void testScalarMatchesAnalyzeWord() {
+        assertKernelMatchesAnalyzeWord(FeedbackKernel.SCALAR);
+    }
+
+    @Test
+    public void testVectorMatchesAnalyzeWord() {
+        FeedbackKernel vector = FeedbackKernel.vector();
+        assumeTrue(vector != null, "Модуль jdk.incubator.vector недоступен");
+        assertKernelMatchesAnalyzeWord(vector);
+    }
+
+    @Test
+    public void testVectorMatchesScalarOnRandomWords() {
+        FeedbackKernel vector = FeedbackKernel.vector();
+        assumeTrue(vector != null, "Модуль jdk.incubator.vector недоступен");
+
+        Random random = new Random(1);
+        // Маленький алфавит, чтобы повторы букв встречались часто; нечётный размер проверяет хвост
+        int[] secrets = new int[1003];
+        for (int i = 0; i < secrets.length; i++) {
+            secrets[i] = randomWord(random, 6);
+        }
+        byte[] expected = new byte[secrets.length];
+        byte[] actual = new byte[secrets.length];
+
+        for (int round = 0; round < 200; round++) {
+            int guess = randomWord(random, round % 2 == 0 ? 6 : 32);
+            FeedbackKernel.SCALAR.analyze(guess, secrets, secrets.length, expected);
+            vector.analyze(guess, secrets, secrets.length, actual);
+            assertArrayEquals(expected, actual, "Попытка " + WordCodec.decode(guess));
+        }
+    }
+
+    @Test
+    public void testAnalyzeBatchUsesCount() {
+        int[] secrets = {WordCodec.encode("герой"), WordCodec.encode("банан"), WordCodec.encode("слово")};
+        byte[] out = {-1, -1, -1, -1};
+
+        WordleDictionary.analyzeBatch(WordCodec.encode("герой"), secrets, 2, out);
+
+        assertEquals(Feedback.ALL_CORRECT, out[0] & 0xFF);
+        assertEquals(Feedback.fromPattern("-----"), out[1] & 0xFF);
+        assertEquals(-1, out[2]);
+        assertThrows(IllegalArgumentException.class,
+                () -> WordleDictionary.analyzeBatch(0, secrets, new byte[2]));
+    }
+
+    private static void assertKernelMatchesAnalyzeWord(FeedbackKernel kernel) {
+        int[] secrets = new int[WORDS.length];
+        for (int i = 0; i < WORDS.length; i++) {
+            secrets[i] = WordCodec.encode(WORDS[i]);
+        }
+        byte[] out = new byte[WORDS.length];
+
+        for (String guess : WORDS) {
+            kernel.analyze(WordCodec.encode(guess), secrets, secrets.length, out);
+            for (int i = 0; i < WORDS.length; i++) {
+                assertEquals(WordleDictionary.analyzeWord(WORDS[i], guess), Feedback.toPattern(out[i] & 0xFF),
+                        WORDS[i] + " / " + guess);
+            }
+        }
+    }
+
+    private static int randomWord(Random random, int letters) {
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            code |= random.nextInt(letters) << (WordCodec.BITS_PER_LETTER * i);
+        }
+        return code;
+    }
+}
@@ -0,0 +1,74 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FeedbackMatrixTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final PrintWriter log = new PrintWriter(new StringWriter());
+
+    private final WordleDictionary dictionary = new WordleDictionary(List.of(
+            "банан", "герой", "гонец", "слово", "пчела", "банка", "горох", "горка", "ослик", "полол"
+    ), log);
+
+    @Test
+    public void testBuildMatchesAnalyze() {
+        FeedbackMatrix matrix = dictionary.buildFeedbackMatrix();
+
+        assertEquals(dictionary.size(), matrix.size());
+        assertEquals(dictionary.getChecksum(), matrix.getChecksum());
+        assertMatrixMatches(matrix);
+    }
+
+    @Test
+    public void testLoadCreatesAndReusesCacheFile() throws Exception {
+        Path cacheFile = FeedbackMatrix.cacheFileFor(tempDir.resolve("words.txt"));
+        assertEquals("words.txt" + FeedbackMatrix.FILE_EXTENSION, cacheFile.getFileName().toString());
+
+        FeedbackMatrix created = dictionary.loadFeedbackMatrix(cacheFile);
+        assertTrue(Files.exists(cacheFile));
+        assertMatrixMatches(created);
+
+        long modified = Files.getLastModifiedTime(cacheFile).toMillis();
+        FeedbackMatrix reused = dictionary.loadFeedbackMatrix(cacheFile);
+        assertEquals(modified, Files.getLastModifiedTime(cacheFile).toMillis());
+        assertMatrixMatches(reused);
+    }
+
+    @Test
+    public void testStaleCacheIsRebuilt() throws Exception {
+        Path cacheFile = tempDir.resolve("words.txt.fbm");
+        dictionary.loadFeedbackMatrix(cacheFile);
+
+        WordleDictionary reordered = new WordleDictionary(List.of(
+                "полол", "ослик", "горка", "горох", "банка", "пчела", "слово", "гонец", "герой", "банан"
+        ), log);
+        assertNotEquals(dictionary.getChecksum(), reordered.getChecksum());
+
+        FeedbackMatrix rebuilt = reordered.loadFeedbackMatrix(cacheFile);
+        assertEquals(reordered.getChecksum(), rebuilt.getChecksum());
+        assertEquals(Feedback.ALL_CORRECT, rebuilt.feedback(0, 0));
+        assertEquals(WordleDictionary.analyze(reordered.getPackedWord(3), reordered.getPackedWord(1)),
+                rebuilt.feedback(1, 3));
+    }
+
+    private void assertMatrixMatches(FeedbackMatrix matrix) {
+        for (int guess = 0; guess < dictionary.size(); guess++) {
+            for (int secret = 0; secret < dictionary.size(); secret++) {
+                assertEquals(WordleDictionary.analyze(dictionary.getPackedWord(secret), dictionary.getPackedWord(guess)),
+                        matrix.feedback(guess, secret));
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.exception.HardModeViolationException;
+import ru.yandex.practicum.exception.InvalidWordException;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSnapshotTest {
+
+    private static final WordleDictionary DICTIONARY =
+            new WordleDictionary(List.of("герой", "горка", "банан", "пчела", "слово"), WordleLogger.NONE);
+
+    @Test
+    public void testRoundTripRestoresGameState() throws Exception {
+        WordleGame game = new WordleGame(DICTIONARY, "герой", WordleLogger.NONE, true);
+        game.checkWord("горка");
+
+        byte[] bytes = game.snapshot().toBytes();
+        assertEquals(GameSnapshot.SIZE, bytes.length);
+
+        GameSnapshot snapshot = GameSnapshot.fromBytes(bytes);
+        assertEquals(game.snapshot(), snapshot);
+        assertEquals(1, snapshot.getGuessCount());
+        assertTrue(snapshot.isHardMode());
+
+        WordleGame restored = snapshot.restore(DICTIONARY, WordleLogger.NONE);
+        assertEquals(game.getAnswer(), restored.getAnswer());
+        assertEquals(game.getGuessedWords(), restored.getGuessedWords());
+        assertEquals(game.getHints(), restored.getHints());
+        assertEquals(game.getAttemptsRemaining(), restored.getAttemptsRemaining());
+        assertEquals(game.getConstraints(), restored.getConstraints());
+        assertEquals(game.getRemainingCandidateCount(), restored.getRemainingCandidateCount());
+        assertTrue(restored.isHardMode());
+
+        // Восстановленная партия продолжается как обычная: повторы и нарушения сложного режима запрещены
+        assertThrows(InvalidWordException.class, () -> restored.checkWord("горка"));
+        assertThrows(HardModeViolationException.class, () -> restored.checkWord("слово"));
+        assertEquals("+++++", restored.checkWord("герой"));
+        assertTrue(restored.isWordGuessed());
+    }
+
+    @Test
+    public void testNewAndFinishedGamesRoundTrip() throws Exception {
+        WordleGame fresh = new WordleGame(DICTIONARY, "пчела", WordleLogger.NONE);
+        WordleGame restoredFresh = GameSnapshot.fromBytes(fresh.snapshot().toBytes())
+                .restore(DICTIONARY, WordleLogger.NONE);
+        assertEquals(WordleGame.MAX_ATTEMPTS, restoredFresh.getAttemptsRemaining());
+        assertEquals(DICTIONARY.size(), restoredFresh.getRemainingCandidateCount());
+
+        fresh.checkWord("пчела");
+        WordleGame restoredWon = fresh.snapshot().restore(DICTIONARY, WordleLogger.NONE);
+        assertTrue(restoredWon.isGameOver());
+        assertTrue(restoredWon.isWordGuessed());
+    }
+
+    @Test
+    public void testRestoreRejectsOtherDictionaryAndCorruptedData() throws Exception {
+        WordleGame game = new WordleGame(DICTIONARY, "герой", WordleLogger.NONE);
+        game.checkWord("банан");
+        byte[] bytes = game.snapshot().toBytes();
+
+        WordleDictionary other = new WordleDictionary(List.of("герой", "банан"), WordleLogger.NONE);
+        assertThrows(IllegalArgumentException.class,
+                () -> GameSnapshot.fromBytes(bytes).restore(other, WordleLogger.NONE));
+
+        // Подсказка первой попытки не соответствует ответу
+        byte[] corrupted = bytes.clone();
+        corrupted[38] ^= 1;
+        assertThrows(IllegalArgumentException.class,
+                () -> GameSnapshot.fromBytes(corrupted).restore(DICTIONARY, WordleLogger.NONE));
+
+        byte[] unknownVersion = bytes.clone();
+        unknownVersion[0] = 9;
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.fromBytes(unknownVersion));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.fromBytes(new byte[10]));
+    }
+}
@@ -0,0 +1,46 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LetterFrequencyTest {
+
+    @Test
+    public void testParallelCountMatchesDirectCount() {
+        Random random = new Random(11);
+        // Больше порога, чтобы сработал параллельный подсчёт кусками
+        int[] words = new int[200_003];
+        int[] positional = new int[WordleGame.WORD_LENGTH * WordCodec.ALPHABET_SIZE];
+        for (int i = 0; i < words.length; i++) {
+            for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+                int letter = random.nextInt(WordCodec.ALPHABET_SIZE);
+                words[i] |= letter << (WordCodec.BITS_PER_LETTER * pos);
+                positional[pos * WordCodec.ALPHABET_SIZE + letter]++;
+            }
+        }
+
+        LetterFrequency frequency = LetterFrequency.of(words);
+        assertArrayEquals(positional, frequency.positionalCopy());
+
+        int letter = WordCodec.letterIndex('о');
+        int total = 0;
+        for (int pos = 0; pos < WordleGame.WORD_LENGTH; pos++) {
+            total += frequency.count(pos, letter);
+        }
+        assertEquals(total, frequency.count(letter));
+    }
+
+    @Test
+    public void testScoreCountsRepeatedLettersOnce() {
+        LetterFrequency frequency = LetterFrequency.of(new int[]{
+                WordCodec.encode("аббба"), WordCodec.encode("бвгде")
+        });
+
+        // позиционные: по одному совпадению в каждой позиции; общие: а(2) + б(4)
+        assertEquals(5 + 6, frequency.score(WordCodec.encode("аббба")));
+        assertThrows(IllegalArgumentException.class, () -> LetterFrequency.fromPositional(new int[3]));
+    }
+}
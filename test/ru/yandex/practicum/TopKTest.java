@@ -0,0 +1,42 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopKTest {
+
+    @Test
+    public void testMatchesFullSort() {
+        Random random = new Random(9);
+        TopK top = new TopK(5);
+        int[] out = new int[5];
+
+        for (int round = 0; round < 100; round++) {
+            // Небольшой разброс оценок, чтобы часто встречались равные
+            long[] scores = random.longs(1 + random.nextInt(40), 0, 10).toArray();
+            for (int i = 0; i < scores.length; i++) {
+                top.offer(i, scores[i]);
+            }
+
+            int[] expected = IntStream.range(0, scores.length).boxed()
+                    .sorted(Comparator.<Integer>comparingLong(i -> -scores[i]).thenComparingInt(i -> i))
+                    .limit(5)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int count = top.drain(out);
+            assertArrayEquals(expected, Arrays.copyOf(out, count));
+            assertEquals(0, top.size());
+        }
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TopK(0));
+    }
+}
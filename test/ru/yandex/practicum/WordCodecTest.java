@@ -0,0 +1,66 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordCodecTest {
+
+    @Test
+    public void testEncodeDecode() {
+        for (String word : new String[]{"герой", "банан", "ааааа", "яяяяя", "пчела"}) {
+            int code = WordCodec.encode(word);
+            assertNotEquals(WordCodec.INVALID, code);
+            assertTrue(code < (1 << (WordCodec.BITS_PER_LETTER * WordleGame.WORD_LENGTH)));
+            assertEquals(word, WordCodec.decode(code));
+        }
+        assertEquals(0, WordCodec.encode("ааааа"));
+    }
+
+    @Test
+    public void testEncodeFoldsYo() {
+        assertEquals(WordCodec.encode("ежика"), WordCodec.encode("ёжика"));
+        assertEquals("ежика", WordCodec.decode(WordCodec.encode("ёжика")));
+    }
+
+    @Test
+    public void testEncodeInvalid() {
+        assertEquals(WordCodec.INVALID, WordCodec.encode(null));
+        assertEquals(WordCodec.INVALID, WordCodec.encode("слон"));
+        assertEquals(WordCodec.INVALID, WordCodec.encode("второй"));
+        assertEquals(WordCodec.INVALID, WordCodec.encode("hello"));
+        assertEquals(WordCodec.INVALID, WordCodec.encode("ГЕРОЙ"));
+        assertEquals(WordCodec.INVALID, WordCodec.encode("гер0й"));
+    }
+
+    @Test
+    public void testEncodeLooseMatchesNormalizedEncode() {
+        for (String word : List.of("герой", "ГЕРОЙ", "  гЕрОй\t", "ёжики", "ЁЖИКИ", "слон", "второй", "hello",
+                "гер0й", "", "     ", " г е р")) {
+            assertEquals(WordCodec.encode(WordleDictionary.normalizeWord(word)), WordCodec.encodeLoose(word), word);
+        }
+        assertEquals(WordCodec.INVALID, WordCodec.encodeLoose(null));
+    }
+
+    @Test
+    public void testLetterAt() {
+        int code = WordCodec.encode("гонец");
+        assertEquals('г', WordCodec.letterChar(WordCodec.letterAt(code, 0)));
+        assertEquals('ц', WordCodec.letterChar(WordCodec.letterAt(code, 4)));
+        assertEquals(-1, WordCodec.letterIndex('ё'));
+        assertEquals(31, WordCodec.letterIndex('я'));
+    }
+
+    @Test
+    public void testFeedbackPatterns() {
+        assertEquals("+++++", Feedback.toPattern(Feedback.ALL_CORRECT));
+        assertEquals("-----", Feedback.toPattern(0));
+        for (int code = 0; code < Feedback.PATTERN_COUNT; code++) {
+            assertEquals(code, Feedback.fromPattern(Feedback.toPattern(code)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Feedback.fromPattern("++*++"));
+        assertThrows(IllegalArgumentException.class, () -> Feedback.toPattern(Feedback.PATTERN_COUNT));
+    }
+}
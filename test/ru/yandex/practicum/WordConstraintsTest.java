@@ -0,0 +1,121 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordConstraintsTest {
+
+    @Test
+    public void testSingleGuess() {
+        // Ответ "банка", попытка "банан": "+++^-"
+        WordConstraints constraints = WordConstraints.NONE.apply("банан", "+++^-");
+
+        assertTrue(constraints.matches("банка"));
+        assertFalse(constraints.matches("банан"));
+        assertFalse(constraints.matches("бакан"));
+        assertEquals(1, constraints.getMinCount(WordCodec.letterIndex('н')));
+        assertEquals(1, constraints.getMaxCount(WordCodec.letterIndex('н')));
+        assertEquals(2, constraints.getMinCount(WordCodec.letterIndex('а')));
+        assertEquals(WordleGame.WORD_LENGTH, constraints.getMaxCount(WordCodec.letterIndex('а')));
+        assertTrue(constraints.isFixed(0));
+        assertFalse(constraints.isFixed(3));
+    }
+
+    @Test
+    public void testCollectionViews() {
+        WordConstraints constraints = WordConstraints.NONE
+                .apply("гонец", "+^---")
+                .apply("горох", "+-+^-");
+
+        assertEquals(Set.of('г', 'о', 'р'), constraints.getPresentLetters());
+        assertEquals(Set.of('н', 'е', 'ц', 'х'), constraints.getAbsentLetters());
+        assertEquals(Map.of(0, 'г', 2, 'р'), constraints.getFixedLetters());
+        assertEquals(Set.of('о'), constraints.getMisplacedLetters().get(1));
+        assertEquals(Set.of('о'), constraints.getMisplacedLetters().get(3));
+        assertEquals(Set.of(), constraints.getMisplacedLetters().get(4));
+        assertThrows(UnsupportedOperationException.class, () -> constraints.getPresentLetters().add('я'));
+
+        // Исходный объект не меняется
+        assertEquals(Set.of(), WordConstraints.NONE.getPresentLetters());
+        assertTrue(WordConstraints.NONE.matches("шалаш"));
+    }
+
+    @Test
+    public void testMatchesAgreesWithFeedback() {
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            int answer = randomWord(random);
+            int[] guesses = new int[1 + random.nextInt(4)];
+            WordConstraints constraints = WordConstraints.NONE;
+            for (int g = 0; g < guesses.length; g++) {
+                guesses[g] = randomWord(random);
+                constraints = constraints.apply(guesses[g], WordleDictionary.analyze(answer, guesses[g]));
+            }
+
+            // Слово подходит тогда и только тогда, когда даёт те же подсказки, что и ответ
+            for (int i = 0; i < 200; i++) {
+                int word = randomWord(random);
+                boolean consistent = true;
+                for (int guess : guesses) {
+                    consistent &= WordleDictionary.analyze(word, guess) == WordleDictionary.analyze(answer, guess);
+                }
+                assertEquals(consistent, constraints.matches(word),
+                        WordCodec.decode(word) + " для ответа " + WordCodec.decode(answer));
+            }
+            assertTrue(constraints.matches(answer));
+        }
+    }
+
+    @Test
+    public void testDictionaryFilter() {
+        Random random = new Random(5);
+        Set<String> unique = new LinkedHashSet<>();
+        while (unique.size() < 500) {
+            unique.add(WordCodec.decode(randomWord(random)));
+        }
+        List<String> words = new ArrayList<>(unique);
+        WordleDictionary dictionary = new WordleDictionary(words, WordleLogger.NONE);
+
+        for (int round = 0; round < 50; round++) {
+            int answer = WordCodec.encode(words.get(random.nextInt(words.size())));
+            WordConstraints constraints = WordConstraints.NONE;
+            for (int g = 0; g < 2; g++) {
+                int guess = randomWord(random);
+                constraints = constraints.apply(guess, WordleDictionary.analyze(answer, guess));
+            }
+
+            List<String> expected = new ArrayList<>();
+            for (String word : words) {
+                if (constraints.matches(word)) expected.add(word);
+            }
+            assertEquals(expected, dictionary.findMatching(constraints));
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> WordConstraints.NONE.apply("кот", "+++++"));
+        assertThrows(IllegalArgumentException.class, () -> WordConstraints.NONE.apply("герой", "+++"));
+        assertThrows(IllegalArgumentException.class, () -> WordConstraints.NONE.apply(0, Feedback.PATTERN_COUNT));
+        assertThrows(IllegalArgumentException.class, () -> WordConstraints.NONE.getAllowedMask(5));
+        assertFalse(WordConstraints.NONE.matches("abcde"));
+    }
+
+    // Слово из первых шести букв алфавита: повторы встречаются часто
+    private static int randomWord(Random random) {
+        int code = 0;
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            code |= random.nextInt(6) << (WordCodec.BITS_PER_LETTER * i);
+        }
+        return code;
+    }
+}
@@ -2,11 +2,18 @@ package ru.yandex.practicum;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.log.WordleLogger;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -93,4 +100,146 @@ public class WordleDictionaryLoaderTest {
 
         assertEquals(2, dictionary.getAllWords().size()); // герой, банан
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLoadCompiledCreatesAndUsesSnapshot() throws IOException {
+        Path file = tempDir.resolve("words_compiled.txt");
+        Files.write(file, "герой\nбанан\nпчела\nслон\nГерой\n".getBytes());
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(new PrintWriter(new StringWriter()));
+        WordleDictionary first = loader.loadCompiled(file.toString());
+
+        Path snapshot = DictionarySnapshot.snapshotFileFor(file);
+        assertTrue(Files.exists(snapshot));
+
+        WordleDictionary fromSnapshot = DictionarySnapshot.open(snapshot, file, WordleLogger.NONE);
+        assertNotNull(fromSnapshot);
+        assertEquals(first.getAllWords(), fromSnapshot.getAllWords());
+        assertEquals(first.getChecksum(), fromSnapshot.getChecksum());
+        assertEquals(first.getLetterFrequency(), fromSnapshot.getLetterFrequency());
+        assertEquals(first.getAllWords(), loader.loadCompiled(file.toString()).getAllWords());
+    }
+
+    @Test
+    public void testLoadCompiledFallsBackWhenSnapshotIsStale() throws IOException {
+        Path file = tempDir.resolve("words_stale.txt");
+        Files.write(file, "герой\nбанан\n".getBytes());
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(new PrintWriter(new StringWriter()));
+        loader.loadCompiled(file.toString());
+
+        Files.write(file, "герой\nбанан\nпчела\n".getBytes());
+        Path snapshot = DictionarySnapshot.snapshotFileFor(file);
+        assertNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+
+        WordleDictionary reloaded = loader.loadCompiled(file.toString());
+        assertEquals(3, reloaded.size());
+        assertNotNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+
+        Files.write(snapshot, new byte[]{1, 2, 3});
+        assertNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+        assertEquals(3, loader.loadCompiled(file.toString()).size());
+    }
+
+    @Test
+    public void testSnapshotChecksSourceChecksumOnlyWhenModifiedTimeChanges() throws IOException {
+        Path file = tempDir.resolve("words_mtime.txt");
+        Files.write(file, "герой\nбанан\n".getBytes(StandardCharsets.UTF_8));
+        FileTime old = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(file, old);
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(new PrintWriter(new StringWriter()));
+        loader.loadCompiled(file.toString());
+        Path snapshot = DictionarySnapshot.snapshotFileFor(file);
+
+        // Размер и время те же — файл не перечитывается, даже если содержимое подменено
+        Files.write(file, "пчела\nбанан\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, old);
+        assertNotNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+
+        // Время изменилось — решает CRC32
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        assertNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+
+        Files.write(file, "герой\nбанан\n".getBytes(StandardCharsets.UTF_8));
+        assertNotNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+    }
+
+    @Test
+    public void testSnapshotIsNotWrittenWhenSourceChangesDuringLoad() throws IOException {
+        Path file = tempDir.resolve("words_racing.txt");
+        Files.write(file, "герой\nбанан\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+
+        // Файл дописывается между разбором и записью снимка
+        WordleDictionaryLoader racing = new WordleDictionaryLoader(WordleLogger.NONE) {
+            @Override
+            public WordleDictionary loadDictionary(String filename) throws IOException {
+                WordleDictionary dictionary = super.loadDictionary(filename);
+                Files.write(file, "герой\nбанан\nпчела\n".getBytes(StandardCharsets.UTF_8));
+                return dictionary;
+            }
+        };
+        assertEquals(2, racing.loadCompiled(file.toString()).size());
+
+        Path snapshot = DictionarySnapshot.snapshotFileFor(file);
+        assertNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+        assertEquals(3, new WordleDictionaryLoader(WordleLogger.NONE).loadCompiled(file.toString()).size());
+    }
+
+    @Test
+    public void testSnapshotKeepsStampTakenBeforeParsing() throws IOException {
+        Path file = tempDir.resolve("words_stamp.txt");
+        Files.write(file, "герой\nбанан\n".getBytes(StandardCharsets.UTF_8));
+        DictionarySnapshot.SourceStamp stamp = DictionarySnapshot.SourceStamp.of(file);
+        WordleDictionary dictionary = new WordleDictionaryLoader(WordleLogger.NONE).loadDictionary(file.toString());
+
+        // Снимок описывает прочитанные байты, а не файл на момент записи
+        Files.write(file, "пчела\nбанан\n".getBytes(StandardCharsets.UTF_8));
+        Path snapshot = DictionarySnapshot.snapshotFileFor(file);
+        DictionarySnapshot.compile(dictionary, stamp, snapshot);
+        assertNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+
+        Files.write(file, "герой\nбанан\n".getBytes(StandardCharsets.UTF_8));
+        assertNotNull(DictionarySnapshot.open(snapshot, file, WordleLogger.NONE));
+    }
+
+    @Test
+    public void testLoadHandlesLineEndingsAndCase() throws IOException {
+        Path file = tempDir.resolve("words_crlf.txt");
+        Files.write(file, "  ГЕРОЙ \r\nёжика\r\n\r\nЁЖИКА\rбанан\tx\nпчела".getBytes(StandardCharsets.UTF_8));
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(new PrintWriter(new StringWriter()));
+        WordleDictionary dictionary = loader.loadDictionary(file.toString());
+
+        assertEquals(List.of("герой", "ежика", "пчела"), dictionary.getAllWords());
+    }
+
+    @Test
+    public void testLoadLargeFileMatchesLineByLineParsing() throws IOException {
+        Random random = new Random(42);
+        String alphabet = "абвгдеёжзийклмнопрстуфхцчшщъыьэюяАБВЁЯ -1z";
+        StringBuilder text = new StringBuilder();
+        Set<String> expected = new LinkedHashSet<>();
+        while (text.length() < 3_000_000) {
+            StringBuilder line = new StringBuilder();
+            int length = 3 + random.nextInt(5);
+            for (int i = 0; i < length; i++) {
+                line.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            text.append(line).append(random.nextInt(10) == 0 ? "\r\n" : "\n");
+
+            String normalized = WordleDictionary.normalizeWord(line.toString());
+            if (normalized.length() == WordleGame.WORD_LENGTH && normalized.matches("[а-я]+")) {
+                expected.add(normalized);
+            }
+        }
+        Path file = tempDir.resolve("words_large.txt");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+
+        WordleDictionaryLoader loader = new WordleDictionaryLoader(new PrintWriter(new StringWriter()));
+        WordleDictionary dictionary = loader.loadDictionary(file.toString());
+
+        assertEquals(new ArrayList<>(expected), dictionary.getAllWords());
+    }
+}
@@ -5,6 +5,7 @@ import ru.yandex.practicum.exception.InvalidWordException;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,30 @@ public class WordleDictionaryTest {
         assertFalse(dictionary.contains(null));
     }
 
+    @Test
+    public void testIndexOf() {
+        List<String> words = dictionary.getAllWords();
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(i, dictionary.indexOf(words.get(i)));
+            assertEquals(i, dictionary.indexOfPacked(dictionary.getPackedWord(i)));
+        }
+        assertEquals(1, dictionary.indexOf(" ГЕРОЙ "));
+        assertEquals(-1, dictionary.indexOf("шалаш"));
+        assertEquals(-1, dictionary.indexOf("слон"));
+        assertEquals(-1, dictionary.indexOf(null));
+        assertEquals(-1, dictionary.indexOfPacked(WordCodec.INVALID));
+    }
+
+    @Test
+    public void testDuplicatesAreRemovedInOrder() {
+        WordleDictionary withDuplicates = new WordleDictionary(
+                List.of("герой", "ГЕРОЙ", "банан", "слон", "герой", "пчела", "банан"), log);
+
+        assertEquals(List.of("герой", "банан", "пчела"), withDuplicates.getAllWords());
+        assertEquals(2, withDuplicates.indexOf("пчела"));
+        assertTrue(withDuplicates.contains("Банан"));
+    }
+
     @Test
     public void testValidateWord() throws InvalidWordException {
         dictionary.validateWord("герой");
@@ -77,6 +102,24 @@ public class WordleDictionaryTest {
                 () -> WordleDictionary.analyzeWord("герой", null));
     }
 
+    @Test
+    public void testAnalyzePacked() {
+        List<String> words = dictionary.getAllWords();
+        for (String secret : words) {
+            for (String guess : words) {
+                int feedback = WordleDictionary.analyze(WordCodec.encode(secret), WordCodec.encode(guess));
+                assertEquals(WordleDictionary.analyzeWord(secret, guess), Feedback.toPattern(feedback));
+            }
+        }
+
+        assertEquals(Feedback.fromPattern("+^-^-"),
+                WordleDictionary.analyze(WordCodec.encode("гонец"), WordCodec.encode("герой")));
+        assertEquals(Feedback.fromPattern("-^+--"),
+                WordleDictionary.analyze(WordCodec.encode("ослик"), WordCodec.encode("полол")));
+        assertEquals(Feedback.ALL_CORRECT,
+                WordleDictionary.analyze(WordCodec.encode("банан"), WordCodec.encode("банан")));
+    }
+
     @Test
     public void testFindSuggestions() {
         Set<Character> mustContain = Set.of('г', 'о');
@@ -100,6 +143,37 @@ public class WordleDictionaryTest {
         assertFalse(suggestions.contains("герой"));
     }
 
+    @Test
+    public void testFindSuggestionsMatchesLinearScan() {
+        String letters = "абвгдеийклнорсцчя";
+        for (char include : letters.toCharArray()) {
+            for (char exclude : letters.toCharArray()) {
+                if (include == exclude) continue;
+
+                List<String> expected = new ArrayList<>();
+                for (String word : dictionary.getAllWords()) {
+                    if (word.indexOf(include) >= 0 && word.indexOf(exclude) < 0 && word.charAt(1) != exclude) {
+                        expected.add(word);
+                    }
+                }
+
+                assertEquals(expected, dictionary.findSuggestions(Set.of(include), Set.of(exclude), null));
+                assertEquals(expected, dictionary.findSuggestionsOptimized(Set.of(include), Set.of(exclude),
+                        Map.of(), Map.of(1, Set.of(exclude))));
+            }
+        }
+    }
+
+    @Test
+    public void testFindSuggestionsKeepsDictionaryOrder() {
+        assertEquals(List.of("банан", "банка"), dictionary.findSuggestions(Set.of(), Set.of(), "бан__"));
+        assertEquals(List.of("герой", "горох", "горка"), dictionary.findSuggestionsOptimized(
+                Set.of('р'), Set.of(), Map.of(0, 'г', 2, 'р'), Map.of()));
+        assertEquals(List.of(), dictionary.findSuggestions(Set.of('z'), Set.of(), null));
+        assertEquals(List.of(), dictionary.findSuggestionsOptimized(Set.of(), Set.of(), Map.of(7, 'г'), Map.of()));
+        assertEquals(9, dictionary.findSuggestions(Set.of(), Set.of('z'), "_____").size());
+    }
+
     @Test
     public void testGetLetterFrequency() {
         Map<Character, Integer> freq = dictionary.getLetterFrequency();
@@ -108,6 +182,43 @@ public class WordleDictionaryTest {
         assertNotNull(freq.get('б'));
     }
 
+    @Test
+    public void testLetterCountsAndMostCommonLetters() {
+        // Буква 'о': слово(2), гонец(1), герой(1), горох(2), горка(1)
+        assertEquals(7, dictionary.getLetterFrequency().get('о'));
+        assertEquals(7, dictionary.getLetterCount('о'));
+        assertEquals(3, dictionary.getLetterCount(1, 'о'));
+        assertEquals(0, dictionary.getLetterCount('я'));
+        assertEquals(0, dictionary.getLetterCount(0, 'z'));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.getLetterCount(5, 'о'));
+        assertThrows(UnsupportedOperationException.class, () -> dictionary.getLetterFrequency().put('я', 1));
+
+        List<Character> common = dictionary.getMostCommonLetters();
+        assertEquals(10, common.size());
+        // 'а' и 'о' встречаются по 7 раз: при равенстве порядок алфавитный
+        assertEquals(List.of('а', 'о'), common.subList(0, 2));
+        assertSame(common, dictionary.getMostCommonLetters());
+    }
+
+    @Test
+    public void testScoreWordAndTopWords() {
+        // 'г' в позиции 0 у четырёх слов, 'о' в позиции 1 у трёх: "горох" оценивается выше "банка"
+        assertTrue(dictionary.scoreWord("горох") > dictionary.scoreWord("банка"));
+        assertEquals(dictionary.scoreWord("горох"), dictionary.scoreWord(" ГОРОХ "));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.scoreWord("слон"));
+
+        List<String> top = dictionary.getTopWords(3);
+        assertEquals(3, top.size());
+        for (String word : dictionary.getAllWords()) {
+            if (!top.contains(word)) {
+                assertTrue(dictionary.scoreWord(top.get(2)) >= dictionary.scoreWord(word), word);
+            }
+        }
+        assertTrue(dictionary.scoreWord(top.get(0)) >= dictionary.scoreWord(top.get(1)));
+        assertEquals(dictionary.size(), dictionary.getTopWords(100).size());
+        assertThrows(IllegalArgumentException.class, () -> dictionary.getTopWords(0));
+    }
+
     @Test
    public void testGetAllWords() {
         List<String> words = dictionary.getAllWords();
@@ -1,13 +1,19 @@
 package ru.yandex.practicum;
 
 import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.exception.HardModeViolationException;
 import ru.yandex.practicum.exception.InvalidWordException;
 import ru.yandex.practicum.exception.WordNotFoundInDictionaryException;
+import ru.yandex.practicum.log.WordleLogger;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Field;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntToLongFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -118,6 +124,137 @@ public class WordleGameTest {
         assertNotEquals("банан", hint);
     }
 
+    @Test
+    public void testRemainingCandidatesNarrowWithEachGuess() throws Exception {
+        setupGame("герой");
+        assertEquals(10, game.getRemainingCandidateCount());
+
+        // Без букв б, а, н остаются только "герой", "слово" и "горох"
+        game.checkWord("банан");
+        assertEquals(3, game.getRemainingCandidateCount());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(List.of("слово", "горох").contains(game.getHint()));
+        }
+
+        game.checkWord("герой");
+        assertEquals(1, game.getRemainingCandidateCount());
+        assertNull(game.getHint());
+    }
+
+    @Test
+    public void testRankedHints() throws Exception {
+        setupGame("герой");
+
+        for (HintScorer scorer : List.of(HintScorer.POSITIONAL_FREQUENCY, HintScorer.DISTINCT_LETTERS,
+                HintScorer.EXPECTED_REMAINING)) {
+            // Ожидаемый порядок: полная сортировка всех кандидатов, кроме ответа
+            IntToLongFunction score = scorer.prepare(dictionary, dictionary.allIndices(), dictionary.size());
+            List<String> expected = dictionary.getAllWords().stream()
+                    .filter(word -> !word.equals("герой"))
+                    .sorted(Comparator.comparingLong((String word) -> -score.applyAsLong(dictionary.indexOf(word)))
+                            .thenComparingInt(dictionary::indexOf))
+                    .limit(4)
+                    .toList();
+            assertEquals(expected, game.getRankedHints(4, scorer));
+        }
+
+        // Остались "герой", "слово" и "горох"; ответ в подсказки не попадает
+        game.checkWord("банан");
+        List<String> hints = game.getRankedHints(5);
+        assertEquals(2, hints.size());
+        assertEquals(Set.of("слово", "горох"), Set.copyOf(hints));
+        assertThrows(IllegalArgumentException.class, () -> game.getRankedHints(0));
+        assertThrows(IllegalArgumentException.class, () -> game.getRankedHints(3, null));
+    }
+
+    @Test
+    public void testExpectedRemainingPrefersSplittingGuess() throws Exception {
+        setupGame("герой");
+        game.checkWord("банан");
+
+        // Попытка "горох" даёт разные подсказки для всех трёх оставшихся слов: Σ n² = 3
+        IntToLongFunction score = HintScorer.EXPECTED_REMAINING.prepare(dictionary,
+                game.getCandidateIndices(), game.getRemainingCandidateCount());
+        assertEquals(-3, score.applyAsLong(dictionary.indexOf("горох")));
+    }
+
+    @Test
+    public void testFixedAnswerConstructor() throws Exception {
+        setupGame("герой");
+        WordleGame fixed = new WordleGame(dictionary, " Пчела ", WordleLogger.NONE);
+
+        assertEquals("пчела", fixed.getAnswer());
+        assertEquals("+++++", fixed.checkWord("пчела"));
+        assertThrows(IllegalArgumentException.class, () -> new WordleGame(dictionary, "шалаш", WordleLogger.NONE));
+    }
+
+    @Test
+    public void testHardModeKeepsCorrectLetters() throws Exception {
+        setupGame("герой");
+        WordleGame hard = new WordleGame(dictionary, "герой", WordleLogger.NONE, true);
+        assertTrue(hard.isHardMode());
+        assertFalse(game.isHardMode());
+
+        hard.checkWord("горка"); // "+^+--"
+        HardModeViolationException e = assertThrows(HardModeViolationException.class, () -> hard.checkWord("банан"));
+        assertEquals(HardModeViolationException.Rule.KEEP_CORRECT_LETTER, e.getRule());
+        assertTrue(e.getMessage().contains("'г'"), e.getMessage());
+
+        // Отклонённая попытка не расходует ход
+        assertEquals(WordleGame.MAX_ATTEMPTS - 1, hard.getAttemptsRemaining());
+        assertEquals("+++++", hard.checkWord("герой"));
+    }
+
+    @Test
+    public void testHardModePresentAndAbsentLetters() throws Exception {
+        setupGame("герой");
+        WordleGame hard = new WordleGame(dictionary, "герой", WordleLogger.NONE, true);
+
+        hard.checkWord("слово"); // "--^--": одна 'о', букв 'с', 'л', 'в' нет
+        assertEquals(HardModeViolationException.Rule.REUSE_PRESENT_LETTER,
+                assertThrows(HardModeViolationException.class, () -> hard.checkWord("банан")).getRule());
+        assertEquals(HardModeViolationException.Rule.EXCLUDE_ABSENT_LETTER,
+                assertThrows(HardModeViolationException.class, () -> hard.checkWord("клоун")).getRule());
+        HardModeViolationException repeated = assertThrows(HardModeViolationException.class,
+                () -> hard.checkWord("горох"));
+        assertEquals(HardModeViolationException.Rule.EXCLUDE_ABSENT_LETTER, repeated.getRule());
+        assertTrue(repeated.getMessage().contains("только 1 раз"), repeated.getMessage());
+
+        // Повтор слова проверяется раньше правил сложного режима и в обычном исключении
+        InvalidWordException again = assertThrows(InvalidWordException.class, () -> hard.checkWord("слово"));
+        assertFalse(again instanceof HardModeViolationException);
+
+        // В обычном режиме те же попытки допустимы
+        game.checkWord("слово");
+        game.checkWord("банан");
+    }
+
+    @Test
+    public void testGetRemainingCandidate() throws Exception {
+        setupGame("герой");
+        game.checkWord("банан");
+
+        assertEquals("герой", game.getRemainingCandidate(0));
+        assertEquals("слово", game.getRemainingCandidate(1));
+        assertEquals("горох", game.getRemainingCandidate(2));
+        assertThrows(IllegalArgumentException.class, () -> game.getRemainingCandidate(3));
+    }
+
+    @Test
+    public void testConstraintsFollowGuesses() throws Exception {
+        setupGame("герой");
+        WordConstraints before = game.getConstraints();
+        game.checkWord("горка");
+
+        assertSame(game.getConstraints(), game.getConstraints());
+        assertEquals(WordConstraints.NONE, before);
+        assertEquals(before.apply("горка", game.getHints().get(0)), game.getConstraints());
+        assertEquals(game.getRemainingCandidateCount(), dictionary.findMatching(game.getConstraints()).size());
+        assertEquals(Set.of('г', 'о', 'р'), game.getCorrectLetters());
+        assertEquals(Set.of('к', 'а'), game.getWrongLetters());
+        assertEquals(Map.of(0, 'г', 2, 'р'), game.getCorrectPositions());
+    }
+
     @Test
     public void testGetCurrentPattern() throws Exception {
         setupGame("банка");
@@ -174,6 +311,41 @@ public class WordleGameTest {
         assertEquals("герой", game.getCurrentPattern());
     }
 
+    @Test
+    public void testCandidateArrayIsSizedToRemainingWords() throws Exception {
+        setupGame("герой");
+        Field candidatesField = WordleGame.class.getDeclaredField("candidates");
+        candidatesField.setAccessible(true);
+
+        game.checkWord("горох");
+        int[] candidates = (int[]) candidatesField.get(game);
+        assertEquals(game.getRemainingCandidateCount(), candidates.length);
+        assertTrue(candidates.length < dictionary.size());
+    }
+
+    @Test
+    public void testFailingListenerDoesNotRejectGuess() throws Exception {
+        setupGame("герой");
+        game.setEventListener(new GameEventListener() {
+            @Override
+            public void guessAccepted(WordleGame game, int guess, int feedback) {
+                throw new IllegalStateException("Журнал закрыт");
+            }
+
+            @Override
+            public void hintGiven(WordleGame game, String hint) {
+                throw new IllegalStateException("Журнал закрыт");
+            }
+        });
+
+        assertEquals(WordleDictionary.analyzeWord("герой", "банан"), game.checkWord("банан"));
+        assertEquals(List.of("банан"), game.getGuessedWords());
+        assertEquals(WordleGame.MAX_ATTEMPTS - 1, game.getAttemptsRemaining());
+        assertNotNull(game.getHint());
+        log.flush();
+        assertTrue(stringWriter.toString().contains("Журнал закрыт"));
+    }
+
     // Вспомогательный метод для вычисления ожидаемого паттерна
     private String getExpectedPattern(String guess, String hint) {
         char[] pattern = new char[WordleGame.WORD_LENGTH];
@@ -0,0 +1,110 @@
+package ru.yandex.practicum;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordleSolverTest {
+
+    private final PrintWriter log = new PrintWriter(new StringWriter());
+
+    private final WordleDictionary dictionary = new WordleDictionary(List.of(
+            "герой", "слово", "банан", "пчела", "гонец", "банка", "горох", "горка", "абвгд", "клоун"
+    ), log);
+
+    private WordleGame newGame(String answer) throws Exception {
+        WordleGame game = new WordleGame(dictionary, log);
+        Field answerField = WordleGame.class.getDeclaredField("answer");
+        answerField.setAccessible(true);
+        answerField.set(game, answer);
+        return game;
+    }
+
+    @Test
+    public void testBestGuessMaximizesInformation() throws Exception {
+        WordleSolver solver = new WordleSolver(dictionary);
+        WordleGame game = newGame("герой");
+
+        int[] candidates = solver.findCandidates(List.of(), List.of());
+        assertEquals(dictionary.size(), candidates.length);
+
+        String best = solver.bestGuess(game);
+        assertNotNull(best);
+        int bestIndex = dictionary.getAllWords().indexOf(best);
+        double bestInformation = solver.expectedInformation(bestIndex, candidates);
+        for (int i = 0; i < dictionary.size(); i++) {
+            assertTrue(solver.expectedInformation(i, candidates) <= bestInformation);
+        }
+        assertEquals(best, solver.bestGuess(newGame("банка")));
+    }
+
+    @Test
+    public void testBestGuessNarrowsToAnswer() throws Exception {
+        WordleSolver solver = new WordleSolver(dictionary);
+        WordleGame game = newGame("горка");
+
+        while (!game.isGameOver()) {
+            String guess = solver.bestGuess(game);
+            assertNotNull(guess);
+            game.checkWord(guess);
+        }
+
+        assertTrue(game.isWordGuessed());
+        assertTrue(game.getGuessedWords().size() <= 3);
+    }
+
+    @Test
+    public void testCandidatePoolAndMatrixAgree() throws Exception {
+        WordleSolver plain = new WordleSolver(dictionary, null, WordleSolver.GuessPool.CANDIDATES,
+                ForkJoinPool.commonPool());
+        WordleSolver withMatrix = new WordleSolver(dictionary, dictionary.buildFeedbackMatrix(),
+                WordleSolver.GuessPool.CANDIDATES, new ForkJoinPool(2));
+
+        WordleGame game = newGame("гонец");
+        game.checkWord("банан");
+
+        int[] candidates = plain.findCandidates(game.getGuessedWords(), game.getHints());
+        for (int candidate : candidates) {
+            assertEquals(game.getHints().get(0), WordleDictionary.analyzeWord(dictionary.getWord(candidate), "банан"));
+        }
+
+        String guess = plain.bestGuess(game);
+        assertEquals(guess, withMatrix.bestGuess(game));
+        assertEquals(game.getHints().get(0), WordleDictionary.analyzeWord(guess, "банан"));
+    }
+
+    @Test
+    public void testMatrixEntropyMatchesForFewAndManyCandidates() {
+        WordleSolver plain = new WordleSolver(dictionary);
+        WordleSolver withMatrix = new WordleSolver(dictionary, dictionary.buildFeedbackMatrix(),
+                WordleSolver.GuessPool.DICTIONARY, ForkJoinPool.commonPool());
+
+        int[] all = new int[dictionary.size()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        // Полный набор читает строки матрицы целиком, пара кандидатов — поэлементно
+        for (int[] candidates : List.of(all, new int[]{0, all.length - 1})) {
+            for (int guess = 0; guess < dictionary.size(); guess++) {
+                assertEquals(plain.expectedInformation(guess, candidates),
+                        withMatrix.expectedInformation(guess, candidates), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testRejectsForeignGameAndMatrix() throws Exception {
+        WordleDictionary other = new WordleDictionary(List.of("банан", "герой"), log);
+        WordleSolver solver = new WordleSolver(other);
+
+        assertThrows(IllegalArgumentException.class, () -> solver.bestGuess(newGame("герой")));
+        assertThrows(IllegalArgumentException.class, () -> new WordleSolver(dictionary,
+                other.buildFeedbackMatrix(), WordleSolver.GuessPool.DICTIONARY, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,134 @@
+package ru.yandex.practicum.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.WordCodec;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameJournalTest {
+
+    private static final WordleDictionary DICTIONARY =
+            new WordleDictionary(List.of("герой", "горка", "банан", "пчела", "слово"), WordleLogger.NONE);
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testGameIsRecordedInOrder() throws Exception {
+        try (GameJournal journal = new GameJournal(tempDir)) {
+            WordleGame game = new WordleGame(DICTIONARY, "герой", WordleLogger.NONE, true);
+            journal.attach(42, game);
+            game.checkWord("горка");
+            game.getHint();
+            game.checkWord("герой");
+            journal.flush();
+            assertEquals(5, journal.getCommittedCount());
+        }
+
+        List<JournalRecord> records = JournalReader.readAll(tempDir);
+        assertEquals(List.of(JournalRecord.Type.START, JournalRecord.Type.GUESS, JournalRecord.Type.HINT,
+                JournalRecord.Type.GUESS, JournalRecord.Type.END), records.stream().map(JournalRecord::type).toList());
+        assertTrue(records.stream().allMatch(r -> r.sessionId() == 42));
+
+        assertEquals(JournalRecord.FLAG_HARD_MODE, records.get(0).flags());
+        assertEquals("герой", WordCodec.decode(records.get(0).word()));
+        assertEquals("горка", WordCodec.decode(records.get(1).word()));
+        assertEquals(1, records.get(1).flags());
+        assertEquals(2, records.get(3).flags());
+        assertEquals(JournalRecord.FLAG_GUESSED, records.get(4).flags());
+        assertEquals(2, records.get(4).extra());
+    }
+
+    @Test
+    public void testSegmentsRollOverAndReopenAppendsNewSegment() throws Exception {
+        // Заголовок и три записи на сегмент
+        long segmentSize = 4L * JournalRecord.RECORD_SIZE;
+        try (GameJournal journal = new GameJournal(tempDir, segmentSize, 0)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(new JournalRecord(i, 0, JournalRecord.Type.HINT, 0, 0, -1));
+            }
+        }
+        assertEquals(4, JournalReader.segments(tempDir).size());
+
+        try (GameJournal journal = new GameJournal(tempDir, segmentSize, 0)) {
+            journal.append(new JournalRecord(10, 0, JournalRecord.Type.HINT, 0, 0, -1));
+        }
+        List<JournalRecord> records = JournalReader.readAll(tempDir);
+        assertEquals(11, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i, records.get(i).sessionId());
+        }
+        assertEquals(5, JournalReader.segments(tempDir).size());
+    }
+
+    @Test
+    public void testTornRecordAtEndIsIgnored() throws Exception {
+        try (GameJournal journal = new GameJournal(tempDir)) {
+            journal.append(new JournalRecord(1, 0, JournalRecord.Type.HINT, 0, 0, -1));
+            journal.append(new JournalRecord(2, 0, JournalRecord.Type.HINT, 0, 0, -1));
+        }
+        Path segment = JournalReader.segments(tempDir).getFirst();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 5);
+        }
+
+        assertEquals(1, JournalReader.scan(tempDir, (sessionId, time, type, flags, extra, word) -> { }));
+    }
+
+    @Test
+    public void testReplayRebuildsGamesAndStatistics() throws Exception {
+        int sessions = 100;
+        try (GameJournal journal = new GameJournal(tempDir, 64L * JournalRecord.RECORD_SIZE, 1);
+             ExecutorService players = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                long sessionId = i;
+                players.submit(() -> {
+                    WordleGame game = new WordleGame(DICTIONARY, "пчела", WordleLogger.NONE);
+                    journal.attach(sessionId, game);
+                    game.checkWord("банан");
+                    if (sessionId % 2 == 0) {
+                        game.checkWord("пчела");
+                    }
+                    return null;
+                });
+            }
+            players.shutdown();
+            assertTrue(players.awaitTermination(10, java.util.concurrent.TimeUnit.SECONDS));
+        }
+
+        JournalReplay.Statistics stats = JournalReplay.statistics(tempDir);
+        assertEquals(sessions * 2L + sessions, stats.records());
+        assertEquals(sessions, stats.gamesStarted());
+        assertEquals(sessions / 2, stats.gamesWon());
+        assertEquals(sessions / 2, stats.guessDistribution()[2]);
+
+        Map<Long, WordleGame> games = JournalReplay.rebuild(tempDir, DICTIONARY);
+        assertEquals(sessions, games.size());
+        assertTrue(games.get(0L).isWordGuessed());
+        assertFalse(games.get(1L).isGameOver());
+        assertEquals(WordleGame.MAX_ATTEMPTS - 1, games.get(1L).getAttemptsRemaining());
+        assertEquals(List.of("банан"), games.get(1L).getGuessedWords());
+    }
+
+    @Test
+    public void testClosedJournalRejectsAppends() throws Exception {
+        GameJournal journal = new GameJournal(tempDir);
+        journal.close();
+        assertThrows(IllegalStateException.class,
+                () -> journal.append(new JournalRecord(1, 0, JournalRecord.Type.HINT, 0, 0, -1)));
+        assertThrows(IllegalArgumentException.class, () -> new GameJournal(tempDir, 100, 0));
+    }
+}
@@ -0,0 +1,149 @@
+package ru.yandex.practicum.load;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.session.GameSessionManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadGeneratorTest {
+
+    private static final WordleDictionary DICTIONARY = new WordleDictionary(
+            List.of("герой", "горка", "банан", "пчела", "слово", "книга", "месть", "парус", "сокол", "ручка"),
+            WordleLogger.NONE);
+
+    @Test
+    public void testDirectLoadPlaysGames() throws InterruptedException {
+        LoadReport report = new LoadGenerator<>(GameFrontEnd.direct(DICTIONARY), DICTIONARY,
+                20, 2000, 0.2, 7).run(300, TimeUnit.MILLISECONDS);
+
+        assertEquals(0, report.errors());
+        assertTrue(report.checkWordLatency().getCount() > 0);
+        assertTrue(report.hintLatency().getCount() > 0);
+        assertTrue(report.games() > 0);
+        assertTrue(report.gcPauseMillis() >= 0);
+        assertTrue(report.format().contains("checkWord"));
+    }
+
+    @Test
+    public void testSessionsAreRemovedAfterRun() throws InterruptedException {
+        try (GameSessionManager manager = new GameSessionManager(DICTIONARY, WordleLogger.NONE,
+                1, TimeUnit.MINUTES, 1000)) {
+            LoadReport report = new LoadGenerator<>(GameFrontEnd.sessions(manager), DICTIONARY,
+                    10, 1000, 0.1, 3).run(200, TimeUnit.MILLISECONDS);
+
+            assertEquals(0, report.errors());
+            assertTrue(report.requests() > 0);
+            assertEquals(0, manager.size());
+        }
+    }
+
+    @Test
+    public void testStallIsChargedToDelayedRequests() throws InterruptedException {
+        // Один игрок раз в 10 мс, ответ за 1 мс; единственная остановка на 200 мс задерживает
+        // ещё 21 запрос, пока расписание не наверстает отставание
+        VirtualTime time = new VirtualTime();
+        AtomicBoolean stalled = new AtomicBoolean();
+        GameFrontEnd<Object> stalling = new GameFrontEnd<>() {
+            @Override
+            public Object newGame() {
+                return new Object();
+            }
+
+            @Override
+            public String checkWord(Object game, String word) {
+                time.advance(TimeUnit.MILLISECONDS.toNanos(stalled.compareAndSet(false, true) ? 200 : 1));
+                return "-----";
+            }
+
+            @Override
+            public String getHint(Object game) {
+                return null;
+            }
+
+            @Override
+            public void endGame(Object game) {
+            }
+        };
+
+        LoadReport report = new LoadGenerator<>(stalling, DICTIONARY, 1, 100, 0, 1, time)
+                .run(500, TimeUnit.MILLISECONDS);
+
+        assertEquals(50, report.requests());
+        // Замкнутый цикл увидел бы одну медленную операцию из 50, здесь медленных 22
+        assertTrue(report.checkWordLatency().getPercentile(0.6) >= TimeUnit.MILLISECONDS.toNanos(10),
+                () -> report.format());
+        assertTrue(report.checkWordService().getPercentile(0.9) < TimeUnit.MILLISECONDS.toNanos(2),
+                () -> report.format());
+        assertTrue(report.checkWordLatency().getMax() >= TimeUnit.MILLISECONDS.toNanos(190),
+                () -> report.format());
+    }
+
+    @Test
+    public void testWarmupIsNotRecorded() throws InterruptedException {
+        VirtualTime time = new VirtualTime();
+        LoadReport report = new LoadGenerator<>(GameFrontEnd.direct(DICTIONARY), DICTIONARY,
+                1, 100, 0, 5, time).run(300, 200, TimeUnit.MILLISECONDS);
+
+        // 100 запросов в секунду: 30 за прогрев не учтены, учтены 20 запланированных на 300..490 мс
+        assertEquals(20, report.requests(), () -> report.format());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(190), report.elapsedNanos());
+    }
+
+    @Test
+    public void testLatencyIncludesServiceTime() throws InterruptedException {
+        LoadReport report = new LoadGenerator<>(GameFrontEnd.direct(DICTIONARY), DICTIONARY,
+                4, 400, 0, 9).run(200, TimeUnit.MILLISECONDS);
+
+        // Задержка считается от запланированного момента, поэтому не меньше времени обслуживания
+        assertEquals(report.checkWordLatency().getCount(), report.checkWordService().getCount());
+        assertTrue(report.checkWordLatency().getMax() >= report.checkWordService().getMax(), () -> report.format());
+    }
+
+    @Test
+    public void testPauseClassification() {
+        assertTrue(GcPauseMonitor.isPause("G1 Young Generation", "end of minor GC"));
+        assertTrue(GcPauseMonitor.isPause("G1 Concurrent GC", "end of concurrent GC pause"));
+        assertTrue(GcPauseMonitor.isPause("ZGC Pauses", "end of GC pause"));
+        assertFalse(GcPauseMonitor.isPause("ZGC Cycles", "end of GC cycle"));
+    }
+
+    @Test
+    public void testRejectsBadSettings() {
+        GameFrontEnd<?> direct = GameFrontEnd.direct(DICTIONARY);
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoadGenerator<>(direct, DICTIONARY, 0, 100, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoadGenerator<>(direct, DICTIONARY, 1, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoadGenerator<>(direct, DICTIONARY, 1, 100, 1.5, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoadGenerator<>(direct, DICTIONARY, 1, 100, 0, 1).run(-1, 1, TimeUnit.SECONDS));
+    }
+
+    // Виртуальное время: ожидание мгновенно переводит часы, время обслуживания задаёт движок
+    private static final class VirtualTime implements LoadGenerator.TimeSource {
+        private final AtomicLong now = new AtomicLong();
+
+        @Override
+        public long nanoTime() {
+            return now.get();
+        }
+
+        @Override
+        public boolean sleepUntil(long deadline) {
+            now.accumulateAndGet(deadline, Math::max);
+            return true;
+        }
+
+        void advance(long nanos) {
+            now.addAndGet(nanos);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package ru.yandex.practicum.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordleLoggerTest {
+
+    @Test
+    public void testLevelFilteringAndPrefix() {
+        List<String> lines = new ArrayList<>();
+        WordleLogger log = new WordleLogger(lines::add, LogLevel.INFO).forComponent("Test");
+
+        log.debug("скрыто");
+        log.info("видно");
+        log.warn("предупреждение");
+
+        assertEquals(List.of("[Test] видно", "[Test] предупреждение"), lines);
+        assertFalse(log.isDebugEnabled());
+        assertTrue(log.withLevel(LogLevel.DEBUG).isDebugEnabled());
+        assertFalse(log.withLevel(LogLevel.OFF).isEnabled(LogLevel.ERROR));
+    }
+
+    @Test
+    public void testGameLevelDefaultsToWarn() {
+        String previous = System.getProperty(WordleLogger.GAME_LEVEL_PROPERTY);
+        try {
+            System.clearProperty(WordleLogger.GAME_LEVEL_PROPERTY);
+            assertEquals(LogLevel.WARN, WordleLogger.defaultGameLevel());
+
+            System.setProperty(WordleLogger.GAME_LEVEL_PROPERTY, "debug");
+            assertEquals(LogLevel.DEBUG, WordleLogger.defaultGameLevel());
+
+            System.setProperty(WordleLogger.GAME_LEVEL_PROPERTY, "громко");
+            assertEquals(LogLevel.WARN, WordleLogger.defaultGameLevel());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(WordleLogger.GAME_LEVEL_PROPERTY);
+            } else {
+                System.setProperty(WordleLogger.GAME_LEVEL_PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    public void testDisabledSupplierIsNotEvaluated() {
+        WordleLogger log = new WordleLogger(line -> fail("Строка не должна записываться"), LogLevel.INFO);
+
+        log.debug(() -> {
+            fail("Сообщение не должно строиться");
+            return "";
+        });
+        WordleLogger.NONE.info(() -> {
+            fail("Сообщение не должно строиться");
+            return "";
+        });
+    }
+
+    @Test
+    public void testWriterSinkDoesNotFlushPerLine() {
+        StringWriter target = new StringWriter();
+        PrintWriter writer = new PrintWriter(new java.io.BufferedWriter(target, 1024));
+        WordleLogger log = WordleLogger.of(writer);
+
+        log.info("строка");
+        assertEquals("", target.toString());
+
+        log.flush();
+        assertEquals("строка" + System.lineSeparator(), target.toString());
+    }
+
+    @Test
+    public void testAsyncSinkWritesAllLinesInOrder() throws IOException {
+        StringWriter target = new StringWriter();
+        try (AsyncLogSink sink = new AsyncLogSink(target, 16, AsyncLogSink.OverflowPolicy.BLOCK)) {
+            WordleLogger log = new WordleLogger(sink, LogLevel.INFO);
+            for (int i = 0; i < 1000; i++) {
+                log.info("строка " + i);
+            }
+        }
+
+        String[] lines = target.toString().split(System.lineSeparator());
+        assertEquals(1000, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals("строка " + i, lines[i]);
+        }
+    }
+
+    @Test
+    public void testAsyncSinkDropsWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter target = new StringWriter();
+        Writer slowWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                target.write(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        AsyncLogSink sink = new AsyncLogSink(slowWriter, 4, AsyncLogSink.OverflowPolicy.DROP);
+        for (int i = 0; i < 100; i++) {
+            sink.write("строка " + i);
+        }
+        assertTrue(sink.getDroppedCount() > 0);
+
+        release.countDown();
+        sink.close();
+        assertTrue(target.toString().contains("строка 0"));
+    }
+
+    @Test
+    public void testAsyncSinkFlushWaitsForWorker() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        StringWriter target = new StringWriter();
+        Writer slowWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                started.countDown();
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                synchronized (target) {
+                    target.write(buffer, offset, length);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (AsyncLogSink sink = new AsyncLogSink(slowWriter, 64, AsyncLogSink.OverflowPolicy.BLOCK)) {
+            for (int i = 0; i < 20; i++) {
+                sink.write("строка " + i);
+            }
+            started.await();
+            sink.flush();
+
+            synchronized (target) {
+                assertEquals(20, target.toString().split(System.lineSeparator()).length);
+            }
+        }
+    }
+
+    @Test
+    public void testAsyncSinkAccountsForLinesWrittenDuringClose() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            StringWriter target = new StringWriter();
+            AsyncLogSink sink = new AsyncLogSink(target, 1024, AsyncLogSink.OverflowPolicy.DROP);
+            int threads = 4;
+            int perThread = 2000;
+            CountDownLatch ready = new CountDownLatch(threads);
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread writer = new Thread(() -> {
+                    ready.countDown();
+                    for (int i = 0; i < perThread; i++) {
+                        sink.write("строка");
+                    }
+                });
+                writer.start();
+                writers.add(writer);
+            }
+
+            ready.await();
+            sink.close();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+
+            // Каждая строка либо записана, либо учтена как потерянная
+            long written = target.toString().lines().filter(line -> line.equals("строка")).count();
+            assertEquals((long) threads * perThread, written + sink.getDroppedCount());
+        }
+    }
+}
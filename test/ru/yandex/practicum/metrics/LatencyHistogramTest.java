@@ -0,0 +1,87 @@
+package ru.yandex.practicum.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsAreContiguous() {
+        // Каждое значение попадает в корзину, верхняя граница которой не меньше его
+        // и отличается не больше чем на 1/32
+        for (long value = 0; value < 1L << 20; value += 1 + value / 97) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upper >= value, "value=" + value);
+            assertTrue(upper - value <= value / 32, "value=" + value + ", upper=" + upper);
+            assertEquals(index + 1, LatencyHistogram.bucketIndex(upper + 1), "value=" + value);
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000_000L, snapshot.getMax());
+        assertEquals(5_000_500.0, snapshot.getMean(), 1e-6);
+        assertWithin(5_000_000, snapshot.getPercentile(0.50));
+        assertWithin(9_900_000, snapshot.getPercentile(0.99));
+        assertWithin(9_990_000, snapshot.getPercentile(0.999));
+        assertEquals(10_000_000L, snapshot.getPercentile(1.0));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getPercentile(1.5));
+    }
+
+    @Test
+    public void testEmptyAndOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getPercentile(0.99));
+        assertEquals(0.0, histogram.snapshot().getMean());
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getPercentile(0.5));
+        assertEquals(Long.MAX_VALUE, snapshot.getMax());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 8;
+        int perThread = 50_000;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        histogram.record(i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals((long) threads * perThread, histogram.getCount());
+        assertEquals((long) threads * perThread, histogram.snapshot().getCount());
+        assertEquals(perThread - 1, histogram.snapshot().getMax());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32, "ожидалось ~" + expected + ", получено " + actual);
+    }
+}
@@ -0,0 +1,67 @@
+package ru.yandex.practicum.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void testMetricsAreCreatedOnce() {
+        MetricsRegistry registry = new MetricsRegistry();
+        assertSame(registry.counter("a"), registry.counter("a"));
+        assertSame(registry.gauge("b"), registry.gauge("b"));
+        assertSame(registry.histogram("c"), registry.histogram("c"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter(" "));
+    }
+
+    @Test
+    public void testFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("game.started").add(3);
+        registry.gauge("dictionary.size").set(4143);
+        registry.histogram("game.checkWord").record(2_000);
+
+        String text = registry.format();
+        assertTrue(text.contains("game.started = 3"));
+        assertTrue(text.contains("dictionary.size = 4143"));
+        assertTrue(text.contains("game.checkWord: count=1 mean=2.0us p50=2.0us"), text);
+    }
+
+    @Test
+    public void testMBeanAttributes() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("game.started").increment();
+        registry.gauge("dictionary.size").set(10);
+        registry.histogram("game.getHint").record(1_000);
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        registry.registerMBean(server, MetricsRegistry.OBJECT_NAME);
+        // Повторная регистрация не считается ошибкой
+        registry.registerMBean(server, MetricsRegistry.OBJECT_NAME);
+        ObjectName name = new ObjectName(MetricsRegistry.OBJECT_NAME);
+
+        assertEquals(1L, server.getAttribute(name, "game.started"));
+        assertEquals(10L, server.getAttribute(name, "dictionary.size"));
+        assertEquals(1L, server.getAttribute(name, "game.getHint.count"));
+        assertEquals(1_000L, server.getAttribute(name, "game.getHint.p99"));
+        assertThrows(AttributeNotFoundException.class, () -> server.getAttribute(name, "game.getHint.p42"));
+
+        // Метрика, созданная после регистрации, сразу видна в описании
+        registry.counter("game.finished");
+        Set<String> attributes = Arrays.stream(server.getMBeanInfo(name).getAttributes())
+                .map(MBeanAttributeInfo::getName)
+                .collect(Collectors.toSet());
+        assertTrue(attributes.containsAll(Set.of("game.started", "game.finished", "dictionary.size",
+                "game.getHint.mean", "game.getHint.p999", "game.getHint.max")));
+    }
+}
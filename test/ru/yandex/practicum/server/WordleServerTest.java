@@ -0,0 +1,205 @@
+package ru.yandex.practicum.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.journal.GameJournal;
+import ru.yandex.practicum.journal.JournalReplay;
+import ru.yandex.practicum.log.WordleLogger;
+import ru.yandex.practicum.session.GameSessionManager;
+import ru.yandex.practicum.session.SessionStore;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordleServerTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private WordleServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // Единственное слово-ответ и несколько допустимых попыток
+        WordleDictionary dictionary = new WordleDictionary(List.of("герой"), WordleLogger.NONE);
+        server = new WordleServer(dictionary, WordleLogger.NONE);
+        server.start(0);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void testGameLifecycle() throws Exception {
+        HttpResponse<String> created = send("POST", "/games", "");
+        assertEquals(201, created.statusCode());
+        String id = Json.readString(created.body(), "id");
+        assertNotNull(id);
+        assertTrue(created.body().contains("\"attemptsRemaining\":6"));
+
+        HttpResponse<String> guess = send("POST", "/games/" + id + "/guesses", "{\"word\": \"ГЕРОЙ\"}");
+        assertEquals(200, guess.statusCode());
+        assertEquals("+++++", Json.readString(guess.body(), "feedback"));
+        assertEquals("герой", Json.readString(guess.body(), "answer"));
+        assertTrue(guess.body().contains("\"gameOver\":true"));
+
+        HttpResponse<String> state = send("GET", "/games/" + id, null);
+        assertEquals(200, state.statusCode());
+        assertTrue(state.body().contains("\"guessed\":true"));
+
+        assertEquals(409, send("POST", "/games/" + id + "/guesses", "{\"word\":\"герой\"}").statusCode());
+
+        assertEquals(200, send("DELETE", "/games/" + id, null).statusCode());
+        assertEquals(404, send("GET", "/games/" + id, null).statusCode());
+    }
+
+    @Test
+    public void testInvalidRequests() throws Exception {
+        String id = Json.readString(send("POST", "/games", "").body(), "id");
+
+        HttpResponse<String> unknownWord = send("POST", "/games/" + id + "/guesses", "{\"word\":\"банан\"}");
+        assertEquals(400, unknownWord.statusCode());
+        assertNotNull(Json.readString(unknownWord.body(), "error"));
+
+        assertEquals(400, send("POST", "/games/" + id + "/guesses", "{}").statusCode());
+        assertEquals(400, send("POST", "/games/" + id + "/guesses", "{\"word\":\"abc\"}").statusCode());
+        assertEquals(404, send("GET", "/games/нет-такой/hint", null).statusCode());
+        assertEquals(405, send("PUT", "/games", "").statusCode());
+
+        // Неудачные попытки не расходуют ходы
+        assertTrue(send("GET", "/games/" + id, null).body().contains("\"attemptsRemaining\":6"));
+    }
+
+    @Test
+    public void testRankedHints() throws Exception {
+        String id = Json.readString(send("POST", "/games", "").body(), "id");
+
+        // В словаре одно слово, и оно же ответ: показывать нечего
+        HttpResponse<String> hints = send("GET", "/games/" + id + "/hint?top=5&by=expected", null);
+        assertEquals(200, hints.statusCode());
+        assertTrue(hints.body().contains("\"hints\":[]"), hints.body());
+
+        assertEquals(400, send("GET", "/games/" + id + "/hint?top=0", null).statusCode());
+        assertEquals(400, send("GET", "/games/" + id + "/hint?by=random", null).statusCode());
+        assertEquals(400, send("GET", "/games/" + id + "/hint?limit=3", null).statusCode());
+    }
+
+    @Test
+    public void testHardModeGame() throws Exception {
+        HttpResponse<String> created = send("POST", "/games?mode=hard", "");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"hardMode\":true"), created.body());
+        assertTrue(send("POST", "/games", "").body().contains("\"hardMode\":false"));
+        assertEquals(400, send("POST", "/games?mode=expert", "").statusCode());
+    }
+
+    @Test
+    public void testGamesAreJournaled() throws Exception {
+        WordleDictionary dictionary = new WordleDictionary(List.of("герой"), WordleLogger.NONE);
+        WordleServer journaled;
+        try (GameJournal journal = new GameJournal(tempDir)) {
+            journaled = new WordleServer(dictionary, WordleLogger.NONE, journal);
+            journaled.start(0);
+            try {
+                server.stop();
+                server = journaled;
+                String id = Json.readString(send("POST", "/games", "").body(), "id");
+                send("POST", "/games/" + id + "/guesses", "{\"word\":\"герой\"}");
+            } finally {
+                journaled.stop();
+            }
+        }
+
+        JournalReplay.Statistics stats = JournalReplay.statistics(tempDir);
+        assertEquals(1, stats.gamesStarted());
+        assertEquals(1, stats.guessDistribution()[1]);
+    }
+
+    @Test
+    public void testResumedGamesStayJournaled() throws Exception {
+        WordleDictionary dictionary = new WordleDictionary(List.of("герой"), WordleLogger.NONE);
+        WordleServer journaled;
+        try (SessionStore store = new SessionStore(tempDir.resolve("sessions.bin"));
+             GameSessionManager sessions = new GameSessionManager(dictionary, WordleLogger.NONE, 30,
+                     TimeUnit.MINUTES, 1, store);
+             GameJournal journal = new GameJournal(tempDir.resolve("journal"))) {
+            journaled = new WordleServer(sessions, WordleLogger.NONE, journal);
+            journaled.start(0);
+            try {
+                server.stop();
+                server = journaled;
+                String first = Json.readString(send("POST", "/games", "").body(), "id");
+                // Вторая партия выселяет первую в хранилище
+                send("POST", "/games", "");
+                assertTrue(store.contains(GameSessionManager.parseId(first)));
+
+                send("POST", "/games/" + first + "/guesses", "{\"word\":\"герой\"}");
+                assertFalse(store.contains(GameSessionManager.parseId(first)));
+            } finally {
+                journaled.stop();
+            }
+        }
+
+        JournalReplay.Statistics stats = JournalReplay.statistics(tempDir.resolve("journal"));
+        assertEquals(2, stats.gamesStarted());
+        assertEquals(1, stats.gamesFinished());
+        assertEquals(1, stats.guessDistribution()[1]);
+    }
+
+    @Test
+    public void testConcurrentSessions() throws Exception {
+        int sessions = 200;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < sessions; i++) {
+                results.add(clients.submit(() -> {
+                    String id = Json.readString(send("POST", "/games", "").body(), "id");
+                    return Json.readString(send("POST", "/games/" + id + "/guesses",
+                            "{\"word\":\"герой\"}").body(), "feedback");
+                }));
+            }
+            for (Future<String> result : results) {
+                assertEquals("+++++", result.get());
+            }
+        }
+        assertEquals(sessions, server.getActiveGameCount());
+    }
+
+    @Test
+    public void testJsonEscaping() {
+        String quoted = Json.quote("a\"b\\c\nd");
+        assertEquals("\"a\\\"b\\\\c\\nd\"", quoted);
+        assertEquals("a\"b\\c\nd", Json.readString("{\"x\":" + quoted + "}", "x"));
+        assertEquals("й", Json.readString("{\"x\": \"\\u0439\"}", "x"));
+        assertNull(Json.readString("{\"y\":\"x\"}", "x"));
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+}
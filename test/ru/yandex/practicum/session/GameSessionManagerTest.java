@@ -0,0 +1,266 @@
+package ru.yandex.practicum.session;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.GameSnapshot;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.exception.SessionNotFoundException;
+import ru.yandex.practicum.log.LogLevel;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSessionManagerTest {
+
+    private static final WordleDictionary DICTIONARY =
+            new WordleDictionary(List.of("герой", "горка", "банан", "пчела", "слово"), WordleLogger.NONE);
+    private static final long IDLE = TimeUnit.SECONDS.toNanos(60);
+
+    @TempDir
+    public Path tempDir;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    private GameSessionManager manager(int maxSessions, SessionStore store) {
+        return new GameSessionManager(DICTIONARY, WordleLogger.NONE, IDLE, maxSessions, store, now::get, false);
+    }
+
+    @Test
+    public void testExecuteRunsActionOnSessionGame() throws Exception {
+        try (GameSessionManager sessions = manager(100, null)) {
+            long id = sessions.register(new WordleGame(DICTIONARY, "герой", WordleLogger.NONE));
+
+            assertEquals("+++++", sessions.execute(id, game -> game.checkWord("герой")));
+            assertTrue(sessions.execute(id, WordleGame::isWordGuessed));
+            assertEquals(id, GameSessionManager.parseId(GameSessionManager.formatId(id)));
+
+            assertTrue(sessions.remove(id));
+            assertFalse(sessions.remove(id));
+            SessionNotFoundException e = assertThrows(SessionNotFoundException.class,
+                    () -> sessions.execute(id, WordleGame::getAttemptsRemaining));
+            assertEquals(id, e.getSessionId());
+        }
+        assertThrows(IllegalArgumentException.class, () -> GameSessionManager.parseId("xyz"));
+    }
+
+    @Test
+    public void testIdleSessionsExpireAndActiveOnesSurvive() throws Exception {
+        try (GameSessionManager sessions = manager(100, null)) {
+            long idle = sessions.create(false);
+            long active = sessions.create(false);
+
+            now.addAndGet(IDLE / 2);
+            sessions.tick();
+            sessions.execute(active, WordleGame::getAttemptsRemaining);
+
+            now.addAndGet(IDLE / 2 + TimeUnit.SECONDS.toNanos(1));
+            sessions.tick();
+            assertFalse(sessions.contains(idle));
+            assertTrue(sessions.contains(active));
+            assertEquals(1, sessions.getExpiredCount());
+
+            now.addAndGet(IDLE);
+            sessions.tick();
+            assertFalse(sessions.contains(active));
+            assertEquals(0, sessions.size());
+        }
+    }
+
+    @Test
+    public void testExpiryAndEvictionLeaveNoDeadEntries() throws Exception {
+        try (GameSessionManager sessions = manager(10_000, null)) {
+            for (int i = 0; i < 1500; i++) {
+                sessions.create(false);
+            }
+            now.addAndGet(IDLE + TimeUnit.SECONDS.toNanos(1));
+            sessions.tick();
+
+            assertEquals(1500, sessions.getExpiredCount());
+            assertEquals(0, sessions.size());
+            assertEquals(0, sessions.getDeadEntryCount());
+        }
+
+        try (GameSessionManager sessions = manager(10, null)) {
+            for (int i = 0; i < 1500; i++) {
+                sessions.create(false);
+            }
+            assertEquals(1490, sessions.getEvictedCount());
+            assertEquals(0, sessions.getDeadEntryCount());
+
+            // Явное удаление оставляет оболочку в корзине до её такта
+            long id = sessions.create(false);
+            sessions.remove(id);
+            assertEquals(1, sessions.getDeadEntryCount());
+            now.addAndGet(IDLE + TimeUnit.SECONDS.toNanos(1));
+            sessions.tick();
+            assertEquals(0, sessions.getDeadEntryCount());
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSessionsAreEvicted() throws Exception {
+        try (GameSessionManager sessions = manager(3, null)) {
+            long[] ids = new long[3];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = sessions.create(false);
+                now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            }
+            // Самой давней становится вторая партия
+            sessions.execute(ids[0], WordleGame::getAttemptsRemaining);
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            long fourth = sessions.create(false);
+            assertEquals(3, sessions.size());
+            assertFalse(sessions.contains(ids[1]));
+            assertTrue(sessions.contains(ids[0]));
+            assertTrue(sessions.contains(ids[2]));
+            assertTrue(sessions.contains(fourth));
+            assertEquals(1, sessions.getEvictedCount());
+        }
+    }
+
+    @Test
+    public void testEvictedSessionsAreParkedAndResumed() throws Exception {
+        try (SessionStore store = new SessionStore(tempDir.resolve("sessions.bin"));
+             GameSessionManager sessions = manager(1, store)) {
+            long first = sessions.register(new WordleGame(DICTIONARY, "пчела", WordleLogger.NONE));
+            sessions.execute(first, game -> game.checkWord("банан"));
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            long second = sessions.create(false);
+            assertEquals(1, store.size());
+            assertTrue(sessions.contains(first));
+
+            // Обращение возвращает отложенную партию, выселяя вторую
+            assertEquals(List.of("банан"), sessions.execute(first, WordleGame::getGuessedWords));
+            assertEquals("+++++", sessions.execute(first, game -> game.checkWord("пчела")));
+            assertTrue(store.contains(second));
+            assertFalse(store.contains(first));
+        }
+    }
+
+    @Test
+    public void testCloseParksUnfinishedGamesForRestart() throws Exception {
+        Path file = tempDir.resolve("sessions.bin");
+        long unfinished;
+        long finished;
+        try (SessionStore store = new SessionStore(file);
+             GameSessionManager sessions = manager(10, store)) {
+            unfinished = sessions.register(new WordleGame(DICTIONARY, "пчела", WordleLogger.NONE));
+            sessions.execute(unfinished, game -> game.checkWord("банан"));
+            finished = sessions.register(new WordleGame(DICTIONARY, "герой", WordleLogger.NONE));
+            sessions.execute(finished, game -> game.checkWord("герой"));
+        }
+
+        // Новый процесс: то же хранилище, пустая память
+        try (SessionStore store = new SessionStore(file);
+             GameSessionManager sessions = manager(10, store)) {
+            assertEquals(1, store.size());
+            assertEquals(List.of("банан"), sessions.execute(unfinished, WordleGame::getGuessedWords));
+            assertEquals("+++++", sessions.execute(unfinished, game -> game.checkWord("пчела")));
+            assertFalse(sessions.contains(finished));
+        }
+    }
+
+    @Test
+    public void testGameThatCannotBeParkedStaysInMemory() throws Exception {
+        WordleGame unparkable = new WordleGame(DICTIONARY, "пчела", WordleLogger.NONE) {
+            @Override
+            public GameSnapshot snapshot() {
+                throw new IllegalStateException("диск заполнен");
+            }
+        };
+        try (SessionStore store = new SessionStore(tempDir.resolve("sessions.bin"));
+             GameSessionManager sessions = manager(1, store)) {
+            long first = sessions.register(unparkable);
+            sessions.execute(first, game -> game.checkWord("банан"));
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            // Старшую партию отложить не удалось: выселяется следующая по сроку
+            long second = sessions.create(false);
+            assertTrue(store.contains(second));
+            assertFalse(store.contains(first));
+            assertEquals(List.of("банан"), sessions.execute(first, WordleGame::getGuessedWords));
+            assertEquals(1, sessions.getEvictedCount());
+        }
+    }
+
+    @Test
+    public void testUnrestorableParkedGameIsNotFound() throws Exception {
+        WordleDictionary other = new WordleDictionary(List.of("герой", "банан", "пчела"), WordleLogger.NONE);
+        try (SessionStore store = new SessionStore(tempDir.resolve("sessions.bin"));
+             GameSessionManager sessions = manager(10, store)) {
+            store.park(42, new WordleGame(other, "пчела", WordleLogger.NONE));
+
+            assertThrows(SessionNotFoundException.class, () -> sessions.execute(42, WordleGame::getAttemptsRemaining));
+            assertTrue(store.contains(42));
+        }
+    }
+
+    @Test
+    public void testMovesWithinSessionAreSerialized() throws Exception {
+        int sessionCount = 50;
+        int threads = 8;
+        try (GameSessionManager sessions = manager(1000, null);
+             ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            long[] ids = new long[sessionCount];
+            for (int i = 0; i < sessionCount; i++) {
+                ids[i] = sessions.register(new WordleGame(DICTIONARY, "герой", WordleLogger.NONE));
+            }
+
+            // Все потоки пытаются сделать одни и те же ходы: каждый ход должен пройти ровно один раз
+            List<Future<Integer>> accepted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                accepted.add(pool.submit(() -> {
+                    int count = 0;
+                    for (long id : ids) {
+                        for (String word : List.of("банан", "слово", "пчела")) {
+                            count += sessions.execute(id, game -> {
+                                if (game.getGuessedWords().contains(word)) return 0;
+                                game.checkWord(word);
+                                return 1;
+                            });
+                        }
+                    }
+                    return count;
+                }));
+            }
+
+            int total = 0;
+            for (Future<Integer> result : accepted) {
+                total += result.get();
+            }
+            assertEquals(sessionCount * 3, total);
+            for (long id : ids) {
+                assertEquals(WordleGame.MAX_ATTEMPTS - 3, sessions.execute(id, WordleGame::getAttemptsRemaining));
+            }
+        }
+    }
+
+    @Test
+    public void testGameLogDefaultsToWarn() throws Exception {
+        List<String> lines = new ArrayList<>();
+        WordleLogger serverLog = new WordleLogger(lines::add, LogLevel.INFO);
+
+        try (GameSessionManager sessions = new GameSessionManager(DICTIONARY, serverLog, IDLE, 4, null,
+                now::get, false)) {
+            long id = sessions.create(false);
+            String answer = sessions.execute(id, WordleGame::getAnswer);
+            sessions.execute(id, game -> game.checkWord("банан"));
+
+            // Ни загаданного слова, ни хода партии в общем логе сервера
+            assertTrue(lines.stream().noneMatch(line -> line.startsWith("[Game]")), lines.toString());
+            assertTrue(lines.stream().noneMatch(line -> line.contains(answer)), lines.toString());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.yandex.practicum.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongIntHashMapTest {
+
+    @Test
+    public void testMatchesHashMapUnderRandomOperations() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 200_000; i++) {
+            // Узкий диапазон ключей: много коллизий, повторных вставок и удалений
+            long key = random.nextLong(5000) * 1024;
+            int value = random.nextInt(1_000_000);
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? LongIntHashMap.MISSING : removed, map.remove(key));
+            } else {
+                Integer previous = expected.put(key, value);
+                assertEquals(previous == null ? LongIntHashMap.MISSING : previous, map.put(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 5000; key++) {
+            Integer value = expected.get(key * 1024);
+            assertEquals(value == null ? LongIntHashMap.MISSING : value, map.get(key * 1024));
+        }
+    }
+
+    @Test
+    public void testNegativeValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(4).put(1, -1));
+    }
+}
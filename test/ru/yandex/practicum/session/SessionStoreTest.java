@@ -0,0 +1,101 @@
+package ru.yandex.practicum.session;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.yandex.practicum.GameSnapshot;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionStoreTest {
+
+    private static final WordleDictionary DICTIONARY =
+            new WordleDictionary(List.of("герой", "горка", "банан", "пчела", "слово"), WordleLogger.NONE);
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testParkAndResume() throws Exception {
+        try (SessionStore store = new SessionStore(tempDir.resolve("sessions.bin"))) {
+            WordleGame game = new WordleGame(DICTIONARY, "пчела", WordleLogger.NONE);
+            game.checkWord("банан");
+            store.park(7, game);
+
+            assertTrue(store.contains(7));
+            assertEquals(game.snapshot(), store.get(7));
+
+            WordleGame resumed = store.resume(7, DICTIONARY, WordleLogger.NONE);
+            assertEquals(List.of("банан"), resumed.getGuessedWords());
+            assertFalse(store.contains(7));
+            assertNull(store.resume(7, DICTIONARY, WordleLogger.NONE));
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    public void testFailedRestoreKeepsParkedGame() throws Exception {
+        WordleDictionary other = new WordleDictionary(List.of("герой", "горка", "банан", "пчела"), WordleLogger.NONE);
+        try (SessionStore store = new SessionStore(tempDir.resolve("sessions.bin"))) {
+            WordleGame game = new WordleGame(DICTIONARY, "пчела", WordleLogger.NONE);
+            game.checkWord("банан");
+            store.park(7, game);
+
+            assertNull(store.resume(7, other, WordleLogger.NONE));
+            assertTrue(store.contains(7));
+
+            assertEquals(List.of("банан"), store.resume(7, DICTIONARY, WordleLogger.NONE).getGuessedWords());
+            assertFalse(store.contains(7));
+        }
+    }
+
+    @Test
+    public void testSessionsSurviveReopenAndSlotsAreReused() throws Exception {
+        Path file = tempDir.resolve("sessions.bin");
+        // Больше одного участка, чтобы проверить рост файла
+        int sessions = SessionStore.CHUNK_SLOTS + 100;
+        GameSnapshot snapshot = new WordleGame(DICTIONARY, "герой", WordleLogger.NONE).snapshot();
+
+        try (SessionStore store = new SessionStore(file)) {
+            for (long id = 0; id < sessions; id++) {
+                store.park(id * 31, snapshot);
+            }
+            for (long id = 0; id < sessions; id += 2) {
+                assertNotNull(store.remove(id * 31));
+            }
+        }
+        long size = Files.size(file);
+
+        try (SessionStore store = new SessionStore(file)) {
+            assertEquals(sessions / 2, store.size());
+            assertNull(store.get(0));
+            assertEquals(snapshot, store.get(31));
+
+            // Новые партии занимают освободившиеся ячейки, файл не растёт
+            for (long id = 0; id < sessions / 2; id++) {
+                store.park(-id - 1, snapshot);
+            }
+            assertEquals(sessions, store.size());
+        }
+        assertEquals(size, Files.size(file));
+    }
+
+    @Test
+    public void testParkReplacesPreviousSnapshot() throws Exception {
+        try (SessionStore store = new SessionStore(tempDir.resolve("sessions.bin"))) {
+            WordleGame game = new WordleGame(DICTIONARY, "слово", WordleLogger.NONE);
+            store.park(1, game);
+            game.checkWord("горка");
+            store.park(1, game);
+
+            assertEquals(1, store.size());
+            assertEquals(1, store.get(1).getGuessCount());
+        }
+    }
+}
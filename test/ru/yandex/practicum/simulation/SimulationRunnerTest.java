@@ -0,0 +1,73 @@
+package ru.yandex.practicum.simulation;
+
+import org.junit.jupiter.api.Test;
+import ru.yandex.practicum.WordleDictionary;
+import ru.yandex.practicum.WordleGame;
+import ru.yandex.practicum.log.WordleLogger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationRunnerTest {
+
+    private final WordleDictionary dictionary = new WordleDictionary(List.of(
+            "банан", "герой", "гонец", "слово", "пчела", "банка", "горох", "горка", "ослик", "полол"
+    ), WordleLogger.NONE);
+
+    @Test
+    public void testEveryWordIsPlayedOnce() {
+        for (GuessStrategy strategy : List.of(new RandomCandidateStrategy(), new FrequencyScoredStrategy())) {
+            SimulationReport report = new SimulationRunner(dictionary, strategy, new ForkJoinPool(2)).runAll();
+
+            assertEquals(dictionary.size(), report.games());
+            assertEquals(report.games(), Arrays.stream(report.guessDistribution()).sum() + report.failures());
+            assertEquals(0, report.guessDistribution()[0]);
+            assertTrue(report.moves() >= report.games());
+            assertTrue(report.moveP50Nanos() <= report.moveP99Nanos());
+            assertTrue(report.gamesPerSecond() > 0);
+            assertTrue(report.format().contains(strategy.getName()));
+        }
+    }
+
+    @Test
+    public void testSampleIsBoundedByDictionary() {
+        SimulationRunner runner = new SimulationRunner(dictionary, new FrequencyScoredStrategy());
+
+        assertEquals(3, runner.runSample(3, 42).games());
+        assertEquals(dictionary.size(), runner.runSample(100, 42).games());
+        assertEquals(0, runner.runSample(0, 42).games());
+    }
+
+    @Test
+    public void testStrategiesOnlyProposeCandidates() throws Exception {
+        WordleGame game = new WordleGame(dictionary, "герой", WordleLogger.NONE);
+        game.checkWord("банан");
+
+        // После "банан" совместимы только слова без букв б, а, н
+        List<String> candidates = List.of("герой", "слово", "горох", "ослик", "полол");
+        assertEquals(candidates.size(), game.getRemainingCandidateCount());
+        for (int i = 0; i < 20; i++) {
+            assertTrue(candidates.contains(new RandomCandidateStrategy().nextGuess(game)));
+        }
+        assertTrue(candidates.contains(new FrequencyScoredStrategy().nextGuess(game)));
+    }
+
+    @Test
+    public void testFailedGameIsCounted() {
+        GuessStrategy giveUp = game -> null;
+        SimulationReport report = new SimulationRunner(dictionary, giveUp).run(List.of("герой", "слово"));
+
+        assertEquals(2, report.failures());
+        assertEquals(1.0, report.failureRate());
+        assertEquals(0, report.moves());
+    }
+
+    @Test
+    public void testUnknownStrategyName() {
+        assertEquals("random", SimulationRunner.strategyByName("random").getName());
+        assertThrows(IllegalArgumentException.class, () -> SimulationRunner.strategyByName("oracle"));
+    }
+}
@@ -0,0 +1,96 @@
+package ru.yandex.practicum;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Подсказки сразу для SPECIES.length() слов. Вместо поиска пары для каждой буквы попытки
+// используется равносильное правило подсчёта: буква L на позиции i, не совпавшая точно,
+// присутствует, если в ответе на позициях, где у попытки не L, букв L больше, чем не совпавших
+// точно букв L попытки левее позиции i. Какие позиции попытки совпадают по букве, известно
+// заранее, поэтому на каждое слово приходится лишь несколько векторных сравнений.
+final class VectorFeedbackKernel implements FeedbackKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LETTER_MASK = WordCodec.ALPHABET_SIZE - 1;
+
+    @Override
+    public void analyze(int guess, int[] secrets, int count, byte[] out) {
+        // other[i] — позиции с буквой, отличной от буквы на позиции i;
+        // before[i] — позиции левее i с той же буквой
+        int[] other = new int[WordleGame.WORD_LENGTH];
+        int[] before = new int[WordleGame.WORD_LENGTH];
+        for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+            for (int j = 0; j < WordleGame.WORD_LENGTH; j++) {
+                if (WordCodec.letterAt(guess, j) != WordCodec.letterAt(guess, i)) {
+                    other[i] |= 1 << j;
+                } else if (j < i) {
+                    before[i] |= 1 << j;
+                }
+            }
+        }
+        int[] codes = new int[SPECIES.length()];
+
+        int bound = SPECIES.loopBound(count);
+        int offset = 0;
+        for (; offset < bound; offset += SPECIES.length()) {
+            IntVector words = IntVector.fromArray(SPECIES, secrets, offset);
+            IntVector s0 = words.and(LETTER_MASK);
+            IntVector s1 = letter(words, 1);
+            IntVector s2 = letter(words, 2);
+            IntVector s3 = letter(words, 3);
+            IntVector s4 = letter(words, 4);
+
+            IntVector code = IntVector.zero(SPECIES);
+            for (int i = 0; i < WordleGame.WORD_LENGTH; i++) {
+                IntVector digit = digit(WordCodec.letterAt(guess, i), i, other[i], before[i], s0, s1, s2, s3, s4);
+                code = code.mul(3).add(digit);
+            }
+
+            code.intoArray(codes, 0);
+            for (int k = 0; k < codes.length; k++) {
+                out[offset + k] = (byte) codes[k];
+            }
+        }
+
+        for (; offset < count; offset++) {
+            out[offset] = (byte) WordleDictionary.analyze(secrets[offset], guess);
+        }
+    }
+
+    private static IntVector letter(IntVector words, int position) {
+        return words.lanewise(VectorOperators.LSHR, WordCodec.BITS_PER_LETTER * position).and(LETTER_MASK);
+    }
+
+    private static IntVector digit(int letter, int position, int other, int before,
+                                   IntVector s0, IntVector s1, IntVector s2, IntVector s3, IntVector s4) {
+        IntVector zero = IntVector.zero(SPECIES);
+
+        // Маска в виде вектора — это -1 в отмеченных дорожках, так что вычитание считает совпадения.
+        // Буквы letter в ответе там, где у попытки другая буква
+        IntVector available = zero;
+        if ((other & 1) != 0) available = available.sub(s0.eq(letter).toVector());
+        if ((other & 2) != 0) available = available.sub(s1.eq(letter).toVector());
+        if ((other & 4) != 0) available = available.sub(s2.eq(letter).toVector());
+        if ((other & 8) != 0) available = available.sub(s3.eq(letter).toVector());
+        if ((other & 16) != 0) available = available.sub(s4.eq(letter).toVector());
+
+        // Такие же буквы попытки левее, не совпавшие точно
+        IntVector claimed = zero;
+        if ((before & 1) != 0) claimed = claimed.sub(s0.eq(letter).not().toVector());
+        if ((before & 2) != 0) claimed = claimed.sub(s1.eq(letter).not().toVector());
+        if ((before & 4) != 0) claimed = claimed.sub(s2.eq(letter).not().toVector());
+        if ((before & 8) != 0) claimed = claimed.sub(s3.eq(letter).not().toVector());
+
+        IntVector own = switch (position) {
+            case 0 -> s0;
+            case 1 -> s1;
+            case 2 -> s2;
+            case 3 -> s3;
+            default -> s4;
+        };
+        VectorMask<Integer> correct = own.eq(letter);
+        VectorMask<Integer> present = available.compare(VectorOperators.GT, claimed).andNot(correct);
+        return zero.blend(Feedback.PRESENT, present).blend(Feedback.CORRECT, correct);
+    }
+}